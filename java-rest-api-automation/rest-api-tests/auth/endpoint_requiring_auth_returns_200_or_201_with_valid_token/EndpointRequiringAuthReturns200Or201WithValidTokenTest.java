@@ -2,7 +2,6 @@ package auth.endpoint_requiring_auth_returns_200_or_201_with_valid_token;
 
 import api.BaseApiTest;
 import api.config.ApiConfig;
-import io.restassured.http.Header;
 import io.restassured.response.ValidatableResponse;
 import org.junit.jupiter.api.Assumptions;
 import org.junit.jupiter.api.DisplayName;
@@ -24,11 +23,6 @@ class EndpointRequiringAuthReturns200Or201WithValidTokenTest extends BaseApiTest
     public static final String TEST_CASE_SPEC_PATH =
             "rest-api-tests/auth/endpoint_requiring_auth_returns_200_or_201_with_valid_token/TEST_CASE.md";
 
-    /** HTTP header name for authorization (Bearer token). */
-    private static final String AUTH_HEADER_NAME = "Authorization";
-    /** Prefix required by most APIs for Bearer token in the Authorization header. */
-    private static final String BEARER_PREFIX = "Bearer ";
-
     @Test
     @DisplayName("GET protected endpoint with valid token returns success and data")
     void endpointRequiringAuth_withValidToken_returns200Or201AndData() {
@@ -41,12 +35,10 @@ class EndpointRequiringAuthReturns200Or201WithValidTokenTest extends BaseApiTest
         String path = ApiConfig.getProtectedEndpoint()
                 .map(p -> p.startsWith("/") ? p : "/" + p)
                 .orElse("/api/protected/resource");
-        Header authHeader = new Header(AUTH_HEADER_NAME, BEARER_PREFIX + ApiConfig.getAuthToken().orElseThrow());
 
         // Send GET to protected endpoint with valid Bearer token
         ValidatableResponse response = given()
-                .spec(baseSpec)
-                .header(authHeader)
+                .spec(authSpec)
                 .when()
                 .get(path)
                 .then();
@@ -0,0 +1,83 @@
+package caching.cache_control_directives_are_valid;
+
+import api.BaseApiTest;
+import api.config.ApiConfig;
+import api.http.AsyncApiClient;
+import io.restassured.response.Response;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Verifies Cache-Control on the list endpoint: present on anonymous and authenticated GETs, every
+ * max-age / s-maxage is a non-negative number, and "public" never appears together with "private"
+ * or "no-store". A response to an authenticated request must not be shareable (no "public" without
+ * "no-cache" or "must-revalidate", which force a caching proxy to check with the origin first).
+ * The anonymous and authenticated GETs are independent and sent concurrently on the async client.
+ */
+@DisplayName("Cache-Control directives are present and valid")
+class CacheControlDirectivesAreValidTest extends BaseApiTest {
+
+    /** Path to the test case specification (relative to project root). Used for traceability. */
+    public static final String TEST_CASE_SPEC_PATH =
+            "rest-api-tests/caching/cache_control_directives_are_valid/TEST_CASE.md";
+
+    @Test
+    @DisplayName("GET list sends consistent Cache-Control; authenticated responses are not shared")
+    void cacheControl_isPresentAndValid() {
+        Assumptions.assumeTrue(ApiConfig.getBaseUrl().isPresent(), "BASE_URL must be set");
+        Assumptions.assumeTrue(ApiConfig.getProtectedEndpoint().isPresent(), "PROTECTED_ENDPOINT (list) must be set");
+        Assumptions.assumeTrue(ApiConfig.getAuthToken().isPresent(), "AUTH_TOKEN required");
+
+        String path = ApiConfig.getProtectedEndpoint()
+                .map(p -> p.startsWith("/") ? p : "/" + p)
+                .orElseThrow();
+
+        CompletableFuture<Response> anonymousGet = asyncClient.get(path);
+        CompletableFuture<Response> authenticatedGet = asyncAuthClient.get(path);
+
+        Response anonymous = AsyncApiClient.await(anonymousGet);
+        if (anonymous.getStatusCode() == 200) {
+            directives("anonymous GET", anonymous);
+        }
+
+        Response authenticated = AsyncApiClient.await(authenticatedGet).then().statusCode(200).extract().response();
+        Map<String, String> directives = directives("authenticated GET", authenticated);
+        boolean revalidated = directives.containsKey("no-cache") || directives.containsKey("must-revalidate");
+        assertTrue(!directives.containsKey("public") || revalidated,
+                "Authenticated response must not be stored by shared caches without revalidation, got " + directives);
+    }
+
+    /** Parses and checks Cache-Control; directive names are lower-cased, values unquoted. */
+    private static Map<String, String> directives(String label, Response response) {
+        String header = response.header("Cache-Control");
+        assertNotNull(header, label + " must send Cache-Control");
+        Map<String, String> directives = Arrays.stream(header.split(","))
+                .map(String::trim)
+                .filter(d -> !d.isEmpty())
+                .map(d -> d.split("=", 2))
+                .collect(Collectors.toMap(d -> d[0].toLowerCase(Locale.ROOT),
+                        d -> d.length > 1 ? d[1].replace("\"", "") : "", (a, b) -> b));
+        for (String age : new String[] {"max-age", "s-maxage"}) {
+            if (directives.containsKey(age)) {
+                assertTrue(directives.get(age).matches("\\d+"),
+                        label + ": " + age + " must be a non-negative number, got " + header);
+            }
+        }
+        if (directives.containsKey("public")) {
+            assertFalse(directives.containsKey("private"), label + ": public and private contradict, got " + header);
+            assertFalse(directives.containsKey("no-store"), label + ": public and no-store contradict, got " + header);
+        }
+        return directives;
+    }
+}
@@ -0,0 +1,86 @@
+package caching.conditional_get_saves_bandwidth;
+
+import api.BaseApiTest;
+import api.config.ApiConfig;
+import api.fixtures.FixturePool;
+import io.restassured.http.Header;
+import io.restassured.response.Response;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+import org.junit.jupiter.api.parallel.Isolated;
+
+import java.nio.charset.StandardCharsets;
+import java.util.function.Supplier;
+
+import static io.restassured.RestAssured.given;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Measures what revalidation saves: {@value #SAMPLES} unconditional GETs of the list against
+ * {@value #SAMPLES} GETs with If-None-Match. Transferred bytes (body plus header lines) and mean
+ * latency of both are published through the TestReporter; the conditional fetches must all be 304
+ * and transfer fewer bytes in total. Latency is reported, not asserted: on a fast local server the
+ * difference is within noise. Runs isolated, after fixture seeding has finished, so users created by
+ * parallel tests cannot change the list between requests. Skipped when the API sends no ETag on the list.
+ */
+@Isolated
+@DisplayName("Conditional GET saves bandwidth")
+class ConditionalGetSavesBandwidthTest extends BaseApiTest {
+
+    /** Path to the test case specification (relative to project root). Used for traceability. */
+    public static final String TEST_CASE_SPEC_PATH =
+            "rest-api-tests/caching/conditional_get_saves_bandwidth/TEST_CASE.md";
+
+    private static final int SAMPLES = 10;
+
+    @Test
+    @DisplayName("N conditional list GETs return 304 and transfer fewer bytes than N full GETs")
+    void conditionalGet_transfersFewerBytes(TestReporter reporter) {
+        Assumptions.assumeTrue(ApiConfig.getBaseUrl().isPresent(), "BASE_URL must be set");
+        Assumptions.assumeTrue(ApiConfig.getProtectedEndpoint().isPresent(), "PROTECTED_ENDPOINT (list) must be set");
+
+        String path = ApiConfig.getProtectedEndpoint()
+                .map(p -> p.startsWith("/") ? p : "/" + p)
+                .orElseThrow();
+        FixturePool.current().ifPresent(FixturePool::awaitSeeding);
+
+        String etag = given().spec(authSpec).when().get(path).then().statusCode(200).extract().header("ETag");
+        Assumptions.assumeTrue(etag != null && !etag.isBlank(), "API must send an ETag on the list");
+
+        Sample full = measure(200, () -> given().spec(authSpec).when().get(path));
+        Sample conditional = measure(304, () -> given().spec(authSpec).header("If-None-Match", etag).when().get(path));
+
+        String summary = String.format("%s x%d: unconditional %d bytes, %.1f ms mean; conditional %d bytes, %.1f ms mean",
+                path, SAMPLES, full.bytes, full.meanMillis(), conditional.bytes, conditional.meanMillis());
+        reporter.publishEntry("conditionalGet", summary);
+        assertTrue(conditional.bytes < full.bytes,
+                "Conditional GETs must transfer fewer bytes than full GETs: " + summary);
+    }
+
+    private static Sample measure(int expectedStatus, Supplier<Response> request) {
+        Sample sample = new Sample();
+        for (int i = 0; i < SAMPLES; i++) {
+            long start = System.nanoTime();
+            Response response = request.get();
+            sample.nanos += System.nanoTime() - start;
+            assertEquals(expectedStatus, response.getStatusCode(), "Unexpected status for sample " + i);
+            sample.bytes += response.asByteArray().length;
+            for (Header header : response.getHeaders()) {
+                sample.bytes += (header.getName() + ": " + header.getValue() + "\r\n").getBytes(StandardCharsets.UTF_8).length;
+            }
+        }
+        return sample;
+    }
+
+    private static final class Sample {
+        long bytes;
+        long nanos;
+
+        double meanMillis() {
+            return nanos / 1_000_000.0 / SAMPLES;
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package caching.get_single_and_list_include_validators;
+
+import api.BaseApiTest;
+import api.config.ApiConfig;
+import api.fixtures.Fixture;
+import api.fixtures.FixturePool;
+import io.restassured.response.Response;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.Isolated;
+
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+
+import static io.restassured.RestAssured.given;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * Verifies that GET of the list and GET by ID both carry cache validators: a quoted (optionally
+ * weak) ETag and a Last-Modified in HTTP-date (RFC 1123) form. Two GETs of an unchanged resource
+ * must return the same ETag, otherwise conditional requests can never match. Runs isolated, after
+ * fixture seeding has finished: the first page of the list changes whenever another test creates a user.
+ */
+@Isolated
+@DisplayName("GET single and list include cache validators")
+class GetSingleAndListIncludeValidatorsTest extends BaseApiTest {
+
+    /** Path to the test case specification (relative to project root). Used for traceability. */
+    public static final String TEST_CASE_SPEC_PATH =
+            "rest-api-tests/caching/get_single_and_list_include_validators/TEST_CASE.md";
+
+    @Test
+    @DisplayName("GET list and GET by ID return a stable ETag and a valid Last-Modified")
+    void getSingleAndList_includeValidators() {
+        Assumptions.assumeTrue(ApiConfig.getBaseUrl().isPresent(), "BASE_URL must be set");
+        Assumptions.assumeTrue(ApiConfig.getProtectedEndpoint().isPresent(), "PROTECTED_ENDPOINT (list) must be set");
+
+        Fixture fixture = FixturePool.checkout().orElse(null);
+        Assumptions.assumeTrue(fixture != null, "Fixture resource must be available (create must succeed)");
+        String listPath = ApiConfig.getProtectedEndpoint()
+                .map(p -> p.startsWith("/") ? p : "/" + p)
+                .orElseThrow();
+
+        FixturePool.current().ifPresent(FixturePool::awaitSeeding);
+
+        for (String path : new String[] {listPath, fixture.getPath()}) {
+            Response first = given().spec(authSpec).when().get(path).then().statusCode(200).extract().response();
+            String etag = first.header("ETag");
+            assertNotNull(etag, "GET " + path + " must send an ETag");
+            assertTrue(etag.matches("(W/)?\"[^\"]*\""), "ETag must be a quoted entity tag, got " + etag);
+            assertHttpDate(path, first.header("Last-Modified"));
+
+            Response second = given().spec(authSpec).when().get(path).then().statusCode(200).extract().response();
+            assertEquals(etag, second.header("ETag"), "ETag of unchanged " + path + " must be stable");
+        }
+    }
+
+    private static void assertHttpDate(String path, String lastModified) {
+        assertNotNull(lastModified, "GET " + path + " must send Last-Modified");
+        try {
+            ZonedDateTime.parse(lastModified, DateTimeFormatter.RFC_1123_DATE_TIME);
+        } catch (DateTimeParseException e) {
+            fail("Last-Modified of " + path + " must be an HTTP-date, got " + lastModified);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package caching.if_modified_since_returns_304_when_unchanged;
+
+import api.BaseApiTest;
+import api.config.ApiConfig;
+import api.fixtures.Fixture;
+import api.fixtures.FixturePool;
+import io.restassured.response.Response;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+
+import static io.restassured.RestAssured.given;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+/**
+ * Verifies date-based revalidation: a GET by ID with If-Modified-Since set to the resource's own
+ * Last-Modified returns 304 with no body, while a date well before it returns 200 with the full
+ * representation. Skipped when the API sends no Last-Modified.
+ */
+@DisplayName("If-Modified-Since returns 304 when unchanged")
+class IfModifiedSinceReturns304WhenUnchangedTest extends BaseApiTest {
+
+    /** Path to the test case specification (relative to project root). Used for traceability. */
+    public static final String TEST_CASE_SPEC_PATH =
+            "rest-api-tests/caching/if_modified_since_returns_304_when_unchanged/TEST_CASE.md";
+
+    @Test
+    @DisplayName("GET with If-Modified-Since = Last-Modified returns 304; an older date returns 200")
+    void ifModifiedSince_returns304WhenUnchanged() {
+        Assumptions.assumeTrue(ApiConfig.getBaseUrl().isPresent(), "BASE_URL must be set");
+        Assumptions.assumeTrue(ApiConfig.getCreateEndpoint().isPresent(), "CREATE_ENDPOINT or PROTECTED_ENDPOINT must be set");
+
+        Fixture fixture = FixturePool.checkout().orElse(null);
+        Assumptions.assumeTrue(fixture != null, "Fixture resource must be available (create must succeed)");
+        String path = fixture.getPath();
+
+        String lastModified = given().spec(authSpec).when().get(path).then().statusCode(200).extract().header("Last-Modified");
+        Assumptions.assumeTrue(lastModified != null && !lastModified.isBlank(), "API must send Last-Modified on GET by ID");
+
+        Response notModified = given().spec(authSpec).header("If-Modified-Since", lastModified).when().get(path)
+                .then().statusCode(304).extract().response();
+        assertEquals(0, notModified.asByteArray().length, "304 must not carry a body");
+
+        String earlier = DateTimeFormatter.RFC_1123_DATE_TIME.format(
+                ZonedDateTime.parse(lastModified, DateTimeFormatter.RFC_1123_DATE_TIME).minusDays(1));
+        Response modified = given().spec(authSpec).header("If-Modified-Since", earlier).when().get(path)
+                .then().statusCode(200).extract().response();
+        assertNotNull(modified.jsonPath().get("id"), "200 must carry the full representation");
+    }
+}
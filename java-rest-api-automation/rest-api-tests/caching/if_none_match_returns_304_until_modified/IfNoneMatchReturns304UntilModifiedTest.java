@@ -0,0 +1,61 @@
+package caching.if_none_match_returns_304_until_modified;
+
+import api.BaseApiTest;
+import api.config.ApiConfig;
+import api.fixtures.Fixture;
+import api.fixtures.FixturePool;
+import io.restassured.response.Response;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.anyOf;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+/**
+ * Verifies revalidation with If-None-Match: while the resource is unchanged a conditional GET with
+ * its ETag returns 304 with no body (and the same ETag); after a PATCH the same conditional GET
+ * returns 200 with the new representation and a new ETag. Skipped when the API sends no ETag.
+ */
+@DisplayName("If-None-Match returns 304 until the resource is modified")
+class IfNoneMatchReturns304UntilModifiedTest extends BaseApiTest {
+
+    /** Path to the test case specification (relative to project root). Used for traceability. */
+    public static final String TEST_CASE_SPEC_PATH =
+            "rest-api-tests/caching/if_none_match_returns_304_until_modified/TEST_CASE.md";
+
+    @Test
+    @DisplayName("GET with current ETag returns 304; after PATCH returns 200 with new ETag")
+    void ifNoneMatch_returns304UntilModified() {
+        Assumptions.assumeTrue(ApiConfig.getBaseUrl().isPresent(), "BASE_URL must be set");
+        Assumptions.assumeTrue(ApiConfig.getCreateEndpoint().isPresent(), "CREATE_ENDPOINT or PROTECTED_ENDPOINT must be set");
+        Assumptions.assumeTrue(ApiConfig.getAuthToken().isPresent(), "AUTH_TOKEN required");
+
+        Fixture fixture = FixturePool.checkout().orElse(null);
+        Assumptions.assumeTrue(fixture != null, "Fixture resource must be available (create must succeed)");
+        String path = fixture.getPath();
+
+        String etag = given().spec(authSpec).when().get(path).then().statusCode(200).extract().header("ETag");
+        Assumptions.assumeTrue(etag != null && !etag.isBlank(), "API must send an ETag on GET by ID");
+
+        Response notModified = given().spec(authSpec).header("If-None-Match", etag).when().get(path)
+                .then().statusCode(304).extract().response();
+        assertEquals(0, notModified.asByteArray().length, "304 must not carry a body");
+        assertEquals(etag, notModified.header("ETag"), "304 must repeat the current ETag");
+
+        given().spec(authSpec)
+                .body("{\"name\":\"Revalidated Name\"}")
+                .when().patch(path)
+                .then().statusCode(anyOf(is(200), is(204)));
+
+        Response modified = given().spec(authSpec).header("If-None-Match", etag).when().get(path)
+                .then().statusCode(200).extract().response();
+        assertEquals("Revalidated Name", modified.path("name"), "200 must carry the updated representation");
+        assertNotNull(modified.header("ETag"), "200 must send the new ETag");
+        assertNotEquals(etag, modified.header("ETag"), "ETag must change after the update");
+    }
+}
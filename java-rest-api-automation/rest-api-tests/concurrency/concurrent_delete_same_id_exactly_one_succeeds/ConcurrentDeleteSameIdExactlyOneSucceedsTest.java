@@ -0,0 +1,52 @@
+package concurrency.concurrent_delete_same_id_exactly_one_succeeds;
+
+import api.BaseApiTest;
+import api.concurrency.Race;
+import api.config.ApiConfig;
+import api.fixtures.Fixture;
+import api.fixtures.FixturePool;
+import io.restassured.response.Response;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Verifies that concurrent DELETEs of the same resource are serialized by the server: exactly one
+ * returns 204 (or 200) and every other one 404 (or 410), never a second success or a 5xx. Takes a
+ * pooled fixture resource and releases all DELETEs at once.
+ */
+@DisplayName("Concurrent DELETE of same ID: exactly one succeeds")
+class ConcurrentDeleteSameIdExactlyOneSucceedsTest extends BaseApiTest {
+
+    /** Path to the test case specification (relative to project root). Used for traceability. */
+    public static final String TEST_CASE_SPEC_PATH =
+            "rest-api-tests/concurrency/concurrent_delete_same_id_exactly_one_succeeds/TEST_CASE.md";
+
+    @Test
+    @DisplayName("N concurrent DELETEs of one resource: one 204/200, the rest 404/410")
+    void concurrentDelete_exactlyOneSucceeds() {
+        Assumptions.assumeTrue(ApiConfig.getBaseUrl().isPresent(), "BASE_URL must be set");
+        Assumptions.assumeTrue(ApiConfig.getCreateEndpoint().isPresent(), "CREATE_ENDPOINT or PROTECTED_ENDPOINT must be set");
+        Assumptions.assumeTrue(ApiConfig.getAuthToken().isPresent(), "AUTH_TOKEN required");
+
+        Fixture fixture = FixturePool.checkout().orElse(null);
+        Assumptions.assumeTrue(fixture != null, "Fixture resource must be available (create must succeed)");
+        String path = fixture.getPath();
+
+        List<Response> responses = Race.run(Race.requests(), i -> given().spec(authSpec).when().delete(path));
+
+        String statuses = responses.stream().map(r -> String.valueOf(r.getStatusCode())).collect(Collectors.joining(","));
+        assertEquals(1, Race.count(responses, 204, 200), "Exactly one DELETE must succeed, got " + statuses);
+        assertEquals(responses.size() - 1, Race.count(responses, 404, 410),
+                "Every other DELETE must report the resource gone (404/410), got " + statuses);
+
+        given().spec(authSpec).when().get(path).then().statusCode(equalTo(404));
+    }
+}
@@ -0,0 +1,67 @@
+package concurrency.concurrent_patch_with_same_if_match_has_one_winner;
+
+import api.BaseApiTest;
+import api.concurrency.Race;
+import api.config.ApiConfig;
+import api.fixtures.Fixture;
+import api.fixtures.FixturePool;
+import io.restassured.response.Response;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static io.restassured.RestAssured.given;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+/**
+ * Verifies optimistic locking (no lost updates): N concurrent PATCHes that all send the same
+ * If-Match ETag, each with a different name, leave exactly one winner (200/204); the others get 412
+ * (or 409). The resource then holds the winner's name and a new ETag. Skipped when the API sends no
+ * ETag on GET by ID.
+ */
+@DisplayName("Concurrent PATCH with same If-Match has one winner")
+class ConcurrentPatchWithSameIfMatchHasOneWinnerTest extends BaseApiTest {
+
+    /** Path to the test case specification (relative to project root). Used for traceability. */
+    public static final String TEST_CASE_SPEC_PATH =
+            "rest-api-tests/concurrency/concurrent_patch_with_same_if_match_has_one_winner/TEST_CASE.md";
+
+    @Test
+    @DisplayName("N concurrent PATCHes with one ETag: one 200/204, the rest 412/409")
+    void concurrentPatchSameIfMatch_hasOneWinner() {
+        Assumptions.assumeTrue(ApiConfig.getBaseUrl().isPresent(), "BASE_URL must be set");
+        Assumptions.assumeTrue(ApiConfig.getCreateEndpoint().isPresent(), "CREATE_ENDPOINT or PROTECTED_ENDPOINT must be set");
+        Assumptions.assumeTrue(ApiConfig.getAuthToken().isPresent(), "AUTH_TOKEN required");
+
+        Fixture fixture = FixturePool.checkout().orElse(null);
+        Assumptions.assumeTrue(fixture != null, "Fixture resource must be available (create must succeed)");
+        String path = fixture.getPath();
+
+        String etag = given().spec(authSpec).when().get(path).then().statusCode(200).extract().header("ETag");
+        Assumptions.assumeTrue(etag != null && !etag.isBlank(), "API must send an ETag on GET by ID");
+
+        List<String> names = IntStream.range(0, Race.requests()).mapToObj(i -> "Race Patch " + i).collect(Collectors.toList());
+        List<Response> responses = Race.run(names.size(), i -> given().spec(authSpec)
+                .header("If-Match", etag)
+                .body("{\"name\":\"" + names.get(i) + "\"}")
+                .when().patch(path));
+
+        String statuses = responses.stream().map(r -> String.valueOf(r.getStatusCode())).collect(Collectors.joining(","));
+        List<Integer> winners = IntStream.range(0, responses.size())
+                .filter(i -> responses.get(i).getStatusCode() == 200 || responses.get(i).getStatusCode() == 204)
+                .boxed()
+                .collect(Collectors.toList());
+        assertEquals(1, winners.size(), "Exactly one conditional PATCH must win, got " + statuses);
+        assertEquals(responses.size() - 1, Race.count(responses, 412, 409),
+                "Every other PATCH must fail its precondition (412/409), got " + statuses);
+
+        Response after = given().spec(authSpec).when().get(path).then().statusCode(200).extract().response();
+        assertEquals(names.get(winners.get(0)), after.path("name"), "Resource must hold the winning update");
+        assertNotEquals(etag, after.header("ETag"), "ETag must change after the update");
+    }
+}
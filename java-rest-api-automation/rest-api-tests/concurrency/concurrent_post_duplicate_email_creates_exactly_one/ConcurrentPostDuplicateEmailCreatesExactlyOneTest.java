@@ -0,0 +1,60 @@
+package concurrency.concurrent_post_duplicate_email_creates_exactly_one;
+
+import api.BaseApiTest;
+import api.concurrency.Race;
+import api.config.ApiConfig;
+import io.restassured.response.Response;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static io.restassured.RestAssured.given;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Verifies the unique-email constraint under contention: N concurrent POSTs with the same email create
+ * exactly one resource (201/200); the others are rejected as duplicates (409, 422 or 400). The list
+ * filtered by that email then holds exactly one resource, which the test deletes afterwards.
+ */
+@DisplayName("Concurrent duplicate POST creates exactly one resource")
+class ConcurrentPostDuplicateEmailCreatesExactlyOneTest extends BaseApiTest {
+
+    /** Path to the test case specification (relative to project root). Used for traceability. */
+    public static final String TEST_CASE_SPEC_PATH =
+            "rest-api-tests/concurrency/concurrent_post_duplicate_email_creates_exactly_one/TEST_CASE.md";
+
+    @Test
+    @DisplayName("N concurrent POSTs with one email: one 201/200, the rest 409/422/400")
+    void concurrentDuplicatePost_createsExactlyOne() {
+        Assumptions.assumeTrue(ApiConfig.getBaseUrl().isPresent(), "BASE_URL must be set");
+        Assumptions.assumeTrue(ApiConfig.getCreateEndpoint().isPresent(), "CREATE_ENDPOINT or PROTECTED_ENDPOINT must be set");
+        Assumptions.assumeTrue(ApiConfig.getAuthToken().isPresent(), "AUTH_TOKEN required");
+
+        String basePath = ApiConfig.getCreateEndpoint().map(p -> p.startsWith("/") ? p : "/" + p).orElseThrow();
+        String email = "race-" + UUID.randomUUID() + "@example.com";
+        String body = "{\"name\":\"Race Duplicate\",\"email\":\"" + email + "\",\"gender\":\"male\",\"status\":\"active\"}";
+
+        List<Response> responses = Race.run(Race.requests(), i -> given().spec(authSpec).body(body).when().post(basePath));
+
+        List<Object> createdIds = responses.stream()
+                .filter(r -> r.getStatusCode() == 201 || r.getStatusCode() == 200)
+                .map(r -> r.path("id"))
+                .collect(Collectors.toList());
+        try {
+            String statuses = responses.stream().map(r -> String.valueOf(r.getStatusCode())).collect(Collectors.joining(","));
+            assertEquals(1, createdIds.size(), "Exactly one POST must create the resource, got " + statuses);
+            assertEquals(responses.size() - 1, Race.count(responses, 409, 422, 400),
+                    "Every other POST must be rejected as a duplicate, got " + statuses);
+
+            List<Object> stored = given().spec(authSpec).queryParam("email", email).when().get(basePath)
+                    .then().statusCode(200).extract().jsonPath().getList("id");
+            assertEquals(1, stored.size(), "Exactly one resource with the email must exist");
+        } finally {
+            createdIds.forEach(id -> given().spec(authSpec).when().delete(basePath + "/" + id));
+        }
+    }
+}
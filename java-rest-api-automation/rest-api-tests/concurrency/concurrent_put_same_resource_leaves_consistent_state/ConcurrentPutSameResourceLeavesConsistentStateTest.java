@@ -0,0 +1,62 @@
+package concurrency.concurrent_put_same_resource_leaves_consistent_state;
+
+import api.BaseApiTest;
+import api.concurrency.Race;
+import api.config.ApiConfig;
+import api.fixtures.Fixture;
+import api.fixtures.FixturePool;
+import io.restassured.response.Response;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static io.restassured.RestAssured.given;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Verifies that concurrent unconditional PUTs of one resource are applied atomically: each returns
+ * 200/204 (or 409 when the server rejects concurrent writers), and the final resource equals exactly
+ * one of the sent bodies, never a mix of fields from different writers (torn write).
+ */
+@DisplayName("Concurrent PUT of same resource leaves consistent state")
+class ConcurrentPutSameResourceLeavesConsistentStateTest extends BaseApiTest {
+
+    /** Path to the test case specification (relative to project root). Used for traceability. */
+    public static final String TEST_CASE_SPEC_PATH =
+            "rest-api-tests/concurrency/concurrent_put_same_resource_leaves_consistent_state/TEST_CASE.md";
+
+    @Test
+    @DisplayName("N concurrent PUTs: final resource equals one complete request body")
+    void concurrentPut_leavesConsistentState() {
+        Assumptions.assumeTrue(ApiConfig.getBaseUrl().isPresent(), "BASE_URL must be set");
+        Assumptions.assumeTrue(ApiConfig.getCreateEndpoint().isPresent(), "CREATE_ENDPOINT or PROTECTED_ENDPOINT must be set");
+        Assumptions.assumeTrue(ApiConfig.getAuthToken().isPresent(), "AUTH_TOKEN required");
+
+        Fixture fixture = FixturePool.checkout().orElse(null);
+        Assumptions.assumeTrue(fixture != null, "Fixture resource must be available (create must succeed)");
+        String path = fixture.getPath();
+        String email = fixture.getEmail();
+
+        // Writer i sends name and status that belong together, so a mix of two writers is detectable
+        List<Response> responses = Race.run(Race.requests(), i -> given().spec(authSpec)
+                .body("{\"name\":\"Race Put " + i + "\",\"email\":\"" + email + "\",\"gender\":\""
+                        + (i % 2 == 0 ? "male" : "female") + "\",\"status\":\"" + (i % 2 == 0 ? "active" : "inactive") + "\"}")
+                .when().put(path));
+
+        String statuses = responses.stream().map(r -> String.valueOf(r.getStatusCode())).collect(Collectors.joining(","));
+        assertEquals(responses.size(), Race.count(responses, 200, 204, 409),
+                "Every PUT must succeed or be rejected as a conflict, got " + statuses);
+        assertTrue(Race.count(responses, 200, 204) >= 1, "At least one PUT must succeed, got " + statuses);
+
+        Response after = given().spec(authSpec).when().get(path).then().statusCode(200).extract().response();
+        String name = after.path("name");
+        assertTrue(name != null && name.startsWith("Race Put "), "Name must come from one of the PUTs, got " + name);
+        int writer = Integer.parseInt(name.substring("Race Put ".length()));
+        assertEquals(writer % 2 == 0 ? "male" : "female", after.path("gender"), "Gender must come from the same PUT as name");
+        assertEquals(writer % 2 == 0 ? "active" : "inactive", after.path("status"), "Status must come from the same PUT as name");
+    }
+}
@@ -2,7 +2,6 @@ package delete.delete_with_conflict_returns_409_when_applicable;
 
 import api.BaseApiTest;
 import api.config.ApiConfig;
-import io.restassured.http.Header;
 import org.junit.jupiter.api.Assumptions;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -23,11 +22,6 @@ class DeleteWithConflictReturns409WhenApplicableTest extends BaseApiTest {
     public static final String TEST_CASE_SPEC_PATH =
             "rest-api-tests/delete/delete_with_conflict_returns_409_when_applicable/TEST_CASE.md";
 
-    /** HTTP header name for Bearer token. */
-    private static final String AUTH_HEADER = "Authorization";
-    /** Prefix for the Authorization header value (Bearer &lt;token&gt;). */
-    private static final String BEARER_PREFIX = "Bearer ";
-
     @Test
     @DisplayName("DELETE resource in conflict state returns 409 or 400")
     void deleteWithConflict_returns409Or400() {
@@ -40,12 +34,10 @@ class DeleteWithConflictReturns409WhenApplicableTest extends BaseApiTest {
         String conflictId = ApiConfig.getConflictResourceId().orElseThrow();
         String basePath = ApiConfig.getProtectedEndpoint().map(p -> p.startsWith("/") ? p : "/" + p).orElseThrow();
         String path = basePath + "/" + conflictId;
-        Header authHeader = new Header(AUTH_HEADER, BEARER_PREFIX + ApiConfig.getAuthToken().orElseThrow());
 
         // DELETE resource that is in a conflict state; expect 409 or 400
         given()
-                .spec(baseSpec)
-                .header(authHeader)
+                .spec(authSpec)
                 .when()
                 .delete(path)
                 .then()
@@ -2,20 +2,20 @@ package error_responses.response_time_for_success_within_configured_timeout;
 
 import api.BaseApiTest;
 import api.config.ApiConfig;
-import io.restassured.response.Response;
+import api.metrics.LatencyRegistry;
+import api.metrics.LatencySla;
 import org.junit.jupiter.api.Assumptions;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 import static io.restassured.RestAssured.given;
-import static org.hamcrest.Matchers.equalTo;
-import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
- * Verifies that a successful request to the configured success endpoint completes within
- * a maximum response time. Uses RESPONSE_TIMEOUT_MS from config if set; otherwise falls
- * back to a default (10 seconds). Asserts status 200 and that elapsed time does not
- * exceed the threshold.
+ * Verifies that the configured success endpoint meets its latency SLA. Sends SLA_WARMUP_REQUESTS
+ * warm-up requests (discarded), then SLA_SAMPLE_REQUESTS measured requests, each expecting 200,
+ * and fails when p99 exceeds SLA_P99_MS (falling back to RESPONSE_TIMEOUT_MS, then 10 seconds) or,
+ * when set, p95 exceeds SLA_P95_MS. Thresholds can be set per endpoint (e.g. SLA_P99_MS_GET_USERS).
+ * Requests are sent once, without retries. Results are exported to target/sla-results/&lt;environment&gt;.
  */
 @DisplayName("Response time for success within configured timeout")
 class ResponseTimeForSuccessWithinConfiguredTimeoutTest extends BaseApiTest {
@@ -24,32 +24,36 @@ class ResponseTimeForSuccessWithinConfiguredTimeoutTest extends BaseApiTest {
     public static final String TEST_CASE_SPEC_PATH =
             "rest-api-tests/error-responses/response_time_for_success_within_configured_timeout/TEST_CASE.md";
 
-    /** Default max response time in ms when RESPONSE_TIMEOUT_MS is not set. */
+    /** Default p99 threshold in ms when neither SLA_P99_MS nor RESPONSE_TIMEOUT_MS is set. */
     private static final long DEFAULT_TIMEOUT_MS = 10000L;
+    /** Default number of warm-up requests. */
+    private static final int DEFAULT_WARMUP_REQUESTS = 5;
+    /** Default number of measured requests. */
+    private static final int DEFAULT_SAMPLE_REQUESTS = 50;
 
     @Test
-    @DisplayName("Success endpoint responds within configured timeout")
+    @DisplayName("Success endpoint responds within configured latency percentiles")
     void successResponse_withinConfiguredTimeout() {
         Assumptions.assumeTrue(ApiConfig.getBaseUrl().isPresent(), "BASE_URL must be set");
         Assumptions.assumeTrue(ApiConfig.getProtectedEndpoint().isPresent(), "PROTECTED_ENDPOINT must be set (success endpoint)");
 
-        long timeoutMs = ApiConfig.getResponseTimeoutMs().orElse(DEFAULT_TIMEOUT_MS);
         String path = ApiConfig.getProtectedEndpoint()
                 .map(p -> p.startsWith("/") ? p : "/" + p)
                 .orElseThrow();
-
-        // GET success endpoint and capture response (including elapsed time)
-        Response response = given()
-                .spec(baseSpec)
-                .when()
-                .get(path)
-                .then()
-                .statusCode(equalTo(200))
-                .extract()
-                .response();
-
-        long responseTimeMs = response.getTime();
-        assertTrue(responseTimeMs <= timeoutMs,
-                "Response time " + responseTimeMs + " ms exceeded threshold " + timeoutMs + " ms");
+        String endpoint = LatencyRegistry.endpointKey("GET", path);
+
+        LatencySla sla = LatencySla.forEndpoint(endpoint)
+                .warmup(ApiConfig.getSlaWarmupRequests().orElse(DEFAULT_WARMUP_REQUESTS))
+                .samples(ApiConfig.getSlaSampleRequests().orElse(DEFAULT_SAMPLE_REQUESTS))
+                .expectStatus(status -> status == 200)
+                .percentile(99.0, ApiConfig.getSlaP99Ms(endpoint)
+                        .or(ApiConfig::getResponseTimeoutMs)
+                        .orElse(DEFAULT_TIMEOUT_MS));
+        ApiConfig.getSlaP95Ms(endpoint).ifPresent(p95 -> sla.percentile(95.0, p95));
+
+        // Probes must not retry: a retried 5xx or 429 would pass, with the backoff counted as latency
+        sla.measure(() -> given().spec(baseSpecWithoutRetries()).when().get(path))
+                .export()
+                .assertWithinSla();
     }
 }
@@ -0,0 +1,93 @@
+package get_list.get_list_pagination_traversal_is_consistent;
+
+import api.BaseApiTest;
+import api.config.ApiConfig;
+import api.config.AuthProvider;
+import api.fixtures.FixturePool;
+import api.http.Cassette;
+import api.pagination.PageStyle;
+import api.pagination.PaginationCrawler;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+import org.junit.jupiter.api.parallel.Isolated;
+
+import java.net.URI;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Walks every page of the list endpoint with {@link PaginationCrawler} (next page prefetched while
+ * the current one is streamed) and verifies that no item repeats across pages, ids keep one order
+ * and X-Pagination-Total is stable and matches the traversed count. Runs isolated, after fixture
+ * seeding has finished, so that concurrent creates and deletes do not shift pages mid-traversal.
+ */
+@Isolated
+@DisplayName("GET list pagination traversal is consistent")
+class GetListPaginationTraversalIsConsistentTest extends BaseApiTest {
+
+    /** Path to the test case specification (relative to project root). Used for traceability. */
+    public static final String TEST_CASE_SPEC_PATH =
+            "rest-api-tests/get-list/get_list_pagination_traversal_is_consistent/TEST_CASE.md";
+
+    /** Default page size; small enough that typical test data spans several pages. */
+    private static final int DEFAULT_PER_PAGE = 20;
+    /** Small enough that the stub's seeded users span several cursor pages. */
+    private static final int STUB_CURSOR_PER_PAGE = 7;
+
+    @Test
+    @DisplayName("Traversing all pages yields no duplicates, stable total and consistent order")
+    void traverseAllPages_isConsistent(TestReporter reporter) throws InterruptedException {
+        Assumptions.assumeTrue(ApiConfig.getBaseUrl().isPresent(), "BASE_URL must be set");
+        Assumptions.assumeTrue(ApiConfig.getProtectedEndpoint().isPresent(), "PROTECTED_ENDPOINT (list) must be set");
+        Assumptions.assumeFalse(Cassette.isReplaying(), "Crawler bypasses RestAssured; not available in cassette replay");
+
+        PaginationCrawler.Builder crawler = PaginationCrawler.builder(listUri(""))
+                .style(ApiConfig.getPaginationStyle().map(PageStyle::parse).orElse(PageStyle.PAGE))
+                .perPage(ApiConfig.getPaginationPerPage().orElse(DEFAULT_PER_PAGE))
+                .order(ApiConfig.getPaginationOrder()
+                        .map(o -> PaginationCrawler.Order.valueOf(o.trim().toUpperCase(Locale.ROOT)))
+                        .orElse(PaginationCrawler.Order.AUTO));
+        ApiConfig.getPaginationMaxPages().ifPresent(crawler::maxPages);
+        crawlAndVerify(crawler, reporter);
+    }
+
+    /**
+     * The stub's cursor listing returns opaque cursors containing +, /, = and &amp;, which only survive
+     * the round trip when the crawler URL-encodes them.
+     */
+    @Test
+    @DisplayName("Cursor traversal round-trips cursors that need URL-encoding (stub)")
+    void traverseCursorPages_withReservedCharacters_isConsistent(TestReporter reporter) throws InterruptedException {
+        Assumptions.assumeTrue(ApiConfig.isStubServerEnabled(), "Cursor listing is provided by the embedded stub");
+        Assumptions.assumeFalse(Cassette.isReplaying(), "Crawler bypasses RestAssured; not available in cassette replay");
+
+        crawlAndVerify(PaginationCrawler.builder(listUri("?pagination=cursor"))
+                .style(PageStyle.CURSOR)
+                .perPage(STUB_CURSOR_PER_PAGE)
+                .order(PaginationCrawler.Order.DESC), reporter);
+    }
+
+    private static URI listUri(String query) {
+        String path = ApiConfig.getProtectedEndpoint()
+                .map(p -> p.startsWith("/") ? p : "/" + p)
+                .orElseThrow();
+        String baseUrl = ApiConfig.getBaseUrl().orElseThrow().replaceAll("/+$", "");
+        return URI.create(baseUrl + path + query);
+    }
+
+    private static void crawlAndVerify(PaginationCrawler.Builder crawler, TestReporter reporter)
+            throws InterruptedException {
+        AuthProvider.admin().getToken().ifPresent(token -> crawler.authorization("Bearer " + token));
+
+        FixturePool.current().ifPresent(FixturePool::awaitSeeding);
+        PaginationCrawler.Result result = crawler.build().crawl();
+        reporter.publishEntry("pagination", String.format("%d pages, %d items%s", result.getPages(),
+                result.getItems(), result.isTruncated() ? " (stopped at PAGINATION_MAX_PAGES)" : ""));
+
+        assertTrue(result.getViolations().isEmpty(),
+                "Pagination invariants violated:\n  " + String.join("\n  ", result.getViolations()));
+    }
+}
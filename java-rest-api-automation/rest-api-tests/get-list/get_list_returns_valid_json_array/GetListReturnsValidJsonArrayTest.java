@@ -2,20 +2,20 @@ package get_list.get_list_returns_valid_json_array;
 
 import api.BaseApiTest;
 import api.config.ApiConfig;
+import api.schema.JsonSchemas;
+import io.restassured.response.Response;
 import org.junit.jupiter.api.Assumptions;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
-import java.util.List;
-
 import static io.restassured.RestAssured.given;
 import static org.hamcrest.Matchers.equalTo;
 
 /**
- * Verifies that the list endpoint returns a response body that is valid JSON and can be
- * parsed as a list (root array or extractable collection). Asserts 200 and that the
- * extracted root is a non-null list. Assumes API returns a root-level array; adapt
- * jsonPath if the API wraps the list in an object (e.g. "data").
+ * Verifies that the list endpoint returns a response body that is valid JSON matching the
+ * user list schema (schemas/user-list.json: root-level array whose items match user.json).
+ * Asserts 200, then parses the body once and validates it against the cached, precompiled
+ * schema. Adapt the schema if the API wraps the list in an object (e.g. "data").
  */
 @DisplayName("GET list returns valid JSON array")
 class GetListReturnsValidJsonArrayTest extends BaseApiTest {
@@ -34,18 +34,15 @@ class GetListReturnsValidJsonArrayTest extends BaseApiTest {
                 .map(p -> p.startsWith("/") ? p : "/" + p)
                 .orElseThrow();
 
-        List<?> list = given()
+        Response response = given()
                 .spec(baseSpec)
                 .when()
                 .get(path)
                 .then()
                 .statusCode(equalTo(200))
                 .extract()
-                .body()
-                .jsonPath()
-                .getList("$");
+                .response();
 
-        org.junit.jupiter.api.Assertions.assertNotNull(list, "Response body must be a JSON array");
-        org.junit.jupiter.api.Assertions.assertTrue(list instanceof List, "Root must be array or extractable as list");
+        JsonSchemas.assertMatches(response, JsonSchemas.USER_LIST);
     }
 }
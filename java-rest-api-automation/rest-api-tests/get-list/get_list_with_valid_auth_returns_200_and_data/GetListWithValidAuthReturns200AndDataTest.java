@@ -2,7 +2,6 @@ package get_list.get_list_with_valid_auth_returns_200_and_data;
 
 import api.BaseApiTest;
 import api.config.ApiConfig;
-import io.restassured.http.Header;
 import org.junit.jupiter.api.Assumptions;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -23,11 +22,6 @@ class GetListWithValidAuthReturns200AndDataTest extends BaseApiTest {
     public static final String TEST_CASE_SPEC_PATH =
             "rest-api-tests/get-list/get_list_with_valid_auth_returns_200_and_data/TEST_CASE.md";
 
-    /** HTTP header name for Bearer token. */
-    private static final String AUTH_HEADER = "Authorization";
-    /** Prefix for the Authorization header value (Bearer &lt;token&gt;). */
-    private static final String BEARER_PREFIX = "Bearer ";
-
     @Test
     @DisplayName("GET list with valid token returns 200 and collection")
     void getListWithValidAuth_returns200AndData() {
@@ -38,11 +32,9 @@ class GetListWithValidAuthReturns200AndDataTest extends BaseApiTest {
         String path = ApiConfig.getProtectedEndpoint()
                 .map(p -> p.startsWith("/") ? p : "/" + p)
                 .orElseThrow();
-        Header authHeader = new Header(AUTH_HEADER, BEARER_PREFIX + ApiConfig.getAuthToken().orElseThrow());
 
         given()
-                .spec(baseSpec)
-                .header(authHeader)
+                .spec(authSpec)
                 .when()
                 .get(path)
                 .then()
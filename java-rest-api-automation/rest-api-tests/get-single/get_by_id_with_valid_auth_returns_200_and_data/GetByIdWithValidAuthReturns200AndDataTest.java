@@ -2,7 +2,6 @@ package get_single.get_by_id_with_valid_auth_returns_200_and_data;
 
 import api.BaseApiTest;
 import api.config.ApiConfig;
-import io.restassured.http.Header;
 import org.junit.jupiter.api.Assumptions;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -26,11 +25,6 @@ class GetByIdWithValidAuthReturns200AndDataTest extends BaseApiTest {
     public static final String TEST_CASE_SPEC_PATH =
             "rest-api-tests/get-single/get_by_id_with_valid_auth_returns_200_and_data/TEST_CASE.md";
 
-    /** HTTP header name for Bearer token. */
-    private static final String AUTH_HEADER = "Authorization";
-    /** Prefix for the Authorization header value (Bearer &lt;token&gt;). */
-    private static final String BEARER_PREFIX = "Bearer ";
-
     @Test
     @DisplayName("GET resource by ID with valid auth returns 200 and data")
     void getByIdWithValidAuth_returns200AndData() {
@@ -39,12 +33,10 @@ class GetByIdWithValidAuthReturns200AndDataTest extends BaseApiTest {
         Assumptions.assumeTrue(ApiConfig.getAuthToken().isPresent(), "AUTH_TOKEN must be set");
 
         String basePath = ApiConfig.getProtectedEndpoint().map(p -> p.startsWith("/") ? p : "/" + p).orElseThrow();
-        Header authHeader = new Header(AUTH_HEADER, BEARER_PREFIX + ApiConfig.getAuthToken().orElseThrow());
 
         // Obtain a valid resource ID from the list (with auth if list is protected)
         List<Map<String, Object>> list = given()
-                .spec(baseSpec)
-                .header(authHeader)
+                .spec(authSpec)
                 .when()
                 .get(basePath)
                 .then()
@@ -59,8 +51,7 @@ class GetByIdWithValidAuthReturns200AndDataTest extends BaseApiTest {
         String path = basePath + "/" + id;
 
         given()
-                .spec(baseSpec)
-                .header(authHeader)
+                .spec(authSpec)
                 .when()
                 .get(path)
                 .then()
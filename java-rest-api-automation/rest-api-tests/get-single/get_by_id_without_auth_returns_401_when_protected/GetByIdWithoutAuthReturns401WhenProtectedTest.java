@@ -2,7 +2,6 @@ package get_single.get_by_id_without_auth_returns_401_when_protected;
 
 import api.BaseApiTest;
 import api.config.ApiConfig;
-import io.restassured.http.Header;
 import org.junit.jupiter.api.Assumptions;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -26,11 +25,6 @@ class GetByIdWithoutAuthReturns401WhenProtectedTest extends BaseApiTest {
     public static final String TEST_CASE_SPEC_PATH =
             "rest-api-tests/get-single/get_by_id_without_auth_returns_401_when_protected/TEST_CASE.md";
 
-    /** HTTP header name for Bearer token. */
-    private static final String AUTH_HEADER = "Authorization";
-    /** Prefix for the Authorization header value (Bearer &lt;token&gt;). */
-    private static final String BEARER_PREFIX = "Bearer ";
-
     @Test
     @DisplayName("GET resource by ID without auth returns 401 when protected")
     void getByIdWithoutAuth_returns401WhenProtected() {
@@ -39,12 +33,10 @@ class GetByIdWithoutAuthReturns401WhenProtectedTest extends BaseApiTest {
         Assumptions.assumeTrue(ApiConfig.getAuthToken().isPresent(), "AUTH_TOKEN required to obtain valid ID from list");
 
         String basePath = ApiConfig.getProtectedEndpoint().map(p -> p.startsWith("/") ? p : "/" + p).orElseThrow();
-        Header authHeader = new Header(AUTH_HEADER, BEARER_PREFIX + ApiConfig.getAuthToken().orElseThrow());
 
         // Get a valid ID from list (with auth), then call GET by ID without auth
         List<Map<String, Object>> list = given()
-                .spec(baseSpec)
-                .header(authHeader)
+                .spec(authSpec)
                 .when()
                 .get(basePath)
                 .then()
@@ -2,24 +2,21 @@ package get_single.get_by_valid_id_returns_expected_fields_and_types;
 
 import api.BaseApiTest;
 import api.config.ApiConfig;
-import io.restassured.path.json.JsonPath;
+import api.schema.JsonSchemas;
+import com.fasterxml.jackson.databind.JsonNode;
+import io.restassured.response.Response;
 import org.junit.jupiter.api.Assumptions;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
-import java.util.List;
-import java.util.Map;
-
 import static io.restassured.RestAssured.given;
 import static org.hamcrest.Matchers.equalTo;
-import static org.junit.jupiter.api.Assertions.assertNotNull;
-import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
- * Verifies that GET by resource ID returns 200 and a body containing required fields with
- * the expected types (e.g. id as number, name and email as string). Uses the list endpoint
- * to obtain a valid ID. Field names and types are aligned with common REST resources
- * (id, name, email); adapt assertions if the API contract differs.
+ * Verifies that GET by resource ID returns 200 and a body matching the user JSON Schema
+ * (schemas/user.json: id integer; name, email strings; gender and status enums). Uses the
+ * list endpoint to obtain a valid ID. Each body is parsed once and validated against the
+ * cached, precompiled schema; adapt the schema if the API contract differs.
  */
 @DisplayName("GET by valid ID returns expected fields and types")
 class GetByValidIdReturnsExpectedFieldsAndTypesTest extends BaseApiTest {
@@ -35,36 +32,24 @@ class GetByValidIdReturnsExpectedFieldsAndTypesTest extends BaseApiTest {
         Assumptions.assumeTrue(ApiConfig.getProtectedEndpoint().isPresent(), "PROTECTED_ENDPOINT must be set");
 
         String basePath = ApiConfig.getProtectedEndpoint().map(p -> p.startsWith("/") ? p : "/" + p).orElseThrow();
-        List<Map<String, Object>> list = given()
+        Response listResponse = given()
                 .spec(baseSpec)
                 .when()
-                .get(basePath)
-                .then()
-                .extract()
-                .body()
-                .jsonPath()
-                .getList("$");
-        Assumptions.assumeTrue(list != null && !list.isEmpty(), "List must have at least one resource");
-        Object id = list.get(0).get("id");
-        Assumptions.assumeTrue(id != null, "First resource must have id");
+                .get(basePath);
+        JsonNode list = JsonSchemas.assertMatches(listResponse, JsonSchemas.USER_LIST);
+        Assumptions.assumeTrue(list.size() > 0, "List must have at least one resource");
+        long id = list.get(0).get("id").asLong();
 
         String path = basePath + "/" + id;
-        JsonPath jsonPath = given()
+        Response response = given()
                 .spec(baseSpec)
                 .when()
                 .get(path)
                 .then()
                 .statusCode(equalTo(200))
                 .extract()
-                .body()
-                .jsonPath();
+                .response();
 
-        assertNotNull(jsonPath.get("id"), "id must be present");
-        assertTrue(jsonPath.get("id") instanceof Number,
-                "id must be number type");
-        assertNotNull(jsonPath.get("name"), "name must be present");
-        assertTrue(jsonPath.get("name") instanceof String, "name must be string");
-        assertNotNull(jsonPath.get("email"), "email must be present");
-        assertTrue(jsonPath.get("email") instanceof String, "email must be string");
+        JsonSchemas.assertMatches(response, JsonSchemas.USER);
     }
 }
@@ -0,0 +1,106 @@
+package headers.response_compression_negotiated_per_accept_encoding;
+
+import api.BaseApiTest;
+import api.config.ApiConfig;
+import api.config.AuthProvider;
+import api.fixtures.Fixture;
+import api.fixtures.FixturePool;
+import api.http.Cassette;
+import api.metrics.LatencyRegistry;
+import api.payload.PayloadProbe;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Verifies content-coding negotiation on GET list (default page and a 100-item page) and GET by ID
+ * (a pooled fixture).
+ * Each is fetched with Accept-Encoding identity, gzip and br through {@link PayloadProbe}, which sees
+ * the bytes on the wire: identity must come back uncoded; gzip and br must come back in the requested
+ * coding or uncoded, never in one the client did not offer. Bodies of at least COMPRESSION_MIN_BYTES
+ * (default 1024) must be gzip-compressed to fewer bytes and carry Vary: Accept-Encoding. Uncompressed
+ * and compressed sizes per endpoint are printed and published as report entries. Skipped in cassette
+ * replay (recordings keep decoded bodies only).
+ */
+@DisplayName("Response compression negotiated per Accept-Encoding")
+class ResponseCompressionNegotiatedPerAcceptEncodingTest extends BaseApiTest {
+
+    /** Path to the test case specification (relative to project root). Used for traceability. */
+    public static final String TEST_CASE_SPEC_PATH =
+            "rest-api-tests/headers/response_compression_negotiated_per_accept_encoding/TEST_CASE.md";
+
+    private static final long DEFAULT_COMPRESSION_MIN_BYTES = 1024;
+
+    @Test
+    @DisplayName("identity, gzip and br are honoured; large bodies are gzip-compressed")
+    void compression_isNegotiatedPerAcceptEncoding(TestReporter reporter) {
+        Assumptions.assumeTrue(ApiConfig.getBaseUrl().isPresent(), "BASE_URL must be set");
+        Assumptions.assumeTrue(ApiConfig.getProtectedEndpoint().isPresent(), "PROTECTED_ENDPOINT (list) must be set");
+        Assumptions.assumeFalse(Cassette.isReplaying(), "Probe bypasses RestAssured; not available in cassette replay");
+
+        String listPath = ApiConfig.getProtectedEndpoint()
+                .map(p -> p.startsWith("/") ? p : "/" + p)
+                .orElseThrow();
+        Fixture fixture = FixturePool.checkout().orElse(null);
+        Assumptions.assumeTrue(fixture != null, "Fixture resource must be available (create must succeed)");
+        String baseUrl = ApiConfig.getBaseUrl().orElseThrow().replaceAll("/+$", "");
+        String authorization = AuthProvider.admin().getToken().map(token -> "Bearer " + token).orElse(null);
+        long threshold = ApiConfig.getCompressionMinBytes().orElse(DEFAULT_COMPRESSION_MIN_BYTES);
+
+        List<String> failures = new ArrayList<>();
+        for (String path : List.of(listPath, listPath + "?per_page=100", fixture.getPath())) {
+            URI uri = URI.create(baseUrl + path);
+            String endpoint = LatencyRegistry.endpointKey("GET", path) + (path.contains("?") ? path.substring(path.indexOf('?')) : "");
+
+            PayloadProbe.Sample identity = PayloadProbe.fetch(uri, authorization, "identity");
+            PayloadProbe.Sample gzip = PayloadProbe.fetch(uri, authorization, "gzip");
+            PayloadProbe.Sample br = PayloadProbe.fetch(uri, authorization, "br");
+            for (PayloadProbe.Sample sample : List.of(identity, gzip, br)) {
+                assertEquals(200, sample.getStatus(), "GET " + path + " must return 200");
+            }
+
+            check(failures, endpoint, "identity", identity, Set.of("identity"));
+            check(failures, endpoint, "gzip", gzip, Set.of("identity", "gzip"));
+            check(failures, endpoint, "br", br, Set.of("identity", "br"));
+            if (identity.getWireBytes() >= threshold) {
+                if (!"gzip".equals(gzip.getContentEncoding()) || gzip.getWireBytes() >= identity.getWireBytes()) {
+                    failures.add(String.format("%s: %d bytes (>= %d) must be gzip-compressed to fewer bytes, got %s %d bytes",
+                            endpoint, identity.getWireBytes(), threshold, gzip.getContentEncoding(), gzip.getWireBytes()));
+                }
+            }
+
+            String summary = String.format(Locale.ROOT, "%s: identity %d B, gzip %d B (%s, %.0f%%), br %d B (%s)",
+                    endpoint, identity.getWireBytes(),
+                    gzip.getWireBytes(), gzip.getContentEncoding(), 100.0 * gzip.getWireBytes() / Math.max(1, identity.getWireBytes()),
+                    br.getWireBytes(), br.getContentEncoding());
+            reporter.publishEntry(endpoint, summary);
+        }
+        assertTrue(failures.isEmpty(), "Compression negotiation failed:\n  " + String.join("\n  ", failures));
+    }
+
+    /** Coding must be one the client offered; a compressed body must name Accept-Encoding in Vary. */
+    private static void check(List<String> failures, String endpoint, String requested, PayloadProbe.Sample sample,
+                              Set<String> allowed) {
+        if (!allowed.contains(sample.getContentEncoding())) {
+            failures.add(endpoint + ": Accept-Encoding " + requested + " answered with Content-Encoding "
+                    + sample.getContentEncoding());
+        }
+        boolean varies = sample.getVary()
+                .map(v -> v.toLowerCase(Locale.ROOT).contains("accept-encoding") || v.trim().equals("*"))
+                .orElse(false);
+        if (sample.isCompressed() && !varies) {
+            failures.add(endpoint + ": compressed response (" + sample.getContentEncoding()
+                    + ") must send Vary: Accept-Encoding so caches keep codings apart");
+        }
+    }
+}
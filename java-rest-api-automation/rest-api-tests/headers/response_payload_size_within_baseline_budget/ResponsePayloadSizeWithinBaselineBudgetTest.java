@@ -0,0 +1,105 @@
+package headers.response_payload_size_within_baseline_budget;
+
+import api.BaseApiTest;
+import api.config.ApiConfig;
+import api.config.AuthProvider;
+import api.fixtures.Fixture;
+import api.fixtures.FixturePool;
+import api.http.Cassette;
+import api.metrics.LatencyRegistry;
+import api.payload.PayloadBaseline;
+import api.payload.PayloadProbe;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Guards against payload bloat: the uncompressed sizes of GET list and GET by ID must not exceed the
+ * stored {@link PayloadBaseline} by more than PAYLOAD_BUDGET_PERCENT (default 10). Both requests
+ * address a pooled fixture (the list filtered by its email), so their content does not depend on
+ * which users other tests created. gzip sizes are recorded and reported next to their baseline but
+ * not gated; losing compression altogether is caught by the compression negotiation test. With
+ * -Dpayload.baseline.update=true the measured sizes are recorded instead of checked; endpoints without
+ * a baseline are only reported. Skipped in cassette replay.
+ */
+@DisplayName("Response payload size within baseline budget")
+class ResponsePayloadSizeWithinBaselineBudgetTest extends BaseApiTest {
+
+    /** Path to the test case specification (relative to project root). Used for traceability. */
+    public static final String TEST_CASE_SPEC_PATH =
+            "rest-api-tests/headers/response_payload_size_within_baseline_budget/TEST_CASE.md";
+
+    private static final long DEFAULT_BUDGET_PERCENT = 10;
+
+    @Test
+    @DisplayName("Uncompressed size stays within budget of the baseline; gzip size is reported")
+    void payloadSize_isWithinBaselineBudget(TestReporter reporter) {
+        Assumptions.assumeTrue(ApiConfig.getBaseUrl().isPresent(), "BASE_URL must be set");
+        Assumptions.assumeTrue(ApiConfig.getProtectedEndpoint().isPresent(), "PROTECTED_ENDPOINT (list) must be set");
+        Assumptions.assumeFalse(Cassette.isReplaying(), "Probe bypasses RestAssured; not available in cassette replay");
+
+        String listPath = ApiConfig.getProtectedEndpoint()
+                .map(p -> p.startsWith("/") ? p : "/" + p)
+                .orElseThrow();
+        Fixture fixture = FixturePool.checkout().orElse(null);
+        Assumptions.assumeTrue(fixture != null, "Fixture resource must be available (create must succeed)");
+        String baseUrl = ApiConfig.getBaseUrl().orElseThrow().replaceAll("/+$", "");
+        String authorization = AuthProvider.admin().getToken().map(token -> "Bearer " + token).orElse(null);
+        long budgetPercent = ApiConfig.getPayloadBudgetPercent().orElse(DEFAULT_BUDGET_PERCENT);
+
+        Map<String, String> endpoints = new LinkedHashMap<>();
+        // the fixture's email differs per run, its length does not
+        endpoints.put(LatencyRegistry.endpointKey("GET", listPath) + "?email={fixture}", listPath + "?email=" + fixture.getEmail());
+        endpoints.put(LatencyRegistry.endpointKey("GET", fixture.getPath()), fixture.getPath());
+
+        PayloadBaseline baseline = PayloadBaseline.shared();
+        List<String> failures = new ArrayList<>();
+        int gated = 0;
+        for (Map.Entry<String, String> e : endpoints.entrySet()) {
+            String endpoint = e.getKey();
+            String path = e.getValue();
+            URI uri = URI.create(baseUrl + path);
+            PayloadProbe.Sample identity = PayloadProbe.fetch(uri, authorization, "identity");
+            PayloadProbe.Sample gzip = PayloadProbe.fetch(uri, authorization, "gzip");
+            assertEquals(200, identity.getStatus(), "GET " + path + " must return 200");
+            assertEquals(200, gzip.getStatus(), "GET " + path + " must return 200");
+
+            if (PayloadBaseline.isUpdate()) {
+                baseline.put(endpoint, identity.getWireBytes(), gzip.getWireBytes());
+                reporter.publishEntry(endpoint, String.format("baseline recorded: identity %d B, gzip %d B",
+                        identity.getWireBytes(), gzip.getWireBytes()));
+                continue;
+            }
+            Optional<PayloadBaseline.Entry> stored = baseline.get(endpoint);
+            if (stored.isEmpty()) {
+                reporter.publishEntry(endpoint, String.format("no baseline for %s (identity %d B, gzip %d B); "
+                                + "record it with -Dpayload.baseline.update=true", PayloadBaseline.environment(),
+                        identity.getWireBytes(), gzip.getWireBytes()));
+                continue;
+            }
+            String summary = String.format("%s: identity %d B (baseline %d), gzip %d B (baseline %d), budget +%d%%",
+                    endpoint, identity.getWireBytes(), stored.get().getIdentityBytes(),
+                    gzip.getWireBytes(), stored.get().getGzipBytes(), budgetPercent);
+            reporter.publishEntry(endpoint, summary);
+            gated++;
+            if (identity.getWireBytes() * 100 > stored.get().getIdentityBytes() * (100 + budgetPercent)) {
+                failures.add(summary);
+            }
+        }
+        assertTrue(failures.isEmpty(), "Payload size grew beyond budget (accept with -Dpayload.baseline.update=true):\n  "
+                + String.join("\n  ", failures));
+        Assumptions.assumeTrue(PayloadBaseline.isUpdate() || gated > 0,
+                "No payload baseline for " + PayloadBaseline.environment() + "; record one with -Dpayload.baseline.update=true");
+    }
+}
@@ -2,8 +2,8 @@ package patch_update.patch_empty_body_returns_400_or_200_per_contract;
 
 import api.BaseApiTest;
 import api.config.ApiConfig;
-import io.restassured.http.Header;
-import io.restassured.response.Response;
+import api.fixtures.Fixture;
+import api.fixtures.FixturePool;
 import org.junit.jupiter.api.Assumptions;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -13,7 +13,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
  * Verifies that PATCH with an empty body {} returns either 400 (validation: nothing to
- * update) or 200 (no-op accepted per contract), and never 500. Creates a resource first,
+ * update) or 200 (no-op accepted per contract), and never 500. Takes a pooled fixture resource first,
  * then PATCHes with {}. Requires BASE_URL, CREATE_ENDPOINT and AUTH_TOKEN.
  */
 @DisplayName("PATCH empty body returns 400 or 200 per contract")
@@ -23,10 +23,6 @@ class PatchEmptyBodyReturns400Or200PerContractTest extends BaseApiTest {
     public static final String TEST_CASE_SPEC_PATH =
             "rest-api-tests/patch-update/patch_empty_body_returns_400_or_200_per_contract/TEST_CASE.md";
 
-    /** HTTP header name for Bearer token. */
-    private static final String AUTH_HEADER = "Authorization";
-    /** Prefix for the Authorization header value (Bearer &lt;token&gt;). */
-    private static final String BEARER_PREFIX = "Bearer ";
     /** Empty JSON object; API may return 400 or 200. */
     private static final String EMPTY_BODY = "{}";
 
@@ -37,22 +33,12 @@ class PatchEmptyBodyReturns400Or200PerContractTest extends BaseApiTest {
         Assumptions.assumeTrue(ApiConfig.getCreateEndpoint().isPresent(), "PROTECTED_ENDPOINT must be set");
         Assumptions.assumeTrue(ApiConfig.getAuthToken().isPresent(), "AUTH_TOKEN required");
 
-        String basePath = ApiConfig.getCreateEndpoint().map(p -> p.startsWith("/") ? p : "/" + p).orElseThrow();
-        Header authHeader = new Header(AUTH_HEADER, BEARER_PREFIX + ApiConfig.getAuthToken().orElseThrow());
-
-        String email = "patch-empty-" + System.currentTimeMillis() + "@example.com";
-        Response createRes = given().spec(baseSpec).header(authHeader)
-                .body("{\"name\":\"Patch Empty\",\"email\":\"" + email + "\",\"gender\":\"male\",\"status\":\"active\"}")
-                .when().post(basePath);
-        Assumptions.assumeTrue(createRes.getStatusCode() == 201, "Create must succeed");
-        Object id = createRes.path("id");
-        Assumptions.assumeTrue(id != null, "Create response must contain id");
-
-        String path = basePath + "/" + id;
+        Fixture fixture = FixturePool.checkout().orElse(null);
+        Assumptions.assumeTrue(fixture != null, "Fixture resource must be available (create must succeed)");
+        String path = fixture.getPath();
 
         int status = given()
-                .spec(baseSpec)
-                .header(authHeader)
+                .spec(authSpec)
                 .body(EMPTY_BODY)
                 .when()
                 .patch(path)
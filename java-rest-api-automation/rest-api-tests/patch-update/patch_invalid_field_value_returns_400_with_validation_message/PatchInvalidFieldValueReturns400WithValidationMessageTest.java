@@ -2,7 +2,8 @@ package patch_update.patch_invalid_field_value_returns_400_with_validation_messa
 
 import api.BaseApiTest;
 import api.config.ApiConfig;
-import io.restassured.http.Header;
+import api.fixtures.Fixture;
+import api.fixtures.FixturePool;
 import io.restassured.response.Response;
 import org.junit.jupiter.api.Assumptions;
 import org.junit.jupiter.api.DisplayName;
@@ -24,10 +25,6 @@ class PatchInvalidFieldValueReturns400WithValidationMessageTest extends BaseApiT
     public static final String TEST_CASE_SPEC_PATH =
             "rest-api-tests/patch-update/patch_invalid_field_value_returns_400_with_validation_message/TEST_CASE.md";
 
-    /** HTTP header name for Bearer token. */
-    private static final String AUTH_HEADER = "Authorization";
-    /** Prefix for the Authorization header value (Bearer &lt;token&gt;). */
-    private static final String BEARER_PREFIX = "Bearer ";
     /** Body with invalid enum value to trigger validation error. */
     private static final String INVALID_STATUS_BODY = "{\"status\":\"invalid_enum_value\"}";
 
@@ -38,22 +35,12 @@ class PatchInvalidFieldValueReturns400WithValidationMessageTest extends BaseApiT
         Assumptions.assumeTrue(ApiConfig.getCreateEndpoint().isPresent(), "PROTECTED_ENDPOINT must be set");
         Assumptions.assumeTrue(ApiConfig.getAuthToken().isPresent(), "AUTH_TOKEN required");
 
-        String basePath = ApiConfig.getCreateEndpoint().map(p -> p.startsWith("/") ? p : "/" + p).orElseThrow();
-        Header authHeader = new Header(AUTH_HEADER, BEARER_PREFIX + ApiConfig.getAuthToken().orElseThrow());
-
-        String email = "patch-invalid-" + System.currentTimeMillis() + "@example.com";
-        Response createRes = given().spec(baseSpec).header(authHeader)
-                .body("{\"name\":\"Patch Invalid\",\"email\":\"" + email + "\",\"gender\":\"male\",\"status\":\"active\"}")
-                .when().post(basePath);
-        Assumptions.assumeTrue(createRes.getStatusCode() == 201, "Create must succeed");
-        Object id = createRes.path("id");
-        Assumptions.assumeTrue(id != null, "Create response must contain id");
-
-        String path = basePath + "/" + id;
+        Fixture fixture = FixturePool.checkout().orElse(null);
+        Assumptions.assumeTrue(fixture != null, "Fixture resource must be available (create must succeed)");
+        String path = fixture.getPath();
 
         Response patchRes = given()
-                .spec(baseSpec)
-                .header(authHeader)
+                .spec(authSpec)
                 .body(INVALID_STATUS_BODY)
                 .when()
                 .patch(path);
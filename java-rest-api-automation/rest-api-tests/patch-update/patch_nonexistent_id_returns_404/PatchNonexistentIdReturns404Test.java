@@ -2,7 +2,6 @@ package patch_update.patch_nonexistent_id_returns_404;
 
 import api.BaseApiTest;
 import api.config.ApiConfig;
-import io.restassured.http.Header;
 import org.junit.jupiter.api.Assumptions;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -22,10 +21,6 @@ class PatchNonexistentIdReturns404Test extends BaseApiTest {
     public static final String TEST_CASE_SPEC_PATH =
             "rest-api-tests/patch-update/patch_nonexistent_id_returns_404/TEST_CASE.md";
 
-    /** HTTP header name for Bearer token. */
-    private static final String AUTH_HEADER = "Authorization";
-    /** Prefix for the Authorization header value (Bearer &lt;token&gt;). */
-    private static final String BEARER_PREFIX = "Bearer ";
     /** ID assumed not to exist so that the API returns 404. */
     private static final long NON_EXISTENT_ID = 999999999L;
     /** Valid partial body for PATCH (only ID is invalid). */
@@ -40,11 +35,9 @@ class PatchNonexistentIdReturns404Test extends BaseApiTest {
 
         String basePath = ApiConfig.getProtectedEndpoint().map(p -> p.startsWith("/") ? p : "/" + p).orElseThrow();
         String path = basePath + "/" + NON_EXISTENT_ID;
-        Header authHeader = new Header(AUTH_HEADER, BEARER_PREFIX + ApiConfig.getAuthToken().orElseThrow());
 
         given()
-                .spec(baseSpec)
-                .header(authHeader)
+                .spec(authSpec)
                 .body(PARTIAL_BODY)
                 .when()
                 .patch(path)
@@ -2,8 +2,8 @@ package patch_update.patch_updates_only_sent_fields_others_unchanged;
 
 import api.BaseApiTest;
 import api.config.ApiConfig;
-import io.restassured.http.Header;
-import io.restassured.response.Response;
+import api.fixtures.Fixture;
+import api.fixtures.FixturePool;
 import org.junit.jupiter.api.Assumptions;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -17,9 +17,9 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 
 /**
  * Verifies that PATCH updates only the fields sent in the body; other fields (e.g. name,
- * email) remain unchanged. Creates a resource, PATCHes only status, then GETs and
- * asserts status is updated and name/email are unchanged. Requires BASE_URL,
- * CREATE_ENDPOINT and AUTH_TOKEN.
+ * email) remain unchanged. Takes a pooled fixture resource, GETs it, PATCHes only status, then
+ * GETs again and asserts status is updated and name/email match the first GET. Requires
+ * BASE_URL, CREATE_ENDPOINT and AUTH_TOKEN.
  */
 @DisplayName("PATCH updates only sent fields, others unchanged")
 class PatchUpdatesOnlySentFieldsOthersUnchangedTest extends BaseApiTest {
@@ -28,11 +28,6 @@ class PatchUpdatesOnlySentFieldsOthersUnchangedTest extends BaseApiTest {
     public static final String TEST_CASE_SPEC_PATH =
             "rest-api-tests/patch-update/patch_updates_only_sent_fields_others_unchanged/TEST_CASE.md";
 
-    /** HTTP header name for Bearer token. */
-    private static final String AUTH_HEADER = "Authorization";
-    /** Prefix for the Authorization header value (Bearer &lt;token&gt;). */
-    private static final String BEARER_PREFIX = "Bearer ";
-
     @Test
     @DisplayName("PATCH only status leaves name and email unchanged")
     void patch_updatesOnlySentFieldsOthersUnchanged() {
@@ -40,33 +35,25 @@ class PatchUpdatesOnlySentFieldsOthersUnchangedTest extends BaseApiTest {
         Assumptions.assumeTrue(ApiConfig.getCreateEndpoint().isPresent(), "PROTECTED_ENDPOINT must be set");
         Assumptions.assumeTrue(ApiConfig.getAuthToken().isPresent(), "AUTH_TOKEN required");
 
-        String basePath = ApiConfig.getCreateEndpoint().map(p -> p.startsWith("/") ? p : "/" + p).orElseThrow();
-        Header authHeader = new Header(AUTH_HEADER, BEARER_PREFIX + ApiConfig.getAuthToken().orElseThrow());
-
-        String name = "Patch Only Fields";
-        String email = "patch-only-" + System.currentTimeMillis() + "@example.com";
-        Response createRes = given().spec(baseSpec).header(authHeader)
-                .body("{\"name\":\"" + name + "\",\"email\":\"" + email + "\",\"gender\":\"male\",\"status\":\"active\"}")
-                .when().post(basePath);
-        Assumptions.assumeTrue(createRes.getStatusCode() == 201, "Create must succeed");
-        Object id = createRes.path("id");
-        Assumptions.assumeTrue(id != null, "Create response must contain id");
+        Fixture fixture = FixturePool.checkout().orElse(null);
+        Assumptions.assumeTrue(fixture != null, "Fixture resource must be available (create must succeed)");
+        String path = fixture.getPath();
 
-        String path = basePath + "/" + id;
+        Map<String, Object> before = given().spec(authSpec).when().get(path).then().statusCode(equalTo(200)).extract().body().jsonPath().getMap("$");
+        assertNotNull(before);
 
         given()
-                .spec(baseSpec)
-                .header(authHeader)
+                .spec(authSpec)
                 .body("{\"status\":\"inactive\"}")
                 .when()
                 .patch(path)
                 .then()
                 .statusCode(equalTo(200));
 
-        Map<String, Object> after = given().spec(baseSpec).header(authHeader).when().get(path).then().extract().body().jsonPath().getMap("$");
+        Map<String, Object> after = given().spec(authSpec).when().get(path).then().extract().body().jsonPath().getMap("$");
         assertNotNull(after);
         assertEquals("inactive", after.get("status"));
-        assertEquals(name, after.get("name"));
-        assertEquals(email, after.get("email"));
+        assertEquals(before.get("name"), after.get("name"));
+        assertEquals(before.get("email"), after.get("email"));
     }
 }
@@ -2,8 +2,8 @@ package patch_update.patch_valid_partial_body_existing_id_returns_200_and_update
 
 import api.BaseApiTest;
 import api.config.ApiConfig;
-import io.restassured.http.Header;
-import io.restassured.response.Response;
+import api.fixtures.Fixture;
+import api.fixtures.FixturePool;
 import org.junit.jupiter.api.Assumptions;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -18,7 +18,7 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 
 /**
  * Verifies that PATCH with a valid partial body and an existing resource ID returns 200
- * and that the patched field is updated (e.g. status). Creates a resource via POST,
+ * and that the patched field is updated (e.g. status). Takes a pooled fixture resource,
  * then PATCHes one field and asserts GET returns the new value. Requires BASE_URL,
  * CREATE_ENDPOINT and AUTH_TOKEN.
  */
@@ -29,10 +29,6 @@ class PatchValidPartialBodyExistingIdReturns200AndUpdatedResourceTest extends Ba
     public static final String TEST_CASE_SPEC_PATH =
             "rest-api-tests/patch-update/patch_valid_partial_body_existing_id_returns_200_and_updated_resource/TEST_CASE.md";
 
-    /** HTTP header name for Bearer token. */
-    private static final String AUTH_HEADER = "Authorization";
-    /** Prefix for the Authorization header value (Bearer &lt;token&gt;). */
-    private static final String BEARER_PREFIX = "Bearer ";
     /** Partial update body (single field). */
     private static final String PARTIAL_BODY = "{\"status\":\"inactive\"}";
 
@@ -43,29 +39,19 @@ class PatchValidPartialBodyExistingIdReturns200AndUpdatedResourceTest extends Ba
         Assumptions.assumeTrue(ApiConfig.getCreateEndpoint().isPresent(), "PROTECTED_ENDPOINT must be set");
         Assumptions.assumeTrue(ApiConfig.getAuthToken().isPresent(), "AUTH_TOKEN required");
 
-        String basePath = ApiConfig.getCreateEndpoint().map(p -> p.startsWith("/") ? p : "/" + p).orElseThrow();
-        Header authHeader = new Header(AUTH_HEADER, BEARER_PREFIX + ApiConfig.getAuthToken().orElseThrow());
-
-        String email = "patch-valid-" + System.currentTimeMillis() + "@example.com";
-        Response createRes = given().spec(baseSpec).header(authHeader)
-                .body("{\"name\":\"Patch Test\",\"email\":\"" + email + "\",\"gender\":\"male\",\"status\":\"active\"}")
-                .when().post(basePath);
-        Assumptions.assumeTrue(createRes.getStatusCode() == 201, "Create must succeed");
-        Object id = createRes.path("id");
-        Assumptions.assumeTrue(id != null, "Create response must contain id");
-
-        String path = basePath + "/" + id;
+        Fixture fixture = FixturePool.checkout().orElse(null);
+        Assumptions.assumeTrue(fixture != null, "Fixture resource must be available (create must succeed)");
+        String path = fixture.getPath();
 
         given()
-                .spec(baseSpec)
-                .header(authHeader)
+                .spec(authSpec)
                 .body(PARTIAL_BODY)
                 .when()
                 .patch(path)
                 .then()
                 .statusCode(equalTo(200));
 
-        Map<String, Object> updated = given().spec(baseSpec).header(authHeader).when().get(path).then().extract().body().jsonPath().getMap("$");
+        Map<String, Object> updated = given().spec(authSpec).when().get(path).then().extract().body().jsonPath().getMap("$");
         assertNotNull(updated);
         assertEquals("inactive", updated.get("status"), "Patched field must reflect new value");
     }
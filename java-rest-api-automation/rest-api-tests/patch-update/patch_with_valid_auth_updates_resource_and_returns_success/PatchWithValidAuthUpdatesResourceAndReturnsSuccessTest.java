@@ -2,8 +2,8 @@ package patch_update.patch_with_valid_auth_updates_resource_and_returns_success;
 
 import api.BaseApiTest;
 import api.config.ApiConfig;
-import io.restassured.http.Header;
-import io.restassured.response.Response;
+import api.fixtures.Fixture;
+import api.fixtures.FixturePool;
 import org.junit.jupiter.api.Assumptions;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -13,7 +13,7 @@ import static org.hamcrest.Matchers.equalTo;
 
 /**
  * Verifies that PATCH with valid Bearer authentication updates the resource and returns
- * 200 OK. Creates a resource via POST, then PATCHes with auth. Requires BASE_URL,
+ * 200 OK. Takes a pooled fixture resource, then PATCHes with auth. Requires BASE_URL,
  * CREATE_ENDPOINT and AUTH_TOKEN.
  */
 @DisplayName("PATCH with valid auth updates resource and returns success")
@@ -23,11 +23,6 @@ class PatchWithValidAuthUpdatesResourceAndReturnsSuccessTest extends BaseApiTest
     public static final String TEST_CASE_SPEC_PATH =
             "rest-api-tests/patch-update/patch_with_valid_auth_updates_resource_and_returns_success/TEST_CASE.md";
 
-    /** HTTP header name for Bearer token. */
-    private static final String AUTH_HEADER = "Authorization";
-    /** Prefix for the Authorization header value (Bearer &lt;token&gt;). */
-    private static final String BEARER_PREFIX = "Bearer ";
-
     @Test
     @DisplayName("PATCH with valid auth returns 200 and updates resource")
     void patchWithValidAuth_updatesResourceAndReturnsSuccess() {
@@ -35,22 +30,12 @@ class PatchWithValidAuthUpdatesResourceAndReturnsSuccessTest extends BaseApiTest
         Assumptions.assumeTrue(ApiConfig.getCreateEndpoint().isPresent(), "PROTECTED_ENDPOINT must be set");
         Assumptions.assumeTrue(ApiConfig.getAuthToken().isPresent(), "AUTH_TOKEN required");
 
-        String basePath = ApiConfig.getCreateEndpoint().map(p -> p.startsWith("/") ? p : "/" + p).orElseThrow();
-        Header authHeader = new Header(AUTH_HEADER, BEARER_PREFIX + ApiConfig.getAuthToken().orElseThrow());
-
-        String email = "patch-auth-" + System.currentTimeMillis() + "@example.com";
-        Response createRes = given().spec(baseSpec).header(authHeader)
-                .body("{\"name\":\"Patch Auth\",\"email\":\"" + email + "\",\"gender\":\"male\",\"status\":\"active\"}")
-                .when().post(basePath);
-        Assumptions.assumeTrue(createRes.getStatusCode() == 201, "Create must succeed");
-        Object id = createRes.path("id");
-        Assumptions.assumeTrue(id != null, "Create response must contain id");
-
-        String path = basePath + "/" + id;
+        Fixture fixture = FixturePool.checkout().orElse(null);
+        Assumptions.assumeTrue(fixture != null, "Fixture resource must be available (create must succeed)");
+        String path = fixture.getPath();
 
         given()
-                .spec(baseSpec)
-                .header(authHeader)
+                .spec(authSpec)
                 .body("{\"status\":\"inactive\"}")
                 .when()
                 .patch(path)
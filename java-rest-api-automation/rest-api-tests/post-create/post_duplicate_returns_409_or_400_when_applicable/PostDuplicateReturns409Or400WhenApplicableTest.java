@@ -2,7 +2,6 @@ package post_create.post_duplicate_returns_409_or_400_when_applicable;
 
 import api.BaseApiTest;
 import api.config.ApiConfig;
-import io.restassured.http.Header;
 import io.restassured.response.Response;
 import org.junit.jupiter.api.Assumptions;
 import org.junit.jupiter.api.DisplayName;
@@ -26,11 +25,6 @@ class PostDuplicateReturns409Or400WhenApplicableTest extends BaseApiTest {
     public static final String TEST_CASE_SPEC_PATH =
             "rest-api-tests/post-create/post_duplicate_returns_409_or_400_when_applicable/TEST_CASE.md";
 
-    /** HTTP header name for Bearer token. */
-    private static final String AUTH_HEADER = "Authorization";
-    /** Prefix for the Authorization header value (Bearer &lt;token&gt;). */
-    private static final String BEARER_PREFIX = "Bearer ";
-
     @Test
     @DisplayName("Second POST with same email returns 409 or 400")
     void postDuplicate_returns409Or400WhenApplicable() {
@@ -39,16 +33,14 @@ class PostDuplicateReturns409Or400WhenApplicableTest extends BaseApiTest {
         Assumptions.assumeTrue(ApiConfig.getAuthToken().isPresent(), "AUTH_TOKEN required");
 
         String path = ApiConfig.getCreateEndpoint().map(p -> p.startsWith("/") ? p : "/" + p).orElseThrow();
-        Header authHeader = new Header(AUTH_HEADER, BEARER_PREFIX + ApiConfig.getAuthToken().orElseThrow());
         String email = "post-dup-" + System.currentTimeMillis() + "@example.com";
         String body = "{\"name\":\"Post Duplicate\",\"email\":\"" + email + "\",\"gender\":\"male\",\"status\":\"active\"}";
 
-        Response first = given().spec(baseSpec).header(authHeader).body(body).when().post(path);
+        Response first = given().spec(authSpec).body(body).when().post(path);
         Assumptions.assumeTrue(first.getStatusCode() == 201 || first.getStatusCode() == 200, "First POST must succeed");
 
         int secondStatus = given()
-                .spec(baseSpec)
-                .header(authHeader)
+                .spec(authSpec)
                 .body(body)
                 .when()
                 .post(path)
@@ -2,7 +2,6 @@ package post_create.post_empty_body_returns_400_or_415_when_required;
 
 import api.BaseApiTest;
 import api.config.ApiConfig;
-import io.restassured.http.Header;
 import org.junit.jupiter.api.Assumptions;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -23,10 +22,6 @@ class PostEmptyBodyReturns400Or415WhenRequiredTest extends BaseApiTest {
     public static final String TEST_CASE_SPEC_PATH =
             "rest-api-tests/post-create/post_empty_body_returns_400_or_415_when_required/TEST_CASE.md";
 
-    /** HTTP header name for Bearer token. */
-    private static final String AUTH_HEADER = "Authorization";
-    /** Prefix for the Authorization header value (Bearer &lt;token&gt;). */
-    private static final String BEARER_PREFIX = "Bearer ";
     /** Empty JSON object; API should reject when body is required. */
     private static final String EMPTY_BODY = "{}";
 
@@ -38,11 +33,9 @@ class PostEmptyBodyReturns400Or415WhenRequiredTest extends BaseApiTest {
         Assumptions.assumeTrue(ApiConfig.getAuthToken().isPresent(), "AUTH_TOKEN required");
 
         String path = ApiConfig.getCreateEndpoint().map(p -> p.startsWith("/") ? p : "/" + p).orElseThrow();
-        Header authHeader = new Header(AUTH_HEADER, BEARER_PREFIX + ApiConfig.getAuthToken().orElseThrow());
 
         given()
-                .spec(baseSpec)
-                .header(authHeader)
+                .spec(authSpec)
                 .body(EMPTY_BODY)
                 .when()
                 .post(path)
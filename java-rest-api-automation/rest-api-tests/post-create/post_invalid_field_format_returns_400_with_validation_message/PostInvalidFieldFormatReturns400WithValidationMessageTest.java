@@ -2,7 +2,6 @@ package post_create.post_invalid_field_format_returns_400_with_validation_messag
 
 import api.BaseApiTest;
 import api.config.ApiConfig;
-import io.restassured.http.Header;
 import org.junit.jupiter.api.Assumptions;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -22,10 +21,6 @@ class PostInvalidFieldFormatReturns400WithValidationMessageTest extends BaseApiT
     public static final String TEST_CASE_SPEC_PATH =
             "rest-api-tests/post-create/post_invalid_field_format_returns_400_with_validation_message/TEST_CASE.md";
 
-    /** HTTP header name for Bearer token. */
-    private static final String AUTH_HEADER = "Authorization";
-    /** Prefix for the Authorization header value (Bearer &lt;token&gt;). */
-    private static final String BEARER_PREFIX = "Bearer ";
     /** Invalid email value to trigger format validation. */
     private static final String INVALID_EMAIL = "not-an-email";
 
@@ -37,12 +32,10 @@ class PostInvalidFieldFormatReturns400WithValidationMessageTest extends BaseApiT
         Assumptions.assumeTrue(ApiConfig.getAuthToken().isPresent(), "AUTH_TOKEN required");
 
         String path = ApiConfig.getCreateEndpoint().map(p -> p.startsWith("/") ? p : "/" + p).orElseThrow();
-        Header authHeader = new Header(AUTH_HEADER, BEARER_PREFIX + ApiConfig.getAuthToken().orElseThrow());
         String body = "{\"name\":\"Invalid Email\",\"email\":\"" + INVALID_EMAIL + "\",\"gender\":\"male\",\"status\":\"active\"}";
 
         given()
-                .spec(baseSpec)
-                .header(authHeader)
+                .spec(authSpec)
                 .body(body)
                 .when()
                 .post(path)
@@ -2,7 +2,6 @@ package post_create.post_missing_required_field_returns_400_with_validation_mess
 
 import api.BaseApiTest;
 import api.config.ApiConfig;
-import io.restassured.http.Header;
 import org.junit.jupiter.api.Assumptions;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -23,11 +22,6 @@ class PostMissingRequiredFieldReturns400WithValidationMessageTest extends BaseAp
     public static final String TEST_CASE_SPEC_PATH =
             "rest-api-tests/post-create/post_missing_required_field_returns_400_with_validation_message/TEST_CASE.md";
 
-    /** HTTP header name for Bearer token. */
-    private static final String AUTH_HEADER = "Authorization";
-    /** Prefix for the Authorization header value (Bearer &lt;token&gt;). */
-    private static final String BEARER_PREFIX = "Bearer ";
-
     @Test
     @DisplayName("POST without required email returns 400 or 422")
     void postMissingRequiredField_returns400WithValidationMessage() {
@@ -36,12 +30,10 @@ class PostMissingRequiredFieldReturns400WithValidationMessageTest extends BaseAp
         Assumptions.assumeTrue(ApiConfig.getAuthToken().isPresent(), "AUTH_TOKEN required");
 
         String path = ApiConfig.getCreateEndpoint().map(p -> p.startsWith("/") ? p : "/" + p).orElseThrow();
-        Header authHeader = new Header(AUTH_HEADER, BEARER_PREFIX + ApiConfig.getAuthToken().orElseThrow());
         String body = "{\"name\":\"No Email\",\"gender\":\"male\",\"status\":\"active\"}";
 
         given()
-                .spec(baseSpec)
-                .header(authHeader)
+                .spec(authSpec)
                 .body(body)
                 .when()
                 .post(path)
@@ -2,7 +2,6 @@ package post_create.post_valid_body_returns_201_and_location_header;
 
 import api.BaseApiTest;
 import api.config.ApiConfig;
-import io.restassured.http.Header;
 import io.restassured.response.Response;
 import org.junit.jupiter.api.Assumptions;
 import org.junit.jupiter.api.DisplayName;
@@ -25,10 +24,6 @@ class PostValidBodyReturns201AndLocationHeaderTest extends BaseApiTest {
     public static final String TEST_CASE_SPEC_PATH =
             "rest-api-tests/post-create/post_valid_body_returns_201_and_location_header/TEST_CASE.md";
 
-    /** HTTP header name for Bearer token. */
-    private static final String AUTH_HEADER = "Authorization";
-    /** Prefix for the Authorization header value (Bearer &lt;token&gt;). */
-    private static final String BEARER_PREFIX = "Bearer ";
     /** Response header that may contain the URL of the created resource. */
     private static final String LOCATION_HEADER = "Location";
 
@@ -40,13 +35,11 @@ class PostValidBodyReturns201AndLocationHeaderTest extends BaseApiTest {
         Assumptions.assumeTrue(ApiConfig.getAuthToken().isPresent(), "AUTH_TOKEN required");
 
         String path = ApiConfig.getCreateEndpoint().map(p -> p.startsWith("/") ? p : "/" + p).orElseThrow();
-        Header authHeader = new Header(AUTH_HEADER, BEARER_PREFIX + ApiConfig.getAuthToken().orElseThrow());
         String email = "post-201-" + System.currentTimeMillis() + "@example.com";
         String body = "{\"name\":\"Post 201 Test\",\"email\":\"" + email + "\",\"gender\":\"male\",\"status\":\"active\"}";
 
         Response response = given()
-                .spec(baseSpec)
-                .header(authHeader)
+                .spec(authSpec)
                 .body(body)
                 .when()
                 .post(path)
@@ -2,7 +2,6 @@ package post_create.post_valid_body_returns_created_resource_in_response;
 
 import api.BaseApiTest;
 import api.config.ApiConfig;
-import io.restassured.http.Header;
 import io.restassured.path.json.JsonPath;
 import org.junit.jupiter.api.Assumptions;
 import org.junit.jupiter.api.DisplayName;
@@ -26,11 +25,6 @@ class PostValidBodyReturnsCreatedResourceInResponseTest extends BaseApiTest {
     public static final String TEST_CASE_SPEC_PATH =
             "rest-api-tests/post-create/post_valid_body_returns_created_resource_in_response/TEST_CASE.md";
 
-    /** HTTP header name for Bearer token. */
-    private static final String AUTH_HEADER = "Authorization";
-    /** Prefix for the Authorization header value (Bearer &lt;token&gt;). */
-    private static final String BEARER_PREFIX = "Bearer ";
-
     @Test
     @DisplayName("POST with valid body returns response with id and key fields")
     void postValidBody_returnsCreatedResourceInResponse() {
@@ -39,14 +33,12 @@ class PostValidBodyReturnsCreatedResourceInResponseTest extends BaseApiTest {
         Assumptions.assumeTrue(ApiConfig.getAuthToken().isPresent(), "AUTH_TOKEN required");
 
         String path = ApiConfig.getCreateEndpoint().map(p -> p.startsWith("/") ? p : "/" + p).orElseThrow();
-        Header authHeader = new Header(AUTH_HEADER, BEARER_PREFIX + ApiConfig.getAuthToken().orElseThrow());
         String name = "Post Created Resource";
         String email = "post-created-" + System.currentTimeMillis() + "@example.com";
         String body = "{\"name\":\"" + name + "\",\"email\":\"" + email + "\",\"gender\":\"male\",\"status\":\"active\"}";
 
         JsonPath jsonPath = given()
-                .spec(baseSpec)
-                .header(authHeader)
+                .spec(authSpec)
                 .body(body)
                 .when()
                 .post(path)
@@ -2,7 +2,6 @@ package post_create.post_with_valid_auth_creates_resource_and_returns_success;
 
 import api.BaseApiTest;
 import api.config.ApiConfig;
-import io.restassured.http.Header;
 import org.junit.jupiter.api.Assumptions;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -23,11 +22,6 @@ class PostWithValidAuthCreatesResourceAndReturnsSuccessTest extends BaseApiTest
     public static final String TEST_CASE_SPEC_PATH =
             "rest-api-tests/post-create/post_with_valid_auth_creates_resource_and_returns_success/TEST_CASE.md";
 
-    /** HTTP header name for Bearer token. */
-    private static final String AUTH_HEADER = "Authorization";
-    /** Prefix for the Authorization header value (Bearer &lt;token&gt;). */
-    private static final String BEARER_PREFIX = "Bearer ";
-
     @Test
     @DisplayName("POST with valid auth returns 201 and created resource can be retrieved")
     void postWithValidAuth_createsResourceAndReturnsSuccess() {
@@ -36,13 +30,11 @@ class PostWithValidAuthCreatesResourceAndReturnsSuccessTest extends BaseApiTest
         Assumptions.assumeTrue(ApiConfig.getAuthToken().isPresent(), "AUTH_TOKEN required");
 
         String basePath = ApiConfig.getCreateEndpoint().map(p -> p.startsWith("/") ? p : "/" + p).orElseThrow();
-        Header authHeader = new Header(AUTH_HEADER, BEARER_PREFIX + ApiConfig.getAuthToken().orElseThrow());
         String email = "post-auth-" + System.currentTimeMillis() + "@example.com";
         String body = "{\"name\":\"Post Auth\",\"email\":\"" + email + "\",\"gender\":\"male\",\"status\":\"active\"}";
 
         Object id = given()
-                .spec(baseSpec)
-                .header(authHeader)
+                .spec(authSpec)
                 .body(body)
                 .when()
                 .post(basePath)
@@ -52,6 +44,6 @@ class PostWithValidAuthCreatesResourceAndReturnsSuccessTest extends BaseApiTest
                 .path("id");
 
         Assumptions.assumeTrue(id != null, "Create response must contain id");
-        given().spec(baseSpec).header(authHeader).when().get(basePath + "/" + id).then().statusCode(equalTo(200));
+        given().spec(authSpec).when().get(basePath + "/" + id).then().statusCode(equalTo(200));
     }
 }
@@ -2,7 +2,6 @@ package post_create.post_wrong_content_type_returns_415_or_400;
 
 import api.BaseApiTest;
 import api.config.ApiConfig;
-import io.restassured.http.Header;
 import org.junit.jupiter.api.Assumptions;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -24,10 +23,6 @@ class PostWrongContentTypeReturns415Or400Test extends BaseApiTest {
     public static final String TEST_CASE_SPEC_PATH =
             "rest-api-tests/post-create/post_wrong_content_type_returns_415_or_400/TEST_CASE.md";
 
-    /** HTTP header name for Bearer token. */
-    private static final String AUTH_HEADER = "Authorization";
-    /** Prefix for the Authorization header value (Bearer &lt;token&gt;). */
-    private static final String BEARER_PREFIX = "Bearer ";
     /** Request header to set unsupported media type. */
     private static final String CONTENT_TYPE_HEADER = "Content-Type";
     /** Unsupported value to trigger 415 or 400. */
@@ -41,12 +36,10 @@ class PostWrongContentTypeReturns415Or400Test extends BaseApiTest {
         Assumptions.assumeTrue(ApiConfig.getAuthToken().isPresent(), "AUTH_TOKEN required");
 
         String path = ApiConfig.getCreateEndpoint().map(p -> p.startsWith("/") ? p : "/" + p).orElseThrow();
-        Header authHeader = new Header(AUTH_HEADER, BEARER_PREFIX + ApiConfig.getAuthToken().orElseThrow());
         String body = "{\"name\":\"Wrong CT\",\"email\":\"wrongct-" + System.currentTimeMillis() + "@example.com\",\"gender\":\"male\",\"status\":\"active\"}";
 
         given()
-                .spec(baseSpec)
-                .header(authHeader)
+                .spec(authSpec)
                 .header(CONTENT_TYPE_HEADER, WRONG_CONTENT_TYPE)
                 .body(body)
                 .when()
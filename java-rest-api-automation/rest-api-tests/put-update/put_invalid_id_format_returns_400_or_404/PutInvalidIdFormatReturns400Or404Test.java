@@ -2,7 +2,6 @@ package put_update.put_invalid_id_format_returns_400_or_404;
 
 import api.BaseApiTest;
 import api.config.ApiConfig;
-import io.restassured.http.Header;
 import org.junit.jupiter.api.Assumptions;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -23,10 +22,6 @@ class PutInvalidIdFormatReturns400Or404Test extends BaseApiTest {
     public static final String TEST_CASE_SPEC_PATH =
             "rest-api-tests/put-update/put_invalid_id_format_returns_400_or_404/TEST_CASE.md";
 
-    /** HTTP header name for Bearer token. */
-    private static final String AUTH_HEADER = "Authorization";
-    /** Prefix for the Authorization header value (Bearer &lt;token&gt;). */
-    private static final String BEARER_PREFIX = "Bearer ";
     /** Malformed ID to trigger format validation or route mismatch. */
     private static final String INVALID_ID = "invalid-id-format";
     /** Valid full body; only the path ID is invalid. */
@@ -41,11 +36,9 @@ class PutInvalidIdFormatReturns400Or404Test extends BaseApiTest {
 
         String basePath = ApiConfig.getProtectedEndpoint().map(p -> p.startsWith("/") ? p : "/" + p).orElseThrow();
         String path = basePath + "/" + INVALID_ID;
-        Header authHeader = new Header(AUTH_HEADER, BEARER_PREFIX + ApiConfig.getAuthToken().orElseThrow());
 
         given()
-                .spec(baseSpec)
-                .header(authHeader)
+                .spec(authSpec)
                 .body(FULL_BODY)
                 .when()
                 .put(path)
@@ -2,7 +2,8 @@ package put_update.put_missing_required_fields_returns_400_with_validation_error
 
 import api.BaseApiTest;
 import api.config.ApiConfig;
-import io.restassured.http.Header;
+import api.fixtures.Fixture;
+import api.fixtures.FixturePool;
 import io.restassured.response.Response;
 import org.junit.jupiter.api.Assumptions;
 import org.junit.jupiter.api.DisplayName;
@@ -13,7 +14,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
  * Verifies that PUT with an incomplete body (required fields omitted) returns 400 or
- * 422 when the API requires a full body. Creates a resource, then PUTs with only
+ * 422 when the API requires a full body. Takes a pooled fixture resource, then PUTs with only
  * partial data. If the API allows partial PUT and returns 200, the test is skipped
  * via Assumption. Requires BASE_URL, CREATE_ENDPOINT and AUTH_TOKEN.
  */
@@ -24,10 +25,6 @@ class PutMissingRequiredFieldsReturns400WithValidationErrorsTest extends BaseApi
     public static final String TEST_CASE_SPEC_PATH =
             "rest-api-tests/put-update/put_missing_required_fields_returns_400_with_validation_errors/TEST_CASE.md";
 
-    /** HTTP header name for Bearer token. */
-    private static final String AUTH_HEADER = "Authorization";
-    /** Prefix for the Authorization header value (Bearer &lt;token&gt;). */
-    private static final String BEARER_PREFIX = "Bearer ";
     /** Body with only one field; required fields (e.g. email, gender, status) omitted. */
     private static final String INCOMPLETE_BODY = "{\"name\":\"Only Name\"}";
 
@@ -38,22 +35,12 @@ class PutMissingRequiredFieldsReturns400WithValidationErrorsTest extends BaseApi
         Assumptions.assumeTrue(ApiConfig.getCreateEndpoint().isPresent(), "PROTECTED_ENDPOINT must be set");
         Assumptions.assumeTrue(ApiConfig.getAuthToken().isPresent(), "AUTH_TOKEN required");
 
-        String basePath = ApiConfig.getCreateEndpoint().map(p -> p.startsWith("/") ? p : "/" + p).orElseThrow();
-        Header authHeader = new Header(AUTH_HEADER, BEARER_PREFIX + ApiConfig.getAuthToken().orElseThrow());
-
-        String email = "put-missing-" + System.currentTimeMillis() + "@example.com";
-        Response createRes = given().spec(baseSpec).header(authHeader)
-                .body("{\"name\":\"Put Missing\",\"email\":\"" + email + "\",\"gender\":\"male\",\"status\":\"active\"}")
-                .when().post(basePath);
-        Assumptions.assumeTrue(createRes.getStatusCode() == 201 || createRes.getStatusCode() == 200, "Create must succeed");
-        Object id = createRes.path("id");
-        Assumptions.assumeTrue(id != null, "Create response must contain id");
-
-        String path = basePath + "/" + id;
+        Fixture fixture = FixturePool.checkout().orElse(null);
+        Assumptions.assumeTrue(fixture != null, "Fixture resource must be available (create must succeed)");
+        String path = fixture.getPath();
 
         Response putRes = given()
-                .spec(baseSpec)
-                .header(authHeader)
+                .spec(authSpec)
                 .body(INCOMPLETE_BODY)
                 .when()
                 .put(path);
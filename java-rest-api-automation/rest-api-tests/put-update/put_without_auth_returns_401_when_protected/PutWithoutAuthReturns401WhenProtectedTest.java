@@ -2,8 +2,8 @@ package put_update.put_without_auth_returns_401_when_protected;
 
 import api.BaseApiTest;
 import api.config.ApiConfig;
-import io.restassured.http.Header;
-import io.restassured.response.Response;
+import api.fixtures.Fixture;
+import api.fixtures.FixturePool;
 import org.junit.jupiter.api.Assumptions;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -12,7 +12,7 @@ import static io.restassured.RestAssured.given;
 
 /**
  * Verifies that PUT without an Authorization header returns 401 Unauthorized when the
- * endpoint requires authentication. Creates a resource with auth, then sends PUT with
+ * endpoint requires authentication. Takes a pooled fixture resource, then sends PUT with
  * valid ID and body but no auth; if the endpoint is public and returns 2xx, the test
  * is skipped. Finally asserts with GET (with auth) that the resource was not updated.
  */
@@ -23,11 +23,6 @@ class PutWithoutAuthReturns401WhenProtectedTest extends BaseApiTest {
     public static final String TEST_CASE_SPEC_PATH =
             "rest-api-tests/put-update/put_without_auth_returns_401_when_protected/TEST_CASE.md";
 
-    /** HTTP header name for Bearer token. */
-    private static final String AUTH_HEADER = "Authorization";
-    /** Prefix for the Authorization header value (Bearer &lt;token&gt;). */
-    private static final String BEARER_PREFIX = "Bearer ";
-
     @Test
     @DisplayName("PUT without auth returns 401 when protected")
     void putWithoutAuth_returns401WhenProtected() {
@@ -35,18 +30,10 @@ class PutWithoutAuthReturns401WhenProtectedTest extends BaseApiTest {
         Assumptions.assumeTrue(ApiConfig.getCreateEndpoint().isPresent(), "PROTECTED_ENDPOINT must be set");
         Assumptions.assumeTrue(ApiConfig.getAuthToken().isPresent(), "AUTH_TOKEN required to create resource");
 
-        String basePath = ApiConfig.getCreateEndpoint().map(p -> p.startsWith("/") ? p : "/" + p).orElseThrow();
-        Header authHeader = new Header(AUTH_HEADER, BEARER_PREFIX + ApiConfig.getAuthToken().orElseThrow());
-
-        String email = "put-401-" + System.currentTimeMillis() + "@example.com";
-        Response createRes = given().spec(baseSpec).header(authHeader)
-                .body("{\"name\":\"Put 401\",\"email\":\"" + email + "\",\"gender\":\"male\",\"status\":\"active\"}")
-                .when().post(basePath);
-        Assumptions.assumeTrue(createRes.getStatusCode() == 201 || createRes.getStatusCode() == 200, "Create must succeed");
-        Object id = createRes.path("id");
-        Assumptions.assumeTrue(id != null, "Create response must contain id");
-
-        String path = basePath + "/" + id;
+        Fixture fixture = FixturePool.checkout().orElse(null);
+        Assumptions.assumeTrue(fixture != null, "Fixture resource must be available (create must succeed)");
+        String email = fixture.getEmail();
+        String path = fixture.getPath();
         String fullBody = "{\"name\":\"Put 401\",\"email\":\"" + email + "\",\"gender\":\"male\",\"status\":\"inactive\"}";
 
         int statusCode = given()
@@ -1,11 +1,30 @@
 package api.config;
 
+import api.stub.StubServer;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 
 /**
- * API configuration from environment variables and optional .env file.
- * Values are read in this order: 1) system environment, 2) .env file (if present in project root).
+ * API configuration from environment variables, system properties and optional .env files.
+ * Values are resolved once into an immutable {@link ConfigSnapshot}, in this order of precedence:
+ * 1) system environment, 2) system properties (-DKEY=value), 3) .env.&lt;CONFIG_PROFILE&gt;, 4) .env.
+ * The .env files are searched upward from the working directory (the nearest one wins).
+ * Keys listed in CONFIG_REQUIRED (comma-separated) must be set, and numeric keys must parse;
+ * otherwise the first config access fails with a message listing every problem.
  * No secrets or URLs are hardcoded.
+ * <p>
+ * When STUB_SERVER=true, the embedded {@link StubServer} is started and supplies BASE_URL, tokens and
+ * endpoint keys (its values win over env/.env), so the suite runs offline.
  */
 public final class ApiConfig {
 
@@ -19,17 +38,182 @@ public final class ApiConfig {
     private static final String CONFLICT_RESOURCE_ID_KEY = "CONFLICT_RESOURCE_ID";
     private static final String RESPONSE_TIMEOUT_MS_KEY = "RESPONSE_TIMEOUT_MS";
     private static final String ERROR_5XX_ENDPOINT_KEY = "ERROR_5XX_ENDPOINT";
+    private static final String HTTP_MAX_CONNECTIONS_TOTAL_KEY = "HTTP_MAX_CONNECTIONS_TOTAL";
+    private static final String HTTP_MAX_CONNECTIONS_PER_ROUTE_KEY = "HTTP_MAX_CONNECTIONS_PER_ROUTE";
+    private static final String HTTP_KEEP_ALIVE_MS_KEY = "HTTP_KEEP_ALIVE_MS";
+    private static final String HTTP_IDLE_EVICTION_MS_KEY = "HTTP_IDLE_EVICTION_MS";
+    private static final String HTTP_TIMEOUT_MS_KEY = "HTTP_TIMEOUT_MS";
+    private static final String HTTP2_KEY = "HTTP2";
+    private static final String SLA_WARMUP_REQUESTS_KEY = "SLA_WARMUP_REQUESTS";
+    private static final String SLA_SAMPLE_REQUESTS_KEY = "SLA_SAMPLE_REQUESTS";
+    private static final String SLA_P95_MS_KEY = "SLA_P95_MS";
+    private static final String SLA_P99_MS_KEY = "SLA_P99_MS";
+    private static final String LOAD_RPS_KEY = "LOAD_RPS";
+    private static final String LOAD_DURATION_SECONDS_KEY = "LOAD_DURATION_SECONDS";
+    private static final String LOAD_MAX_CONCURRENCY_KEY = "LOAD_MAX_CONCURRENCY";
+    private static final String LOAD_SCENARIOS_KEY = "LOAD_SCENARIOS";
+    private static final String LOAD_MAX_ERROR_RATE_KEY = "LOAD_MAX_ERROR_RATE";
+    private static final String PAGINATION_STYLE_KEY = "PAGINATION_STYLE";
+    private static final String PAGINATION_PER_PAGE_KEY = "PAGINATION_PER_PAGE";
+    private static final String PAGINATION_MAX_PAGES_KEY = "PAGINATION_MAX_PAGES";
+    private static final String PAGINATION_ORDER_KEY = "PAGINATION_ORDER";
+    private static final String FIXTURE_POOL_SIZE_KEY = "FIXTURE_POOL_SIZE";
+    private static final String FIXTURE_SEED_CONCURRENCY_KEY = "FIXTURE_SEED_CONCURRENCY";
+    private static final String CONCURRENCY_REQUESTS_KEY = "CONCURRENCY_REQUESTS";
+    private static final String COMPRESSION_MIN_BYTES_KEY = "COMPRESSION_MIN_BYTES";
+    private static final String PAYLOAD_BUDGET_PERCENT_KEY = "PAYLOAD_BUDGET_PERCENT";
+    private static final String CASSETTE_MODE_KEY = "CASSETTE_MODE";
+    private static final String CASSETTE_STRICT_KEY = "CASSETTE_STRICT";
+    private static final String CASSETTE_DIR_KEY = "CASSETTE_DIR";
+    private static final String RETRY_MAX_ATTEMPTS_KEY = "RETRY_MAX_ATTEMPTS";
+    private static final String RETRY_BASE_DELAY_MS_KEY = "RETRY_BASE_DELAY_MS";
+    private static final String RETRY_MAX_DELAY_MS_KEY = "RETRY_MAX_DELAY_MS";
+    private static final String RETRY_STATUSES_KEY = "RETRY_STATUSES";
+    private static final String CIRCUIT_FAILURE_THRESHOLD_KEY = "CIRCUIT_FAILURE_THRESHOLD";
+    private static final String CIRCUIT_OPEN_MS_KEY = "CIRCUIT_OPEN_MS";
+    private static final String CONFIG_PROFILE_KEY = "CONFIG_PROFILE";
+    private static final String CONFIG_REQUIRED_KEY = "CONFIG_REQUIRED";
+    private static final String ENV_FILE = ".env";
+    private static final String STUB_KEY_PREFIX = "STUB_";
+    private static final String STUB_SERVER_KEY = "STUB_SERVER";
+    private static final String STUB_LATENCY_MS_KEY = "STUB_LATENCY_MS";
+    private static final String STUB_ERROR_STATUS_KEY = "STUB_ERROR_STATUS";
+    private static final String STUB_FAILURE_RATE_KEY = "STUB_FAILURE_RATE";
+    private static final String STUB_SEED_USERS_KEY = "STUB_SEED_USERS";
+
+    /** Keys whose values must be whole numbers. */
+    private static final Set<String> LONG_KEYS = Set.of(
+            RESPONSE_TIMEOUT_MS_KEY, HTTP_MAX_CONNECTIONS_TOTAL_KEY, HTTP_MAX_CONNECTIONS_PER_ROUTE_KEY,
+            HTTP_KEEP_ALIVE_MS_KEY, HTTP_IDLE_EVICTION_MS_KEY, HTTP_TIMEOUT_MS_KEY, SLA_WARMUP_REQUESTS_KEY, SLA_SAMPLE_REQUESTS_KEY,
+            LOAD_RPS_KEY, LOAD_DURATION_SECONDS_KEY, LOAD_MAX_CONCURRENCY_KEY,
+            PAGINATION_PER_PAGE_KEY, PAGINATION_MAX_PAGES_KEY, FIXTURE_POOL_SIZE_KEY, FIXTURE_SEED_CONCURRENCY_KEY,
+            CONCURRENCY_REQUESTS_KEY, COMPRESSION_MIN_BYTES_KEY, PAYLOAD_BUDGET_PERCENT_KEY,
+            RETRY_MAX_ATTEMPTS_KEY, RETRY_BASE_DELAY_MS_KEY, RETRY_MAX_DELAY_MS_KEY,
+            CIRCUIT_FAILURE_THRESHOLD_KEY, CIRCUIT_OPEN_MS_KEY,
+            STUB_LATENCY_MS_KEY, STUB_ERROR_STATUS_KEY, STUB_SEED_USERS_KEY);
+    /** Keys whose values must be decimal numbers. */
+    private static final Set<String> DOUBLE_KEYS = Set.of(LOAD_MAX_ERROR_RATE_KEY, STUB_FAILURE_RATE_KEY);
+    /** Keys whose values must be true or false; anything else (yes, 1, a typo) is an error, not false. */
+    private static final Set<String> BOOLEAN_KEYS = Set.of(HTTP2_KEY, CASSETTE_STRICT_KEY, STUB_SERVER_KEY);
+    /** System properties that look like config keys (e.g. -DBASE_URL=...), as opposed to java.* / maven.* properties. */
+    private static final Pattern KEY_PATTERN = Pattern.compile("[A-Z][A-Z0-9_]*");
+
+    private static volatile ConfigSnapshot snapshot;
+    /** Per-environment snapshot bound by {@link #runWith}; inherited by threads the bound thread starts. */
+    private static final InheritableThreadLocal<ConfigSnapshot> BOUND = new InheritableThreadLocal<>();
 
     private ApiConfig() {
     }
 
+    /**
+     * @return the configuration resolved from all sources, loaded on first use
+     * @throws IllegalStateException when required keys are missing or values are invalid
+     */
+    public static ConfigSnapshot snapshot() {
+        ConfigSnapshot bound = BOUND.get();
+        if (bound != null) {
+            return bound;
+        }
+        ConfigSnapshot current = snapshot;
+        if (current == null) {
+            synchronized (ApiConfig.class) {
+                current = snapshot;
+                if (current == null) {
+                    current = loadSnapshot(null);
+                    snapshot = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    /**
+     * Resolves the configuration of a named environment: .env.&lt;name&gt; applied over env, system
+     * properties and .env, so each environment file fully defines its own BASE_URL, tokens, etc.
+     *
+     * @throws IllegalStateException when .env.&lt;name&gt; does not exist or the result is invalid
+     */
+    public static ConfigSnapshot forEnvironment(String name) {
+        return loadSnapshot(name);
+    }
+
+    /**
+     * Runs the action with {@code config} as the configuration seen by the current thread (and threads it
+     * starts), e.g. to run the suite against several environments concurrently in one JVM.
+     */
+    public static void runWith(ConfigSnapshot config, Runnable action) {
+        ConfigSnapshot previous = BOUND.get();
+        BOUND.set(config);
+        try {
+            action.run();
+        } finally {
+            if (previous == null) {
+                BOUND.remove();
+            } else {
+                BOUND.set(previous);
+            }
+        }
+    }
+
+    /**
+     * @param environment named environment whose file wins over all other sources, or null for the
+     *                    default precedence (CONFIG_PROFILE file below env and system properties)
+     */
+    private static ConfigSnapshot loadSnapshot(String environment) {
+        Map<String, String> overrides = new HashMap<>();
+        System.getProperties().stringPropertyNames().stream()
+                .filter(name -> KEY_PATTERN.matcher(name).matches())
+                .forEach(name -> overrides.put(name, System.getProperty(name)));
+        overrides.putAll(System.getenv());
+
+        Path start = Paths.get(System.getProperty("user.dir"));
+        Map<String, String> values = new HashMap<>();
+        EnvLoader.find(start, ENV_FILE).map(EnvLoader::read).ifPresent(values::putAll);
+        String profile = environment != null ? environment
+                : nonBlank(overrides.get(CONFIG_PROFILE_KEY)).orElse(nonBlank(values.get(CONFIG_PROFILE_KEY)).orElse(null));
+        Map<String, String> profileValues = Collections.emptyMap();
+        if (profile != null) {
+            String profileFile = ENV_FILE + "." + profile;
+            Path profilePath = EnvLoader.find(start, profileFile).orElseThrow(() -> new IllegalStateException(
+                    "Invalid API configuration: profile " + profile + " selected but no " + profileFile + " found from " + start));
+            profileValues = EnvLoader.read(profilePath);
+        }
+        if (environment == null) {
+            values.putAll(profileValues);
+        }
+        overrides.forEach((key, value) -> {
+            if (value != null && !value.isBlank()) {
+                values.put(key, value);
+            }
+        });
+        if (environment != null) {
+            values.putAll(profileValues);
+        }
+
+        List<String> required = nonBlank(values.get(CONFIG_REQUIRED_KEY))
+                .map(v -> Arrays.stream(v.split(",")).map(String::trim).filter(k -> !k.isEmpty()).collect(Collectors.toList()))
+                .orElse(Collections.emptyList());
+        return ConfigSnapshot.of(profile, values, ApiConfig::isLongKey, DOUBLE_KEYS, BOOLEAN_KEYS, required);
+    }
+
+    private static boolean isLongKey(String key) {
+        return LONG_KEYS.contains(key) || key.startsWith(SLA_P95_MS_KEY) || key.startsWith(SLA_P99_MS_KEY);
+    }
+
+    private static Optional<String> nonBlank(String value) {
+        return Optional.ofNullable(value).map(String::trim).filter(v -> !v.isEmpty());
+    }
+
     private static String get(String key) {
-        String fromEnv = System.getenv(key);
-        if (fromEnv != null && !fromEnv.isBlank()) {
-            return fromEnv.trim();
+        ConfigSnapshot config = snapshot();
+        // STUB_* keys configure the stub itself, so they must never be resolved through it
+        if (!key.startsWith(STUB_KEY_PREFIX) && config.getBoolean(STUB_SERVER_KEY)) {
+            String fromStub = StubServer.getInstance().getProvidedConfig().get(key);
+            if (fromStub != null) {
+                return fromStub;
+            }
         }
-        String fromDotEnv = EnvLoader.getEnvMap().get(key);
-        return fromDotEnv != null && !fromDotEnv.isBlank() ? fromDotEnv.trim() : null;
+        return config.get(key).orElse(null);
     }
 
     /**
@@ -40,9 +224,21 @@ public final class ApiConfig {
     }
 
     /**
-     * Bearer token for authenticated requests. Never logged or exposed.
+     * Value of any key (env, then .env), for config read by collaborators such as {@link OAuthTokenProvider}.
+     */
+    static Optional<String> getValue(String key) {
+        return Optional.ofNullable(get(key)).filter(s -> !s.isEmpty());
+    }
+
+    /**
+     * Bearer token for authenticated requests: AUTH_TOKEN, or a cached OAuth token (see {@link AuthProvider#admin()}).
+     * Never logged or exposed.
      */
     public static Optional<String> getAuthToken() {
+        return AuthProvider.admin().getToken();
+    }
+
+    static Optional<String> getStaticAuthToken() {
         return Optional.ofNullable(get(AUTH_TOKEN_KEY)).filter(s -> !s.isEmpty());
     }
 
@@ -54,9 +250,14 @@ public final class ApiConfig {
     }
 
     /**
-     * Optional token with lower privileges (e.g. user role) for 403 role tests.
+     * Optional token with lower privileges (e.g. user role) for 403 role tests: USER_TOKEN, or a cached
+     * OAuth token (see {@link AuthProvider#user()}).
      */
     public static Optional<String> getUserToken() {
+        return AuthProvider.user().getToken();
+    }
+
+    static Optional<String> getStaticUserToken() {
         return Optional.ofNullable(get(USER_TOKEN_KEY)).filter(s -> !s.isEmpty());
     }
 
@@ -90,17 +291,56 @@ public final class ApiConfig {
         return Optional.ofNullable(get(CONFLICT_RESOURCE_ID_KEY)).filter(s -> !s.isEmpty());
     }
 
+    private static Optional<Long> getLong(String key) {
+        return snapshot().getLong(key);
+    }
+
+    private static Optional<Double> getDouble(String key) {
+        return snapshot().getDouble(key);
+    }
+
     /**
      * Maximum allowed response time in milliseconds for success endpoint (performance test). When not set, test uses default or skips.
      */
     public static Optional<Long> getResponseTimeoutMs() {
-        String v = get(RESPONSE_TIMEOUT_MS_KEY);
-        if (v == null || v.isBlank()) return Optional.empty();
-        try {
-            return Optional.of(Long.parseLong(v.trim()));
-        } catch (NumberFormatException e) {
-            return Optional.empty();
-        }
+        return getLong(RESPONSE_TIMEOUT_MS_KEY);
+    }
+
+    /**
+     * Optional number of warm-up requests sent (and discarded) before latency SLA samples. Default 5.
+     */
+    public static Optional<Integer> getSlaWarmupRequests() {
+        return getLong(SLA_WARMUP_REQUESTS_KEY).map(Long::intValue);
+    }
+
+    /**
+     * Optional number of measured requests for latency SLA checks. Default 50.
+     */
+    public static Optional<Integer> getSlaSampleRequests() {
+        return getLong(SLA_SAMPLE_REQUESTS_KEY).map(Long::intValue);
+    }
+
+    /**
+     * Optional p95 latency threshold in ms for an endpoint (e.g. "GET /users"). The endpoint-specific key
+     * SLA_P95_MS_GET_USERS wins over the global SLA_P95_MS.
+     */
+    public static Optional<Long> getSlaP95Ms(String endpoint) {
+        Optional<Long> specific = getLong(SLA_P95_MS_KEY + "_" + endpointKeySuffix(endpoint));
+        return specific.isPresent() ? specific : getLong(SLA_P95_MS_KEY);
+    }
+
+    /**
+     * Optional p99 latency threshold in ms for an endpoint (e.g. "GET /users"). The endpoint-specific key
+     * SLA_P99_MS_GET_USERS wins over the global SLA_P99_MS.
+     */
+    public static Optional<Long> getSlaP99Ms(String endpoint) {
+        Optional<Long> specific = getLong(SLA_P99_MS_KEY + "_" + endpointKeySuffix(endpoint));
+        return specific.isPresent() ? specific : getLong(SLA_P99_MS_KEY);
+    }
+
+    /** "GET /users/{id}" -> "GET_USERS_ID". */
+    private static String endpointKeySuffix(String endpoint) {
+        return endpoint.toUpperCase().replaceAll("[^A-Z0-9]+", "_").replaceAll("^_+|_+$", "");
     }
 
     /**
@@ -109,4 +349,247 @@ public final class ApiConfig {
     public static Optional<String> getError5xxEndpoint() {
         return Optional.ofNullable(get(ERROR_5XX_ENDPOINT_KEY)).filter(s -> !s.isEmpty());
     }
+
+    /**
+     * Optional maximum number of pooled HTTP connections shared by all tests. When not set, the pool default is used.
+     */
+    public static Optional<Integer> getHttpMaxConnectionsTotal() {
+        return getLong(HTTP_MAX_CONNECTIONS_TOTAL_KEY).map(Long::intValue);
+    }
+
+    /**
+     * Optional maximum number of pooled HTTP connections per route (host:port). When not set, the pool default is used.
+     */
+    public static Optional<Integer> getHttpMaxConnectionsPerRoute() {
+        return getLong(HTTP_MAX_CONNECTIONS_PER_ROUTE_KEY).map(Long::intValue);
+    }
+
+    /**
+     * Optional keep-alive duration in milliseconds for pooled connections when the server sends no Keep-Alive timeout.
+     */
+    public static Optional<Long> getHttpKeepAliveMs() {
+        return getLong(HTTP_KEEP_ALIVE_MS_KEY);
+    }
+
+    /**
+     * Optional idle time in milliseconds after which pooled connections are evicted.
+     */
+    public static Optional<Long> getHttpIdleEvictionMs() {
+        return getLong(HTTP_IDLE_EVICTION_MS_KEY);
+    }
+
+    /**
+     * Optional connect and read timeout in milliseconds for every request, synchronous and async. When not set, 60000.
+     */
+    public static Optional<Long> getHttpTimeoutMs() {
+        return getLong(HTTP_TIMEOUT_MS_KEY);
+    }
+
+    /**
+     * Whether the async client ({@code api.http.AsyncApiClient}) negotiates HTTP/2 (HTTP2=true): ALPN over
+     * TLS, upgrade on plain http, falling back to HTTP/1.1. Default false.
+     */
+    public static boolean isHttp2Enabled() {
+        return snapshot().getBoolean(HTTP2_KEY);
+    }
+
+    /**
+     * Target request rate for load mode (requests per second). When not set, the load test is skipped.
+     */
+    public static Optional<Integer> getLoadRps() {
+        return getLong(LOAD_RPS_KEY).map(Long::intValue);
+    }
+
+    /**
+     * Optional load-mode duration in seconds. Default 30.
+     */
+    public static Optional<Long> getLoadDurationSeconds() {
+        return getLong(LOAD_DURATION_SECONDS_KEY);
+    }
+
+    /**
+     * Optional maximum number of requests in flight during load mode. Default 32.
+     */
+    public static Optional<Integer> getLoadMaxConcurrency() {
+        return getLong(LOAD_MAX_CONCURRENCY_KEY).map(Long::intValue);
+    }
+
+    /**
+     * Optional comma-separated load scenarios (e.g. GET_LIST,GET_BY_ID). Default: all scenarios.
+     */
+    public static Optional<String> getLoadScenarios() {
+        return Optional.ofNullable(get(LOAD_SCENARIOS_KEY)).filter(s -> !s.isEmpty());
+    }
+
+    /**
+     * Optional maximum fraction (0.0-1.0) of failed requests tolerated in load mode. Default 0.01.
+     */
+    public static Optional<Double> getLoadMaxErrorRate() {
+        return getDouble(LOAD_MAX_ERROR_RATE_KEY);
+    }
+
+    /**
+     * Optional pagination style of the list endpoint: PAGE (page/per_page), LINK (Link rel="next")
+     * or CURSOR. Default PAGE.
+     */
+    public static Optional<String> getPaginationStyle() {
+        return Optional.ofNullable(get(PAGINATION_STYLE_KEY)).filter(s -> !s.isEmpty());
+    }
+
+    /**
+     * Optional page size requested while crawling the list endpoint. Default 20.
+     */
+    public static Optional<Integer> getPaginationPerPage() {
+        return getLong(PAGINATION_PER_PAGE_KEY).map(Long::intValue);
+    }
+
+    /**
+     * Optional maximum number of pages crawled (limits traversal of very large collections). Default: no limit.
+     */
+    public static Optional<Integer> getPaginationMaxPages() {
+        return getLong(PAGINATION_MAX_PAGES_KEY).map(Long::intValue);
+    }
+
+    /**
+     * Optional expected id order across pages: ASC, DESC, ANY or AUTO (detected). Default AUTO.
+     */
+    public static Optional<String> getPaginationOrder() {
+        return Optional.ofNullable(get(PAGINATION_ORDER_KEY)).filter(s -> !s.isEmpty());
+    }
+
+    /**
+     * Optional number of user fixtures created before the suite for update/delete tests. Default 16;
+     * 0 creates fixtures only on checkout.
+     */
+    public static Optional<Integer> getFixturePoolSize() {
+        return getLong(FIXTURE_POOL_SIZE_KEY).map(Long::intValue);
+    }
+
+    /**
+     * Optional number of parallel create/delete requests while seeding and sweeping fixtures. Default 8.
+     */
+    public static Optional<Integer> getFixtureSeedConcurrency() {
+        return getLong(FIXTURE_SEED_CONCURRENCY_KEY).map(Long::intValue);
+    }
+
+    /**
+     * Optional number of simultaneous requests the concurrency tests fire at one resource. Default 8.
+     */
+    public static Optional<Integer> getConcurrencyRequests() {
+        return getLong(CONCURRENCY_REQUESTS_KEY).map(Long::intValue);
+    }
+
+    /**
+     * Optional uncompressed size (bytes) from which responses must be compressed when the client accepts it. Default 1024.
+     */
+    public static Optional<Long> getCompressionMinBytes() {
+        return getLong(COMPRESSION_MIN_BYTES_KEY);
+    }
+
+    /**
+     * Optional growth (percent) a response may show over its payload baseline before the size check fails. Default 10.
+     */
+    public static Optional<Long> getPayloadBudgetPercent() {
+        return getLong(PAYLOAD_BUDGET_PERCENT_KEY);
+    }
+
+    /**
+     * Optional number of attempts for idempotent requests that fail transiently (1 disables retries). Default 3.
+     */
+    public static Optional<Integer> getRetryMaxAttempts() {
+        return getLong(RETRY_MAX_ATTEMPTS_KEY).map(Long::intValue);
+    }
+
+    /**
+     * Optional base delay in milliseconds for exponential retry backoff. Default 200.
+     */
+    public static Optional<Long> getRetryBaseDelayMs() {
+        return getLong(RETRY_BASE_DELAY_MS_KEY);
+    }
+
+    /**
+     * Optional upper bound in milliseconds for one retry wait, including Retry-After. Default 5000.
+     */
+    public static Optional<Long> getRetryMaxDelayMs() {
+        return getLong(RETRY_MAX_DELAY_MS_KEY);
+    }
+
+    /**
+     * Optional comma-separated status codes that are retried. Default 429,502,503,504.
+     */
+    public static Optional<String> getRetryStatuses() {
+        return Optional.ofNullable(get(RETRY_STATUSES_KEY)).filter(s -> !s.isEmpty());
+    }
+
+    /**
+     * Optional number of consecutive failed requests to one host that opens its circuit. Default 5.
+     */
+    public static Optional<Integer> getCircuitFailureThreshold() {
+        return getLong(CIRCUIT_FAILURE_THRESHOLD_KEY).map(Long::intValue);
+    }
+
+    /**
+     * Optional time in milliseconds an open circuit rejects requests before a trial request. Default 30000.
+     */
+    public static Optional<Long> getCircuitOpenMs() {
+        return getLong(CIRCUIT_OPEN_MS_KEY);
+    }
+
+    /**
+     * Optional HTTP cassette mode: RECORD saves every response, REPLAY answers from the saved ones.
+     * Default: off.
+     */
+    public static Optional<String> getCassetteMode() {
+        return Optional.ofNullable(get(CASSETTE_MODE_KEY)).filter(s -> !s.isEmpty());
+    }
+
+    /**
+     * Whether replay fails requests that have no recorded response (CASSETTE_STRICT=true) instead of
+     * sending them to the API. Default false.
+     */
+    public static boolean isCassetteStrict() {
+        return snapshot().getBoolean(CASSETTE_STRICT_KEY);
+    }
+
+    /**
+     * Optional directory holding cassettes, one subdirectory per environment. Default "cassettes".
+     */
+    public static Optional<String> getCassetteDir() {
+        return Optional.ofNullable(get(CASSETTE_DIR_KEY)).filter(s -> !s.isEmpty());
+    }
+
+    /**
+     * Whether the embedded stub server should back the suite (STUB_SERVER=true). Default false.
+     */
+    public static boolean isStubServerEnabled() {
+        return snapshot().getBoolean(STUB_SERVER_KEY);
+    }
+
+    /**
+     * Optional artificial latency in milliseconds added by the stub server to every response.
+     */
+    public static Optional<Long> getStubLatencyMs() {
+        return getLong(STUB_LATENCY_MS_KEY);
+    }
+
+    /**
+     * Optional status code returned by the stub server's 5xx endpoint. Default 500.
+     */
+    public static Optional<Integer> getStubErrorStatus() {
+        return getLong(STUB_ERROR_STATUS_KEY).map(Long::intValue);
+    }
+
+    /**
+     * Optional fraction (0.0-1.0) of stub resource requests answered with 503. Default 0.
+     */
+    public static Optional<Double> getStubFailureRate() {
+        return getDouble(STUB_FAILURE_RATE_KEY);
+    }
+
+    /**
+     * Optional number of users the stub server creates at startup. Default 25.
+     */
+    public static Optional<Integer> getStubSeedUsers() {
+        return getLong(STUB_SEED_USERS_KEY).map(Long::intValue);
+    }
 }
@@ -0,0 +1,40 @@
+package api.config;
+
+import java.util.Optional;
+
+/**
+ * Source of bearer tokens for one role. Implementations are thread-safe and shared by all tests,
+ * so parallel workers reuse one cached token instead of logging in per test.
+ * <p>
+ * {@link #admin()} backs AUTH_TOKEN and {@link #user()} backs USER_TOKEN: a static token from config
+ * wins when set; otherwise, when OAUTH_TOKEN_URL is configured, tokens are fetched with the
+ * client-credentials or password grant and refreshed shortly before they expire.
+ */
+public interface AuthProvider {
+
+    /**
+     * @return a currently valid token, or empty when this role is not configured
+     */
+    Optional<String> getToken();
+
+    /**
+     * Drops any cached token so the next {@link #getToken()} fetches a new one. The REST test clients call it
+     * when a request carrying this provider's token gets 401, then retry once with the new token.
+     */
+    default void invalidate() {
+    }
+
+    /**
+     * Provider for the full-privilege token (AUTH_TOKEN, or OAUTH_* settings).
+     */
+    static AuthProvider admin() {
+        return AuthProviders.ADMIN.get();
+    }
+
+    /**
+     * Provider for the low-privilege token (USER_TOKEN, or OAUTH_USER_* settings).
+     */
+    static AuthProvider user() {
+        return AuthProviders.USER.get();
+    }
+}
@@ -0,0 +1,41 @@
+package api.config;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Lazily created {@link AuthProvider} instances per role and configuration snapshot, so every
+ * environment of a multi-environment run keeps its own tokens.
+ */
+final class AuthProviders {
+
+    /** Role settings use OAUTH_CLIENT_ID, OAUTH_USERNAME, ... */
+    private static final String ADMIN_PREFIX = "OAUTH_";
+    /** Role settings use OAUTH_USER_CLIENT_ID, OAUTH_USER_USERNAME, ... */
+    private static final String USER_PREFIX = "OAUTH_USER_";
+
+    static final Supplier<AuthProvider> ADMIN = perSnapshot(() -> create(ApiConfig.getStaticAuthToken(), ADMIN_PREFIX));
+    static final Supplier<AuthProvider> USER = perSnapshot(() -> create(ApiConfig.getStaticUserToken(), USER_PREFIX));
+
+    private AuthProviders() {
+    }
+
+    private static AuthProvider create(Optional<String> staticToken, String prefix) {
+        if (staticToken.isPresent()) {
+            return () -> staticToken;
+        }
+        Optional<OAuthTokenProvider> oauth = OAuthTokenProvider.fromConfig(prefix);
+        if (oauth.isPresent()) {
+            return new CachingAuthProvider(oauth.get());
+        }
+        return Optional::empty;
+    }
+
+    /** Snapshots are compared by identity; there is one per environment. */
+    private static <T> Supplier<T> perSnapshot(Supplier<T> factory) {
+        Map<ConfigSnapshot, T> instances = new ConcurrentHashMap<>();
+        return () -> instances.computeIfAbsent(ApiConfig.snapshot(), snapshot -> factory.get());
+    }
+}
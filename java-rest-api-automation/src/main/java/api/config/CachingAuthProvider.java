@@ -0,0 +1,47 @@
+package api.config;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * Caches tokens from an {@link OAuthTokenProvider} until shortly before expiry. Reads are lock-free;
+ * only one thread fetches when the token is missing or about to expire, the others wait for it.
+ */
+final class CachingAuthProvider implements AuthProvider {
+
+    /** Refresh this long before the server-reported expiry, so in-flight requests never carry an expired token. */
+    private static final Duration REFRESH_BEFORE_EXPIRY = Duration.ofSeconds(30);
+
+    private final OAuthTokenProvider source;
+    private volatile OAuthTokenProvider.Token cached;
+
+    CachingAuthProvider(OAuthTokenProvider source) {
+        this.source = source;
+    }
+
+    @Override
+    public Optional<String> getToken() {
+        OAuthTokenProvider.Token token = cached;
+        if (token == null || token.expiresBefore(Instant.now().plus(REFRESH_BEFORE_EXPIRY))) {
+            token = refresh(token);
+        }
+        return Optional.of(token.value);
+    }
+
+    @Override
+    public void invalidate() {
+        cached = null;
+    }
+
+    private synchronized OAuthTokenProvider.Token refresh(OAuthTokenProvider.Token stale) {
+        OAuthTokenProvider.Token current = cached;
+        if (current != null && current != stale
+                && !current.expiresBefore(Instant.now().plus(REFRESH_BEFORE_EXPIRY))) {
+            return current;
+        }
+        current = source.fetch();
+        cached = current;
+        return current;
+    }
+}
@@ -0,0 +1,121 @@
+package api.config;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Predicate;
+
+/**
+ * Immutable, fully resolved configuration: trimmed string values plus numeric values parsed once.
+ * Built by {@link ApiConfig} from its layered sources; safe to share across parallel test threads.
+ * Construction fails fast with one message listing every missing required key and every value that
+ * does not parse as its declared type.
+ */
+public final class ConfigSnapshot {
+
+    /** Name used when no profile is selected. */
+    public static final String DEFAULT_NAME = "default";
+
+    private final String profile;
+    private final Map<String, String> values;
+    private final Map<String, Long> longs;
+    private final Map<String, Double> doubles;
+
+    private ConfigSnapshot(String profile, Map<String, String> values, Map<String, Long> longs, Map<String, Double> doubles) {
+        this.profile = profile;
+        this.values = values;
+        this.longs = longs;
+        this.doubles = doubles;
+    }
+
+    /**
+     * @param profile   selected profile, or null
+     * @param raw       merged key/value pairs (blank values are dropped, others trimmed)
+     * @param isLongKey keys whose value must be an integer
+     * @param doubleKeys keys whose value must be a decimal number
+     * @param booleanKeys keys whose value must be true or false (any case)
+     * @param required  keys that must be present
+     * @throws IllegalStateException listing every missing or invalid key
+     */
+    static ConfigSnapshot of(String profile, Map<String, String> raw, Predicate<String> isLongKey,
+                             Set<String> doubleKeys, Set<String> booleanKeys, Collection<String> required) {
+        Map<String, String> values = new HashMap<>();
+        raw.forEach((key, value) -> {
+            if (value != null && !value.isBlank()) {
+                values.put(key, value.trim());
+            }
+        });
+
+        List<String> errors = new ArrayList<>();
+        for (String key : required) {
+            if (!values.containsKey(key)) {
+                errors.add("missing " + key);
+            }
+        }
+        Map<String, Long> longs = new HashMap<>();
+        Map<String, Double> doubles = new HashMap<>();
+        new TreeMap<>(values).forEach((key, value) -> {
+            try {
+                if (isLongKey.test(key)) {
+                    longs.put(key, Long.parseLong(value));
+                } else if (doubleKeys.contains(key)) {
+                    doubles.put(key, Double.parseDouble(value));
+                } else if (booleanKeys.contains(key)
+                        && !value.equalsIgnoreCase("true") && !value.equalsIgnoreCase("false")) {
+                    errors.add(key + "='" + value + "' is not true or false");
+                }
+            } catch (NumberFormatException e) {
+                errors.add(key + "='" + value + "' is not a " + (isLongKey.test(key) ? "whole number" : "number"));
+            }
+        });
+        if (!errors.isEmpty()) {
+            throw new IllegalStateException("Invalid API configuration"
+                    + (profile == null ? "" : " (profile " + profile + ")") + ": " + String.join(", ", errors));
+        }
+        return new ConfigSnapshot(profile, Collections.unmodifiableMap(values),
+                Collections.unmodifiableMap(longs), Collections.unmodifiableMap(doubles));
+    }
+
+    /**
+     * @return the profile whose .env.&lt;profile&gt; file was applied, if any
+     */
+    public Optional<String> getProfile() {
+        return Optional.ofNullable(profile);
+    }
+
+    /**
+     * @return the profile name, or {@value #DEFAULT_NAME}; used to partition results per environment
+     */
+    public String getName() {
+        return profile == null ? DEFAULT_NAME : profile;
+    }
+
+    public Optional<String> get(String key) {
+        return Optional.ofNullable(values.get(key));
+    }
+
+    public Optional<Long> getLong(String key) {
+        return Optional.ofNullable(longs.get(key));
+    }
+
+    public Optional<Double> getDouble(String key) {
+        return Optional.ofNullable(doubles.get(key));
+    }
+
+    public boolean getBoolean(String key) {
+        return Boolean.parseBoolean(values.get(key));
+    }
+
+    /**
+     * @return all resolved values (read-only)
+     */
+    public Map<String, String> asMap() {
+        return values;
+    }
+}
@@ -3,32 +3,33 @@ package api.config;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.Paths;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Stream;
 
 /**
- * Loads key=value pairs from a .env file into a map. Used by {@link ApiConfig} so that
- * variables can be set in .env (project root) without exporting them in the shell.
- * Values from .env are overridden by real environment variables if both are set.
+ * Loads key=value pairs from .env-style files into a map. Used by {@link ApiConfig} so that
+ * variables can be set in .env (or .env.&lt;profile&gt;) without exporting them in the shell.
+ * Values from these files are overridden by system properties and real environment variables.
  */
 final class EnvLoader {
 
-    private static final String ENV_FILE = ".env";
-    private static final Map<String, String> LOADED = loadEnvFile();
-
-    static Map<String, String> getEnvMap() {
-        return LOADED;
+    /**
+     * Finds the nearest file with the given name, starting at {@code start} and walking up to the filesystem root.
+     */
+    static Optional<Path> find(Path start, String fileName) {
+        for (Path dir = start.toAbsolutePath(); dir != null; dir = dir.getParent()) {
+            Path candidate = dir.resolve(fileName);
+            if (Files.isRegularFile(candidate)) {
+                return Optional.of(candidate);
+            }
+        }
+        return Optional.empty();
     }
 
-    private static Map<String, String> loadEnvFile() {
-        Path projectRoot = Paths.get(System.getProperty("user.dir"));
-        Path envPath = projectRoot.resolve(ENV_FILE);
-        if (!Files.isRegularFile(envPath)) {
-            return Collections.emptyMap();
-        }
+    static Map<String, String> read(Path envPath) {
         Map<String, String> map = new HashMap<>();
         try (Stream<String> lines = Files.lines(envPath)) {
             lines.forEach(line -> {
@@ -50,7 +51,7 @@ final class EnvLoader {
                 }
             });
         } catch (IOException ignored) {
-            // .env not readable; fall back to System.getenv only
+            // file not readable; fall back to the other sources
         }
         return Collections.unmodifiableMap(map);
     }
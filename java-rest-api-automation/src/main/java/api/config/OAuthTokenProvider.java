@@ -0,0 +1,134 @@
+package api.config;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * Fetches OAuth 2 access tokens from OAUTH_TOKEN_URL with the client-credentials or password grant
+ * (OAUTH_GRANT_TYPE, default client_credentials). Client credentials are sent in the form body.
+ * Role-specific settings use a key prefix, e.g. OAUTH_CLIENT_ID / OAUTH_USER_CLIENT_ID.
+ */
+final class OAuthTokenProvider {
+
+    private static final String TOKEN_URL_KEY = "OAUTH_TOKEN_URL";
+    private static final String GRANT_TYPE_KEY = "OAUTH_GRANT_TYPE";
+    private static final String CLIENT_CREDENTIALS = "client_credentials";
+    private static final String PASSWORD = "password";
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+    /** Tokens without expires_in are treated as valid for this long. */
+    private static final Duration DEFAULT_LIFETIME = Duration.ofHours(1);
+
+    private static final HttpClient HTTP = HttpClient.newBuilder().connectTimeout(TIMEOUT).build();
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final URI tokenUrl;
+    private final Map<String, String> form;
+
+    private OAuthTokenProvider(URI tokenUrl, Map<String, String> form) {
+        this.tokenUrl = tokenUrl;
+        this.form = form;
+    }
+
+    /** Access token and its absolute expiry. */
+    static final class Token {
+        final String value;
+        final Instant expiresAt;
+
+        Token(String value, Instant expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+
+        boolean expiresBefore(Instant instant) {
+            return expiresAt.isBefore(instant);
+        }
+    }
+
+    /**
+     * @param prefix role key prefix, e.g. "OAUTH_" or "OAUTH_USER_"
+     * @return provider when OAUTH_TOKEN_URL and the role's client id (or username for the password grant) are set
+     */
+    static Optional<OAuthTokenProvider> fromConfig(String prefix) {
+        Optional<String> tokenUrl = ApiConfig.getValue(TOKEN_URL_KEY);
+        if (tokenUrl.isEmpty()) {
+            return Optional.empty();
+        }
+        String grantType = ApiConfig.getValue(GRANT_TYPE_KEY).orElse(CLIENT_CREDENTIALS);
+        Map<String, String> form = new LinkedHashMap<>();
+        form.put("grant_type", grantType);
+        ApiConfig.getValue(prefix + "CLIENT_ID").ifPresent(v -> form.put("client_id", v));
+        ApiConfig.getValue(prefix + "CLIENT_SECRET").ifPresent(v -> form.put("client_secret", v));
+        ApiConfig.getValue(prefix + "SCOPE").ifPresent(v -> form.put("scope", v));
+        if (PASSWORD.equals(grantType)) {
+            ApiConfig.getValue(prefix + "USERNAME").ifPresent(v -> form.put("username", v));
+            ApiConfig.getValue(prefix + "PASSWORD").ifPresent(v -> form.put("password", v));
+            if (!form.containsKey("username")) {
+                return Optional.empty();
+            }
+        } else if (!form.containsKey("client_id")) {
+            return Optional.empty();
+        }
+        return Optional.of(new OAuthTokenProvider(URI.create(tokenUrl.get()), form));
+    }
+
+    /**
+     * Requests a new token.
+     *
+     * @throws IllegalStateException when the token endpoint fails or returns no access_token
+     */
+    Token fetch() {
+        String body = form.entrySet().stream()
+                .map(e -> encode(e.getKey()) + "=" + encode(e.getValue()))
+                .collect(Collectors.joining("&"));
+        HttpRequest request = HttpRequest.newBuilder(tokenUrl)
+                .timeout(TIMEOUT)
+                .header("Content-Type", "application/x-www-form-urlencoded")
+                .header("Accept", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+        Instant requestedAt = Instant.now();
+        HttpResponse<String> response;
+        try {
+            response = HTTP.send(request, HttpResponse.BodyHandlers.ofString());
+        } catch (IOException e) {
+            throw new IllegalStateException("Token request to " + tokenUrl + " failed: " + e.getMessage(), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while requesting token from " + tokenUrl, e);
+        }
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("Token request to " + tokenUrl + " returned " + response.statusCode());
+        }
+        try {
+            JsonNode json = MAPPER.readTree(response.body());
+            String accessToken = json.path("access_token").asText("");
+            if (accessToken.isEmpty()) {
+                throw new IllegalStateException("Token response from " + tokenUrl + " has no access_token");
+            }
+            Duration lifetime = json.hasNonNull("expires_in")
+                    ? Duration.ofSeconds(json.get("expires_in").asLong())
+                    : DEFAULT_LIFETIME;
+            return new Token(accessToken, requestedAt.plus(lifetime));
+        } catch (IOException e) {
+            throw new IllegalStateException("Token response from " + tokenUrl + " is not valid JSON", e);
+        }
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,692 @@
+package api.stub;
+
+import api.config.ApiConfig;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.LongPredicate;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * In-process HTTP stub of the API contract in rest-api-tests/RECOMMENDED_API.md (GoREST /users).
+ * Started once per JVM on a random loopback port the first time it is needed; {@link ApiConfig}
+ * points BASE_URL and the related endpoint/token keys at it when STUB_SERVER=true, so the whole
+ * suite runs offline and deterministically.
+ * <p>
+ * Behaviour: paginated, filterable list (page/per_page, X-Pagination-* and Link headers, or with
+ * pagination=cursor an {"items", "next_cursor"} body whose opaque cursor contains +, /, = and &); GET/PUT/
+ * PATCH/DELETE by id; 401 for missing/invalid/expired tokens on protected operations; 403 for the
+ * low-privilege token on the admin endpoint; 404 for unknown or malformed ids; 409 when deleting the
+ * conflict resource; 415 for non-JSON bodies; 422 with field errors for validation failures.
+ * Single resources carry an ETag (its version); PUT/PATCH/DELETE with a non-matching If-Match get 412.
+ * GETs of the list and of single resources send ETag, Last-Modified and Cache-Control ("public, no-cache"
+ * anonymously, "private, no-cache" with a token) and answer If-None-Match / If-Modified-Since with 304;
+ * every other response is "no-store". JSON bodies of at least 1 KiB are gzip-encoded when the request's
+ * Accept-Encoding allows it (ETags then become weak, as the bytes differ per encoding).
+ * Latency (STUB_LATENCY_MS), the status returned by the 5xx endpoint (STUB_ERROR_STATUS) and a random
+ * 503 rate on resource endpoints (STUB_FAILURE_RATE) are configurable.
+ */
+public final class StubServer {
+
+    private static final String USERS_PATH = "/users";
+    private static final String ADMIN_PATH = "/admin/users";
+    private static final String ERROR_5XX_PATH = "/error/5xx";
+
+    private static final String AUTH_HEADER = "Authorization";
+    private static final String BEARER_PREFIX = "Bearer ";
+    private static final String CONTENT_TYPE_HEADER = "Content-Type";
+    private static final String JSON_CONTENT_TYPE = "application/json; charset=utf-8";
+    private static final String ETAG_HEADER = "ETag";
+    private static final String IF_MATCH_HEADER = "If-Match";
+    private static final String IF_NONE_MATCH_HEADER = "If-None-Match";
+    private static final String IF_MODIFIED_SINCE_HEADER = "If-Modified-Since";
+    private static final String LAST_MODIFIED_HEADER = "Last-Modified";
+    private static final String CACHE_CONTROL_HEADER = "Cache-Control";
+    private static final String ACCEPT_ENCODING_HEADER = "Accept-Encoding";
+    private static final String CONTENT_ENCODING_HEADER = "Content-Encoding";
+    /** Smaller bodies are sent as-is: gzip framing would outweigh the saving. */
+    private static final int COMPRESSION_MIN_BYTES = 1024;
+
+    private static final int DEFAULT_PER_PAGE = 10;
+    private static final int MAX_PER_PAGE = 100;
+    private static final String CURSOR_PAGINATION = "cursor";
+    /** Cursor prefix and marker bytes chosen so every cursor needs URL-encoding ("v1&" + "++//..." + "=="). */
+    private static final String CURSOR_PREFIX = "v1&";
+    private static final byte[] CURSOR_MARKER = {(byte) 0xfb, (byte) 0xef, (byte) 0xff};
+    private static final int DEFAULT_SEED_USERS = 25;
+    private static final int DEFAULT_ERROR_STATUS = 500;
+    /** Fixed seed so injected failures are reproducible between runs. */
+    private static final long RANDOM_SEED = 42L;
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private enum Caller { ANONYMOUS, ADMIN, USER, INVALID, EXPIRED }
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final UserStore store = new UserStore();
+    private final String baseUrl;
+    private final Map<String, String> providedConfig;
+    private final String adminToken = "stub-admin-" + UUID.randomUUID();
+    private final String userToken = "stub-user-" + UUID.randomUUID();
+    private final String expiredToken = "stub-expired-" + UUID.randomUUID();
+    private final long conflictId;
+    private final long latencyMs;
+    private final int errorStatus;
+    private final double failureRate;
+    private final Random random = new Random(RANDOM_SEED);
+
+    private StubServer() {
+        this.latencyMs = ApiConfig.getStubLatencyMs().orElse(0L);
+        this.errorStatus = ApiConfig.getStubErrorStatus().orElse(DEFAULT_ERROR_STATUS);
+        this.failureRate = ApiConfig.getStubFailureRate().orElse(0.0);
+        store.seed(ApiConfig.getStubSeedUsers().orElse(DEFAULT_SEED_USERS));
+        this.conflictId = store.firstId().orElse(0L);
+        try {
+            server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not start stub server", e);
+        }
+        executor = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "stub-server-worker");
+            thread.setDaemon(true);
+            return thread;
+        });
+        server.setExecutor(executor);
+        server.createContext("/", this::handle);
+        startOnDaemonThread();
+        baseUrl = "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort();
+        providedConfig = buildProvidedConfig();
+    }
+
+    private static final class Holder {
+        private static final StubServer INSTANCE = new StubServer();
+    }
+
+    /**
+     * @return the stub server for this JVM, started on first call
+     */
+    public static StubServer getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    /**
+     * Config values the stub provides, keyed like ApiConfig keys (BASE_URL, AUTH_TOKEN, PROTECTED_ENDPOINT, ...).
+     */
+    public Map<String, String> getProvidedConfig() {
+        return providedConfig;
+    }
+
+    private Map<String, String> buildProvidedConfig() {
+        Map<String, String> config = new HashMap<>();
+        config.put("BASE_URL", baseUrl);
+        config.put("AUTH_TOKEN", adminToken);
+        config.put("USER_TOKEN", userToken);
+        config.put("EXPIRED_TOKEN", expiredToken);
+        config.put("PROTECTED_ENDPOINT", USERS_PATH);
+        config.put("CREATE_ENDPOINT", USERS_PATH);
+        config.put("ADMIN_ENDPOINT", ADMIN_PATH);
+        config.put("CONFLICT_RESOURCE_ID", String.valueOf(conflictId));
+        config.put("ERROR_5XX_ENDPOINT", ERROR_5XX_PATH);
+        return Collections.unmodifiableMap(config);
+    }
+
+    /**
+     * The HTTP dispatcher thread inherits the daemon flag of the thread that starts the server;
+     * starting from a daemon thread keeps the stub from blocking JVM exit.
+     */
+    private void startOnDaemonThread() {
+        Thread starter = new Thread(server::start, "stub-server-starter");
+        starter.setDaemon(true);
+        starter.start();
+        try {
+            starter.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while starting stub server", e);
+        }
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            if (latencyMs > 0) {
+                Thread.sleep(latencyMs);
+            }
+            route(exchange);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            sendMessage(exchange, 503, "Interrupted");
+        } catch (RuntimeException e) {
+            sendMessage(exchange, 500, "Stub error: " + e.getMessage());
+        }
+    }
+
+    private void route(HttpExchange exchange) throws IOException {
+        String path = exchange.getRequestURI().getPath();
+        if (path.length() > 1 && path.endsWith("/")) {
+            path = path.substring(0, path.length() - 1);
+        }
+        String method = exchange.getRequestMethod();
+
+        if (ERROR_5XX_PATH.equals(path)) {
+            sendMessage(exchange, errorStatus, "Injected server error");
+            return;
+        }
+        Caller caller = caller(exchange);
+        if (caller == Caller.INVALID) {
+            sendMessage(exchange, 401, "Invalid token");
+            return;
+        }
+        if (caller == Caller.EXPIRED) {
+            sendMessage(exchange, 401, "Token expired");
+            return;
+        }
+        if (ADMIN_PATH.equals(path)) {
+            handleAdmin(exchange, method, caller);
+            return;
+        }
+        if (!path.equals(USERS_PATH) && !path.startsWith(USERS_PATH + "/")) {
+            sendMessage(exchange, 404, "Resource not found");
+            return;
+        }
+        if (shouldInjectFailure()) {
+            sendMessage(exchange, 503, "Injected failure");
+            return;
+        }
+        if (USERS_PATH.equals(path)) {
+            handleCollection(exchange, method, caller);
+        } else {
+            handleItem(exchange, method, caller, path.substring(USERS_PATH.length() + 1));
+        }
+    }
+
+    private void handleAdmin(HttpExchange exchange, String method, Caller caller) throws IOException {
+        if (caller == Caller.ANONYMOUS) {
+            sendMessage(exchange, 401, "Authentication failed");
+        } else if (caller == Caller.USER) {
+            sendMessage(exchange, 403, "Forbidden");
+        } else if (!"GET".equals(method)) {
+            sendMessage(exchange, 405, "Method not allowed");
+        } else {
+            sendJson(exchange, 200, toArray(store.list(u -> true)));
+        }
+    }
+
+    private void handleCollection(HttpExchange exchange, String method, Caller caller) throws IOException {
+        if ("GET".equals(method)) {
+            handleList(exchange, caller);
+            return;
+        }
+        if (!"POST".equals(method)) {
+            sendMessage(exchange, 405, "Method not allowed");
+            return;
+        }
+        if (caller == Caller.ANONYMOUS) {
+            sendMessage(exchange, 401, "Authentication failed");
+            return;
+        }
+        Optional<ObjectNode> body = readJsonBody(exchange);
+        if (body.isEmpty()) {
+            return;
+        }
+        UserStore.Result result = store.create(body.get());
+        if (!result.isValid()) {
+            sendErrors(exchange, result.errors);
+            return;
+        }
+        long id = result.resource.get(UserStore.FIELD_ID).asLong();
+        exchange.getResponseHeaders().add("Location", baseUrl + USERS_PATH + "/" + id);
+        exchange.getResponseHeaders().set(ETAG_HEADER, etag(id, result.version));
+        sendJson(exchange, 201, result.resource);
+    }
+
+    private void handleList(HttpExchange exchange, Caller caller) throws IOException {
+        Map<String, String> query = parseQuery(exchange.getRequestURI().getRawQuery());
+        Integer page = parsePositiveInt(query.get("page"), 1);
+        Integer perPage = parsePositiveInt(query.get("per_page"), DEFAULT_PER_PAGE);
+        if (page == null || perPage == null) {
+            sendErrors(exchange, List.of(new UserStore.FieldError(page == null ? "page" : "per_page",
+                    "must be greater than 0")));
+            return;
+        }
+        perPage = Math.min(perPage, MAX_PER_PAGE);
+        if (CURSOR_PAGINATION.equals(query.get("pagination"))) {
+            handleCursorList(exchange, query, perPage);
+            return;
+        }
+
+        List<ObjectNode> all = store.list(listFilter(query));
+        int total = all.size();
+        int pages = Math.max(1, (total + perPage - 1) / perPage);
+        int from = Math.min(total, (page - 1) * perPage);
+        int to = Math.min(total, from + perPage);
+
+        exchange.getResponseHeaders().add("X-Pagination-Total", String.valueOf(total));
+        exchange.getResponseHeaders().add("X-Pagination-Pages", String.valueOf(pages));
+        exchange.getResponseHeaders().add("X-Pagination-Page", String.valueOf(page));
+        exchange.getResponseHeaders().add("X-Pagination-Limit", String.valueOf(perPage));
+        exchange.getResponseHeaders().add("Link", linkHeader(query, page, perPage, pages));
+        ArrayNode body = toArray(all.subList(from, to));
+        sendCacheable(exchange, caller, body, contentEtag(body), store.lastChangeMillis());
+    }
+
+    /**
+     * Cursor-style page: items older than the id in the cursor (the list is newest first), so pages do
+     * not shift when users are created meanwhile. A cursor that does not decode exactly gets 422.
+     */
+    private void handleCursorList(HttpExchange exchange, Map<String, String> query, int perPage) throws IOException {
+        String cursor = query.get("cursor");
+        long before = Long.MAX_VALUE;
+        if (cursor != null) {
+            OptionalLong decoded = decodeCursor(cursor);
+            if (decoded.isEmpty()) {
+                sendErrors(exchange, List.of(new UserStore.FieldError("cursor", "is invalid")));
+                return;
+            }
+            before = decoded.getAsLong();
+        }
+        long limit = before;
+        List<ObjectNode> older = store.list(listFilter(query).and(u -> u.get(UserStore.FIELD_ID).asLong() < limit));
+        List<ObjectNode> items = older.subList(0, Math.min(perPage, older.size()));
+
+        ObjectNode body = MAPPER.createObjectNode();
+        body.set("items", toArray(items));
+        if (older.size() > items.size()) {
+            body.put("next_cursor", encodeCursor(items.get(items.size() - 1).get(UserStore.FIELD_ID).asLong()));
+        } else {
+            body.putNull("next_cursor");
+        }
+        sendJson(exchange, 200, body);
+    }
+
+    private static String encodeCursor(long id) {
+        byte[] digits = String.valueOf(id).getBytes(StandardCharsets.US_ASCII);
+        // Marker plus digits padded to a length of 1 mod 3, so the Base64 always ends in "==".
+        byte[] raw = new byte[CURSOR_MARKER.length + digits.length + Math.floorMod(1 - digits.length, 3)];
+        System.arraycopy(CURSOR_MARKER, 0, raw, 0, CURSOR_MARKER.length);
+        System.arraycopy(digits, 0, raw, CURSOR_MARKER.length, digits.length);
+        return CURSOR_PREFIX + Base64.getEncoder().encodeToString(raw);
+    }
+
+    private static OptionalLong decodeCursor(String cursor) {
+        if (!cursor.startsWith(CURSOR_PREFIX)) {
+            return OptionalLong.empty();
+        }
+        try {
+            byte[] raw = Base64.getDecoder().decode(cursor.substring(CURSOR_PREFIX.length()));
+            if (raw.length <= CURSOR_MARKER.length
+                    || !Arrays.equals(Arrays.copyOf(raw, CURSOR_MARKER.length), CURSOR_MARKER)) {
+                return OptionalLong.empty();
+            }
+            String digits = new String(raw, CURSOR_MARKER.length, raw.length - CURSOR_MARKER.length,
+                    StandardCharsets.US_ASCII).replace("\0", "");
+            return OptionalLong.of(Long.parseLong(digits));
+        } catch (IllegalArgumentException e) {
+            return OptionalLong.empty();
+        }
+    }
+
+    private static Predicate<ObjectNode> listFilter(Map<String, String> query) {
+        Predicate<ObjectNode> filter = u -> true;
+        for (String field : List.of(UserStore.FIELD_NAME, UserStore.FIELD_EMAIL, UserStore.FIELD_GENDER, UserStore.FIELD_STATUS)) {
+            String expected = query.get(field);
+            if (expected != null) {
+                filter = filter.and(u -> expected.equals(u.get(field).asText()));
+            }
+        }
+        return filter;
+    }
+
+    private void handleItem(HttpExchange exchange, String method, Caller caller, String idSegment) throws IOException {
+        long id;
+        try {
+            id = Long.parseLong(idSegment);
+        } catch (NumberFormatException e) {
+            sendMessage(exchange, 404, "Resource not found");
+            return;
+        }
+        Optional<UserStore.Versioned> existing = store.find(id);
+        if (existing.isEmpty()) {
+            sendMessage(exchange, 404, "Resource not found");
+            return;
+        }
+        if ("GET".equals(method)) {
+            UserStore.Versioned current = existing.get();
+            sendCacheable(exchange, caller, current.resource, etag(id, current.version), current.lastModifiedMillis);
+            return;
+        }
+        if (caller == Caller.ANONYMOUS) {
+            sendMessage(exchange, 401, "Authentication failed");
+            return;
+        }
+        switch (method) {
+            case "PUT":
+            case "PATCH":
+                Optional<ObjectNode> body = readJsonBody(exchange);
+                if (body.isEmpty()) {
+                    return;
+                }
+                Optional<UserStore.Result> result = store.update(id, body.get(), "PUT".equals(method), ifMatch(exchange, id));
+                if (result.isEmpty()) {
+                    sendMessage(exchange, 404, "Resource not found");
+                } else if (result.get().preconditionFailed) {
+                    sendMessage(exchange, 412, "Precondition Failed: resource was modified");
+                } else if (!result.get().isValid()) {
+                    sendErrors(exchange, result.get().errors);
+                } else {
+                    exchange.getResponseHeaders().set(ETAG_HEADER, etag(id, result.get().version));
+                    sendJson(exchange, 200, result.get().resource);
+                }
+                return;
+            case "DELETE":
+                if (id == conflictId) {
+                    sendMessage(exchange, 409, "Resource has dependent records and cannot be deleted");
+                    return;
+                }
+                UserStore.DeleteOutcome outcome = store.delete(id, ifMatch(exchange, id));
+                if (outcome == UserStore.DeleteOutcome.DELETED) {
+                    sendEmpty(exchange, 204);
+                } else if (outcome == UserStore.DeleteOutcome.PRECONDITION_FAILED) {
+                    sendMessage(exchange, 412, "Precondition Failed: resource was modified");
+                } else {
+                    sendMessage(exchange, 404, "Resource not found");
+                }
+                return;
+            default:
+                sendMessage(exchange, 405, "Method not allowed");
+        }
+    }
+
+    private Caller caller(HttpExchange exchange) {
+        String header = exchange.getRequestHeaders().getFirst(AUTH_HEADER);
+        if (header == null || header.isBlank()) {
+            return Caller.ANONYMOUS;
+        }
+        String token = header.startsWith(BEARER_PREFIX) ? header.substring(BEARER_PREFIX.length()).trim() : header.trim();
+        if (adminToken.equals(token)) {
+            return Caller.ADMIN;
+        }
+        if (userToken.equals(token)) {
+            return Caller.USER;
+        }
+        return expiredToken.equals(token) ? Caller.EXPIRED : Caller.INVALID;
+    }
+
+    private static String etag(long id, long version) {
+        return "\"" + id + "-" + version + "\"";
+    }
+
+    /** If-Match: absent or "*" accepts any version, otherwise one of the listed ETags must be current. */
+    private static LongPredicate ifMatch(HttpExchange exchange, long id) {
+        String header = exchange.getRequestHeaders().getFirst(IF_MATCH_HEADER);
+        if (header == null || header.isBlank() || "*".equals(header.trim())) {
+            return version -> true;
+        }
+        Set<String> tags = Arrays.stream(header.split(","))
+                .map(String::trim)
+                .collect(Collectors.toSet());
+        return version -> tags.contains(etag(id, version));
+    }
+
+    /** Strong ETag of a representation: hash of its JSON bytes. */
+    private static String contentEtag(JsonNode body) throws IOException {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(MAPPER.writeValueAsBytes(body));
+            StringBuilder hex = new StringBuilder("\"");
+            for (int i = 0; i < 8; i++) {
+                hex.append(String.format("%02x", digest[i]));
+            }
+            return hex.append('"').toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Sends a GET response with validators and Cache-Control, or 304 without a body when the request's
+     * If-None-Match (or, without it, If-Modified-Since) shows the client's copy is current.
+     */
+    private static void sendCacheable(HttpExchange exchange, Caller caller, JsonNode body, String etag,
+                                      long lastModifiedMillis) throws IOException {
+        exchange.getResponseHeaders().set(ETAG_HEADER, etag);
+        exchange.getResponseHeaders().set(LAST_MODIFIED_HEADER, httpDate(lastModifiedMillis));
+        exchange.getResponseHeaders().set(CACHE_CONTROL_HEADER,
+                caller == Caller.ANONYMOUS ? "public, no-cache" : "private, no-cache");
+        if (notModified(exchange, etag, lastModifiedMillis)) {
+            sendBodyless(exchange, 304);
+            return;
+        }
+        sendJson(exchange, 200, body);
+    }
+
+    private static boolean notModified(HttpExchange exchange, String etag, long lastModifiedMillis) {
+        String ifNoneMatch = exchange.getRequestHeaders().getFirst(IF_NONE_MATCH_HEADER);
+        if (ifNoneMatch != null && !ifNoneMatch.isBlank()) {
+            // Weak comparison, as RFC 9110 requires for If-None-Match
+            String current = etag.startsWith("W/") ? etag.substring(2) : etag;
+            return Arrays.stream(ifNoneMatch.split(","))
+                    .map(String::trim)
+                    .map(tag -> tag.startsWith("W/") ? tag.substring(2) : tag)
+                    .anyMatch(tag -> "*".equals(tag) || current.equals(tag));
+        }
+        String ifModifiedSince = exchange.getRequestHeaders().getFirst(IF_MODIFIED_SINCE_HEADER);
+        if (ifModifiedSince != null && !ifModifiedSince.isBlank()) {
+            try {
+                long since = ZonedDateTime.parse(ifModifiedSince.trim(), DateTimeFormatter.RFC_1123_DATE_TIME)
+                        .toInstant().getEpochSecond();
+                return lastModifiedMillis / 1000 <= since;
+            } catch (DateTimeParseException e) {
+                return false;
+            }
+        }
+        return false;
+    }
+
+    private static String httpDate(long epochMillis) {
+        return DateTimeFormatter.RFC_1123_DATE_TIME.format(Instant.ofEpochMilli(epochMillis).atZone(ZoneOffset.UTC));
+    }
+
+    private boolean shouldInjectFailure() {
+        if (failureRate <= 0) {
+            return false;
+        }
+        synchronized (random) {
+            return random.nextDouble() < failureRate;
+        }
+    }
+
+    /** Reads a JSON object body; sends 415/400 and returns empty when the body is not acceptable. */
+    private Optional<ObjectNode> readJsonBody(HttpExchange exchange) throws IOException {
+        String contentType = exchange.getRequestHeaders().getFirst(CONTENT_TYPE_HEADER);
+        if (contentType == null || !contentType.toLowerCase().contains("application/json")) {
+            sendMessage(exchange, 415, "Unsupported Media Type");
+            return Optional.empty();
+        }
+        try (InputStream in = exchange.getRequestBody()) {
+            byte[] bytes = in.readAllBytes();
+            JsonNode node = bytes.length == 0 ? MAPPER.createObjectNode() : MAPPER.readTree(bytes);
+            if (node == null || !node.isObject()) {
+                sendMessage(exchange, 400, "Body must be a JSON object");
+                return Optional.empty();
+            }
+            return Optional.of((ObjectNode) node);
+        } catch (IOException e) {
+            sendMessage(exchange, 400, "Malformed JSON body");
+            return Optional.empty();
+        }
+    }
+
+    private String linkHeader(Map<String, String> query, int page, int perPage, int pages) {
+        Map<String, String> rels = new LinkedHashMap<>();
+        rels.put("first", pageUrl(query, 1, perPage));
+        if (page > 1) {
+            rels.put("prev", pageUrl(query, page - 1, perPage));
+        }
+        if (page < pages) {
+            rels.put("next", pageUrl(query, page + 1, perPage));
+        }
+        rels.put("last", pageUrl(query, pages, perPage));
+        return rels.entrySet().stream()
+                .map(e -> "<" + e.getValue() + ">; rel=\"" + e.getKey() + "\"")
+                .collect(Collectors.joining(", "));
+    }
+
+    private String pageUrl(Map<String, String> query, int page, int perPage) {
+        Map<String, String> params = new LinkedHashMap<>(query);
+        params.put("page", String.valueOf(page));
+        params.put("per_page", String.valueOf(perPage));
+        return baseUrl + USERS_PATH + "?" + params.entrySet().stream()
+                .map(e -> e.getKey() + "=" + e.getValue())
+                .collect(Collectors.joining("&"));
+    }
+
+    private static Map<String, String> parseQuery(String rawQuery) {
+        Map<String, String> params = new LinkedHashMap<>();
+        if (rawQuery == null || rawQuery.isEmpty()) {
+            return params;
+        }
+        for (String pair : rawQuery.split("&")) {
+            int eq = pair.indexOf('=');
+            String key = URLDecoder.decode(eq < 0 ? pair : pair.substring(0, eq), StandardCharsets.UTF_8);
+            String value = eq < 0 ? "" : URLDecoder.decode(pair.substring(eq + 1), StandardCharsets.UTF_8);
+            params.put(key, value);
+        }
+        return params;
+    }
+
+    /** Parses a positive int; returns the default when absent and null when invalid. */
+    private static Integer parsePositiveInt(String value, int defaultValue) {
+        if (value == null || value.isBlank()) {
+            return defaultValue;
+        }
+        try {
+            int parsed = Integer.parseInt(value.trim());
+            return parsed > 0 ? parsed : null;
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static ArrayNode toArray(List<ObjectNode> items) {
+        ArrayNode array = MAPPER.createArrayNode();
+        items.forEach(array::add);
+        return array;
+    }
+
+    private static void sendErrors(HttpExchange exchange, List<UserStore.FieldError> errors) throws IOException {
+        ArrayNode array = MAPPER.createArrayNode();
+        for (UserStore.FieldError error : errors) {
+            array.addObject().put("field", error.field).put("message", error.message);
+        }
+        sendJson(exchange, 422, array);
+    }
+
+    private static void sendMessage(HttpExchange exchange, int status, String message) throws IOException {
+        sendJson(exchange, status, MAPPER.createObjectNode().put("message", message));
+    }
+
+    private static void sendJson(HttpExchange exchange, int status, JsonNode body) throws IOException {
+        byte[] bytes = MAPPER.writeValueAsBytes(body);
+        exchange.getResponseHeaders().set(CONTENT_TYPE_HEADER, JSON_CONTENT_TYPE);
+        noStoreUnlessCacheable(exchange);
+        if (bytes.length >= COMPRESSION_MIN_BYTES) {
+            exchange.getResponseHeaders().set("Vary", ACCEPT_ENCODING_HEADER);
+            if (acceptsGzip(exchange.getRequestHeaders().getFirst(ACCEPT_ENCODING_HEADER))) {
+                bytes = gzip(bytes);
+                exchange.getResponseHeaders().set(CONTENT_ENCODING_HEADER, "gzip");
+                String etag = exchange.getResponseHeaders().getFirst(ETAG_HEADER);
+                if (etag != null && !etag.startsWith("W/")) {
+                    exchange.getResponseHeaders().set(ETAG_HEADER, "W/" + etag);
+                }
+            }
+        }
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    /** Whether gzip is listed, or covered by "*", without q=0; other codings are not supported. */
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        Map<String, Boolean> accepted = new HashMap<>();
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            boolean refused = Arrays.stream(parts).skip(1)
+                    .map(p -> p.replace(" ", ""))
+                    .anyMatch(p -> p.matches("q=0(\\.0*)?"));
+            accepted.put(parts[0].trim().toLowerCase(Locale.ROOT), !refused);
+        }
+        return accepted.getOrDefault("gzip", accepted.getOrDefault("*", false));
+    }
+
+    private static byte[] gzip(byte[] bytes) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length / 4);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(bytes);
+        }
+        return out.toByteArray();
+    }
+
+    private static void sendEmpty(HttpExchange exchange, int status) throws IOException {
+        noStoreUnlessCacheable(exchange);
+        sendBodyless(exchange, status);
+    }
+
+    /**
+     * Sends a response without a body (204, 304). The JDK server finishes such an exchange as soon as the
+     * headers are written and closes the connection when the request body has not been read to the end,
+     * although the response promised keep-alive; a client reusing that pooled socket then gets a
+     * connection reset. Consuming the (usually empty) request body first keeps the connection open.
+     */
+    private static void sendBodyless(HttpExchange exchange, int status) throws IOException {
+        exchange.getRequestBody().close();
+        exchange.sendResponseHeaders(status, -1);
+    }
+
+    /** Errors and mutation results must not be cached by clients or shared caches. */
+    private static void noStoreUnlessCacheable(HttpExchange exchange) {
+        if (!exchange.getResponseHeaders().containsKey(CACHE_CONTROL_HEADER)) {
+            exchange.getResponseHeaders().set(CACHE_CONTROL_HEADER, "no-store");
+        }
+    }
+}
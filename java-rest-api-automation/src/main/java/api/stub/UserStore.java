@@ -0,0 +1,230 @@
+package api.stub;
+
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongPredicate;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * In-memory user resource store behind {@link StubServer}. Mirrors the GoREST /users contract
+ * described in rest-api-tests/RECOMMENDED_API.md: fields id, name, email, gender, status;
+ * unique email; gender male|female; status active|inactive.
+ * <p>
+ * All mutations of a single resource are serialized on the store, so concurrent requests see
+ * consistent results (e.g. exactly one DELETE of an id succeeds). Every resource carries a version,
+ * bumped by each update, that the stub serves as its ETag; updates and deletes can be made
+ * conditional on it (If-Match), checked and applied atomically. Modification times back
+ * Last-Modified for single resources and for the collection.
+ */
+final class UserStore {
+
+    static final String FIELD_ID = "id";
+    static final String FIELD_NAME = "name";
+    static final String FIELD_EMAIL = "email";
+    static final String FIELD_GENDER = "gender";
+    static final String FIELD_STATUS = "status";
+
+    private static final Pattern EMAIL_PATTERN = Pattern.compile("^[^@\\s]+@[^@\\s]+\\.[^@\\s]+$");
+    private static final List<String> GENDERS = List.of("male", "female");
+    private static final List<String> STATUSES = List.of("active", "inactive");
+    private static final long FIRST_ID = 1000L;
+
+    private final Map<Long, Versioned> users = new ConcurrentHashMap<>();
+    private final AtomicLong nextId = new AtomicLong(FIRST_ID);
+    /** Time of the last create, update or delete: the collection's Last-Modified. */
+    private volatile long lastChangeMillis = System.currentTimeMillis();
+
+    /** A resource, its version and modification time; replaced as a whole on update, so readers see a matching set. */
+    static final class Versioned {
+        final ObjectNode resource;
+        final long version;
+        final long lastModifiedMillis;
+
+        private Versioned(ObjectNode resource, long version, long lastModifiedMillis) {
+            this.resource = resource;
+            this.version = version;
+            this.lastModifiedMillis = lastModifiedMillis;
+        }
+    }
+
+    /**
+     * Outcome of a create/update: either the stored resource and its new version, a list of field
+     * errors, or a failed precondition (the resource's version did not match).
+     */
+    static final class Result {
+        final ObjectNode resource;
+        final long version;
+        final List<FieldError> errors;
+        final boolean preconditionFailed;
+
+        private Result(ObjectNode resource, long version, List<FieldError> errors, boolean preconditionFailed) {
+            this.resource = resource;
+            this.version = version;
+            this.errors = errors;
+            this.preconditionFailed = preconditionFailed;
+        }
+
+        private static Result invalid(List<FieldError> errors) {
+            return new Result(null, 0L, errors, false);
+        }
+
+        boolean isValid() {
+            return errors.isEmpty() && !preconditionFailed;
+        }
+    }
+
+    enum DeleteOutcome { DELETED, NOT_FOUND, PRECONDITION_FAILED }
+
+    /** Validation error for a single field (GoREST shape: {"field": ..., "message": ...}). */
+    static final class FieldError {
+        final String field;
+        final String message;
+
+        FieldError(String field, String message) {
+            this.field = field;
+            this.message = message;
+        }
+    }
+
+    void seed(int count) {
+        for (int i = 1; i <= count; i++) {
+            ObjectNode user = JsonNodeFactory.instance.objectNode();
+            user.put(FIELD_NAME, "Seed User " + i);
+            user.put(FIELD_EMAIL, "seed-user-" + i + "@example.com");
+            user.put(FIELD_GENDER, i % 2 == 0 ? "female" : "male");
+            user.put(FIELD_STATUS, i % 3 == 0 ? "inactive" : "active");
+            create(user);
+        }
+    }
+
+    /** Lowest id in the store (first seeded resource), if any. */
+    Optional<Long> firstId() {
+        return users.keySet().stream().min(Long::compare);
+    }
+
+    long lastChangeMillis() {
+        return lastChangeMillis;
+    }
+
+    Optional<Versioned> find(long id) {
+        return Optional.ofNullable(users.get(id)).map(v -> new Versioned(v.resource.deepCopy(), v.version, v.lastModifiedMillis));
+    }
+
+    /** All resources matching the filter, newest first (GoREST ordering). */
+    List<ObjectNode> list(Predicate<ObjectNode> filter) {
+        return users.values().stream()
+                .map(v -> v.resource)
+                .filter(filter)
+                .sorted(Comparator.comparingLong((ObjectNode u) -> u.get(FIELD_ID).asLong()).reversed())
+                .map(ObjectNode::deepCopy)
+                .collect(Collectors.toList());
+    }
+
+    synchronized Result create(ObjectNode body) {
+        List<FieldError> errors = validate(body, true, null);
+        if (!errors.isEmpty()) {
+            return Result.invalid(errors);
+        }
+        long id = nextId.getAndIncrement();
+        ObjectNode user = JsonNodeFactory.instance.objectNode();
+        user.put(FIELD_ID, id);
+        copyFields(body, user);
+        users.put(id, new Versioned(user, 1L, touch()));
+        return new Result(user.deepCopy(), 1L, errors, false);
+    }
+
+    /**
+     * Updates an existing resource. {@code full} = PUT semantics (all fields required),
+     * otherwise PATCH semantics (only sent fields change). Applied only when {@code precondition}
+     * accepts the current version. Returns empty when the id does not exist.
+     */
+    synchronized Optional<Result> update(long id, ObjectNode body, boolean full, LongPredicate precondition) {
+        Versioned existing = users.get(id);
+        if (existing == null) {
+            return Optional.empty();
+        }
+        if (!precondition.test(existing.version)) {
+            return Optional.of(new Result(null, existing.version, List.of(), true));
+        }
+        List<FieldError> errors = validate(body, full, id);
+        if (!errors.isEmpty()) {
+            return Optional.of(Result.invalid(errors));
+        }
+        ObjectNode updated = existing.resource.deepCopy();
+        copyFields(body, updated);
+        long version = existing.version + 1;
+        users.put(id, new Versioned(updated, version, touch()));
+        return Optional.of(new Result(updated.deepCopy(), version, errors, false));
+    }
+
+    /** Deletes the resource when {@code precondition} accepts its current version. */
+    synchronized DeleteOutcome delete(long id, LongPredicate precondition) {
+        Versioned existing = users.get(id);
+        if (existing == null) {
+            return DeleteOutcome.NOT_FOUND;
+        }
+        if (!precondition.test(existing.version)) {
+            return DeleteOutcome.PRECONDITION_FAILED;
+        }
+        users.remove(id);
+        touch();
+        return DeleteOutcome.DELETED;
+    }
+
+    /** Records a change now; callers hold the store lock. */
+    private long touch() {
+        lastChangeMillis = System.currentTimeMillis();
+        return lastChangeMillis;
+    }
+
+    private List<FieldError> validate(ObjectNode body, boolean allRequired, Long selfId) {
+        List<FieldError> errors = new ArrayList<>();
+        for (String field : List.of(FIELD_NAME, FIELD_EMAIL, FIELD_GENDER, FIELD_STATUS)) {
+            boolean present = body.hasNonNull(field) && !body.get(field).asText().isBlank();
+            if (!present) {
+                if (allRequired || body.has(field)) {
+                    errors.add(new FieldError(field, "can't be blank"));
+                }
+                continue;
+            }
+            String value = body.get(field).asText();
+            if (FIELD_EMAIL.equals(field)) {
+                if (!EMAIL_PATTERN.matcher(value).matches()) {
+                    errors.add(new FieldError(field, "is invalid"));
+                } else if (emailTaken(value, selfId)) {
+                    errors.add(new FieldError(field, "has already been taken"));
+                }
+            } else if (FIELD_GENDER.equals(field) && !GENDERS.contains(value)) {
+                errors.add(new FieldError(field, "can't be blank, can be male of female"));
+            } else if (FIELD_STATUS.equals(field) && !STATUSES.contains(value)) {
+                errors.add(new FieldError(field, "can't be blank"));
+            }
+        }
+        return errors;
+    }
+
+    private boolean emailTaken(String email, Long selfId) {
+        return users.values().stream()
+                .map(v -> v.resource)
+                .anyMatch(u -> email.equalsIgnoreCase(u.get(FIELD_EMAIL).asText())
+                        && (selfId == null || u.get(FIELD_ID).asLong() != selfId));
+    }
+
+    private static void copyFields(ObjectNode from, ObjectNode to) {
+        for (String field : List.of(FIELD_NAME, FIELD_EMAIL, FIELD_GENDER, FIELD_STATUS)) {
+            if (from.hasNonNull(field)) {
+                to.put(field, from.get(field).asText());
+            }
+        }
+    }
+}
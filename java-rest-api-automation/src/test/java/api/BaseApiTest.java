@@ -1,32 +1,128 @@
 package api;
 
 import api.config.ApiConfig;
-import io.restassured.RestAssured;
+import api.config.AuthProvider;
+import api.http.AsyncApiClient;
+import api.http.BearerAuthFilter;
+import api.http.BufferResponseBodyFilter;
+import api.http.CassetteFilter;
+import api.http.CassetteScopeResolver;
+import api.http.LatencyRecordingFilter;
+import api.http.PooledHttpClientFactory;
+import api.http.RetryFilter;
 import io.restassured.builder.RequestSpecBuilder;
+import io.restassured.config.RestAssuredConfig;
 import io.restassured.http.ContentType;
 import io.restassured.specification.RequestSpecification;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.TestReporter;
+import org.junit.jupiter.api.extension.ExtendWith;
 
 import java.util.Optional;
 
 /**
- * Base class for REST API tests. Sets base URI and default request spec from config.
- * Tests that require auth or a specific endpoint obtain them via ApiConfig (env).
+ * Base class for REST API tests. Builds a default request spec from config for each test.
+ * Tests that require auth or a specific endpoint obtain them via ApiConfig (env), or use {@link #authSpec}.
+ * <p>
+ * The base URI is set only on the per-test {@link #baseSpec}; the static RestAssured
+ * defaults (e.g. {@code RestAssured.baseURI}) are never written, so tests can run
+ * concurrently (see the {@code parallel} Maven profile). All requests share one pooled,
+ * keep-alive connection manager ({@link PooledHttpClientFactory}), and every request's latency
+ * is recorded per endpoint ({@link LatencyRecordingFilter}) for the end-of-run report. In cassette
+ * mode each test execution's requests are recorded or replayed under its own scope ({@link CassetteScopeResolver}).
+ * Transient failures of idempotent requests are retried ({@link RetryFilter}); each retry is published
+ * as a "retry" report entry of the test (kept in the Surefire XML); retries outside a test go to stderr.
+ * {@link #asyncClient} and {@link #asyncAuthClient} send the same requests without blocking, for flows
+ * whose calls can overlap.
  */
+@ExtendWith(CassetteScopeResolver.class)
 public abstract class BaseApiTest {
 
+    /** Immutable RestAssured config shared by all tests: HTTP client backed by the shared connection pool. */
+    private static final RestAssuredConfig CONFIG = RestAssuredConfig.config()
+            .httpClient(PooledHttpClientFactory.httpClientConfig());
+
     protected RequestSpecification baseSpec;
+    /** {@link #baseSpec} plus the admin bearer token from {@link AuthProvider#admin()}, resolved per request. */
+    protected RequestSpecification authSpec;
+    /** Non-blocking client sharing {@link #baseSpec}'s base URI, headers, retries and cassette scope. */
+    protected AsyncApiClient asyncClient;
+    /** {@link #asyncClient} plus the admin bearer token, like {@link #authSpec}. */
+    protected AsyncApiClient asyncAuthClient;
+    private CassetteFilter cassette;
 
     @BeforeEach
-    void setUpBaseApi() {
+    void setUpBaseApi(CassetteFilter testCassette, TestReporter testReporter) {
+        cassette = testCassette;
+        RetryFilter retry = new RetryFilter(message -> testReporter.publishEntry("retry", message));
+        baseSpec = createSpec(cassette, retry);
+        authSpec = createAuthSpec(AuthProvider.admin(), cassette, retry);
+        asyncClient = new AsyncApiClient(cassette, retry);
+        asyncAuthClient = asyncClient.withAuth(AuthProvider.admin());
+    }
+
+    /**
+     * {@link #baseSpec} without retries or circuit breaker, in the test's cassette scope: for latency
+     * measurements ({@link api.metrics.LatencySla}), where a retried failure would pass and inflate latency.
+     */
+    protected RequestSpecification baseSpecWithoutRetries() {
+        return createSpec(cassette, null);
+    }
+
+    /**
+     * Builds the default spec with an Authorization header taken from the provider at send time, so cached
+     * tokens are refreshed transparently during long runs. {@link #baseSpec} stays unauthenticated for 401 tests.
+     */
+    public static RequestSpecification createAuthSpec(AuthProvider provider) {
+        return createAuthSpec(provider, CassetteFilter.shared(), sharedRetryFilter());
+    }
+
+    private static RequestSpecification createAuthSpec(AuthProvider provider, CassetteFilter cassette, RetryFilter retry) {
+        return new RequestSpecBuilder()
+                .addRequestSpecification(createSpec(cassette, retry))
+                .addFilter(new BearerAuthFilter(provider))
+                .build();
+    }
+
+    /**
+     * Builds the default spec (base URI, JSON content type, shared HTTP client). Also used by the fixture pool.
+     */
+    public static RequestSpecification createBaseSpec() {
+        return createSpec(CassetteFilter.shared(), sharedRetryFilter());
+    }
+
+    /**
+     * Like {@link #createBaseSpec()}, but every request is sent exactly once and no circuit breaker applies:
+     * for measurements (load runs, SLA samples), where a retried 5xx or 429 would count as a success and its
+     * backoff as latency.
+     */
+    public static RequestSpecification createBaseSpecWithoutRetries() {
+        return createSpec(CassetteFilter.shared(), null);
+    }
+
+    /** {@link #createAuthSpec(AuthProvider)} without retries, see {@link #createBaseSpecWithoutRetries()}. */
+    public static RequestSpecification createAuthSpecWithoutRetries(AuthProvider provider) {
+        return createAuthSpec(provider, CassetteFilter.shared(), null);
+    }
+
+    /** Retries outside a test (fixtures) go to stderr, as there is no test report to attach them to. */
+    private static RetryFilter sharedRetryFilter() {
+        return new RetryFilter(message -> System.err.println("[retry] " + message));
+    }
+
+    private static RequestSpecification createSpec(CassetteFilter cassette, RetryFilter retry) {
         Optional<String> baseUrl = ApiConfig.getBaseUrl();
         RequestSpecBuilder builder = new RequestSpecBuilder();
-        baseUrl.ifPresent(url -> {
-            RestAssured.baseURI = url.endsWith("/") ? url.substring(0, url.length() - 1) : url;
-            builder.setBaseUri(RestAssured.baseURI);
-        });
+        builder.setConfig(CONFIG);
+        if (retry != null) {
+            builder.addFilter(retry);
+        }
+        builder.addFilter(cassette);
+        builder.addFilter(new LatencyRecordingFilter());
+        builder.addFilter(new BufferResponseBodyFilter());
+        baseUrl.ifPresent(url -> builder.setBaseUri(url.endsWith("/") ? url.substring(0, url.length() - 1) : url));
         builder.setContentType(ContentType.JSON);
         builder.setAccept(ContentType.JSON);
-        baseSpec = builder.build();
+        return builder.build();
     }
 }
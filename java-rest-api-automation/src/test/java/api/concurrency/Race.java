@@ -0,0 +1,110 @@
+package api.concurrency;
+
+import api.config.ApiConfig;
+import api.config.ConfigSnapshot;
+import api.http.PooledHttpClientFactory;
+import io.restassured.response.Response;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.IntFunction;
+
+/**
+ * Fires requests at the same moment to exercise the server's locking paths. Each request gets its own
+ * thread; all threads wait on a latch until every one of them is ready, then are released together, so
+ * the requests overlap as much as the client allows. Threads see the caller's configuration snapshot.
+ * Every contender opens its own connection ({@link PooledHttpClientFactory#withFreshConnections}), so the
+ * outcome depends on the server's locking and not on which pooled socket a thread happened to reuse.
+ */
+public final class Race {
+
+    private static final int DEFAULT_REQUESTS = 8;
+    private static final long TIMEOUT_SECONDS = 60L;
+
+    private Race() {
+    }
+
+    /** Number of concurrent requests per race: CONCURRENCY_REQUESTS, default 8, at least 2. */
+    public static int requests() {
+        return Math.max(2, ApiConfig.getConcurrencyRequests().orElse(DEFAULT_REQUESTS));
+    }
+
+    /**
+     * Runs {@code request.apply(i)} for i in [0, count) concurrently.
+     *
+     * @return the responses, in index order
+     * @throws IllegalStateException when a request throws or the race does not finish within 60 s
+     */
+    public static List<Response> run(int count, IntFunction<Response> request) {
+        ConfigSnapshot config = ApiConfig.snapshot();
+        CountDownLatch ready = new CountDownLatch(count);
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService threads = Executors.newFixedThreadPool(count, runnable -> {
+            Thread thread = new Thread(runnable, "race");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            List<Future<Response>> futures = new ArrayList<>();
+            for (int i = 0; i < count; i++) {
+                int index = i;
+                futures.add(threads.submit(() -> {
+                    Response[] response = new Response[1];
+                    ApiConfig.runWith(config, () -> {
+                        ready.countDown();
+                        try {
+                            start.await();
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                            throw new IllegalStateException("Interrupted before the race started", e);
+                        }
+                        PooledHttpClientFactory.withFreshConnections(() -> response[0] = request.apply(index));
+                    });
+                    return response[0];
+                }));
+            }
+            if (!ready.await(TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("Race threads did not start within " + TIMEOUT_SECONDS + " s");
+            }
+            start.countDown();
+            List<Response> responses = new ArrayList<>();
+            for (int i = 0; i < count; i++) {
+                try {
+                    responses.add(futures.get(i).get(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+                } catch (ExecutionException e) {
+                    throw new IllegalStateException(
+                            "Request " + i + " of " + count + " in race failed: " + e.getCause(), e.getCause());
+                }
+            }
+            return responses;
+        } catch (TimeoutException e) {
+            throw new IllegalStateException("Race did not finish within " + TIMEOUT_SECONDS + " s", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted during race", e);
+        } finally {
+            threads.shutdownNow();
+        }
+    }
+
+    /** Number of responses with one of the statuses. */
+    public static long count(List<Response> responses, int... statuses) {
+        return responses.stream()
+                .filter(r -> {
+                    for (int status : statuses) {
+                        if (r.getStatusCode() == status) {
+                            return true;
+                        }
+                    }
+                    return false;
+                })
+                .count();
+    }
+}
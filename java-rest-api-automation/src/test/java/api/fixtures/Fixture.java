@@ -0,0 +1,42 @@
+package api.fixtures;
+
+/**
+ * A pre-created user resource handed to one test. Created with gender "male" and status "active";
+ * the test owns it after checkout and may update or delete it.
+ */
+public final class Fixture {
+
+    /** Gender every fixture is created with. */
+    public static final String GENDER = "male";
+    /** Status every fixture is created with. */
+    public static final String STATUS = "active";
+
+    private final String id;
+    private final String path;
+    private final String name;
+    private final String email;
+
+    Fixture(String id, String path, String name, String email) {
+        this.id = id;
+        this.path = path;
+        this.name = name;
+        this.email = email;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    /** Resource path, e.g. /users/1234. */
+    public String getPath() {
+        return path;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+}
@@ -0,0 +1,17 @@
+package api.fixtures;
+
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestPlan;
+
+/**
+ * Sweeps the {@link FixturePool} of the current environment when the test plan finishes, if the run
+ * used one; seeding starts with the first checkout. Registered through META-INF/services; the
+ * multi-environment runner adds it to each environment's launcher.
+ */
+public class FixtureLifecycleListener implements TestExecutionListener {
+
+    @Override
+    public void testPlanExecutionFinished(TestPlan testPlan) {
+        FixturePool.existing().ifPresent(FixturePool::sweep);
+    }
+}
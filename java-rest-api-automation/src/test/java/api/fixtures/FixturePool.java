@@ -0,0 +1,297 @@
+package api.fixtures;
+
+import api.BaseApiTest;
+import api.config.ApiConfig;
+import api.config.AuthProvider;
+import api.config.ConfigSnapshot;
+import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static io.restassured.RestAssured.given;
+
+/**
+ * Pool of user resources for tests that update or delete one. On the first {@link #checkout()} the
+ * pool starts creating FIXTURE_POOL_SIZE users in parallel (FIXTURE_SEED_CONCURRENCY requests at a
+ * time); tests take one instead of POSTing inline, so the create round-trip is off their critical
+ * path. When the pool runs dry, checkout creates a user on the spot. Runs that never check out a
+ * fixture create none.
+ * <p>
+ * Every created id is appended to a ledger (.fixture-ledger/&lt;environment&gt;-&lt;base URL&gt;.ids in
+ * the module directory, override the directory with -Dfixture.ledger.dir) before it is handed out.
+ * The ledger survives mvn clean. {@link #sweep()} deletes all ids in parallel at the end of the run;
+ * ids left by a crashed run are deleted the next time the pool of the same environment and base URL
+ * starts. The embedded stub keeps no ledger, as its users do not outlive the JVM. One pool per
+ * environment.
+ */
+public final class FixturePool {
+
+    private static final String LEDGER_DIR_PROPERTY = "fixture.ledger.dir";
+    private static final String DEFAULT_LEDGER_DIR = ".fixture-ledger";
+    private static final int DEFAULT_POOL_SIZE = 16;
+    private static final int DEFAULT_SEED_CONCURRENCY = 8;
+    private static final long POLL_MILLIS = 50L;
+    private static final long SWEEP_TIMEOUT_SECONDS = 120L;
+    private static final Map<ConfigSnapshot, FixturePool> POOLS = new ConcurrentHashMap<>();
+
+    private final String basePath;
+    private final RequestSpecification authSpec;
+    /** Null for the embedded stub. */
+    private final Path ledger;
+    private final int size;
+    private final ExecutorService workers;
+    private final BlockingQueue<Fixture> available = new LinkedBlockingQueue<>();
+    private final Set<String> created = ConcurrentHashMap.newKeySet();
+    private CompletableFuture<Void> seeding;
+
+    private FixturePool(String environment) {
+        this.basePath = ApiConfig.getCreateEndpoint().map(p -> p.startsWith("/") ? p : "/" + p).orElseThrow();
+        this.authSpec = BaseApiTest.createAuthSpec(AuthProvider.admin());
+        this.ledger = ApiConfig.isStubServerEnabled() ? null : ledgerFile(environment);
+        this.size = ApiConfig.getFixturePoolSize().orElse(DEFAULT_POOL_SIZE);
+        int concurrency = Math.max(1, ApiConfig.getFixtureSeedConcurrency().orElse(DEFAULT_SEED_CONCURRENCY));
+        AtomicInteger threadIndex = new AtomicInteger();
+        this.workers = new ThreadPoolExecutor(concurrency, concurrency, 30L, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), runnable -> {
+                    Thread thread = new Thread(runnable, "fixture-" + environment + "-" + threadIndex.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        ((ThreadPoolExecutor) workers).allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * Whether fixtures can be created: CREATE_ENDPOINT (or PROTECTED_ENDPOINT) and an admin token are set.
+     */
+    public static boolean isEnabled() {
+        return ApiConfig.getBaseUrl().isPresent()
+                && ApiConfig.getCreateEndpoint().isPresent()
+                && ApiConfig.getAuthToken().isPresent();
+    }
+
+    /**
+     * The pool of the current environment, or empty when fixtures are not {@link #isEnabled() enabled}.
+     */
+    public static Optional<FixturePool> current() {
+        if (!isEnabled()) {
+            return Optional.empty();
+        }
+        return Optional.of(POOLS.computeIfAbsent(ApiConfig.snapshot(),
+                snapshot -> new FixturePool(snapshot.getName())));
+    }
+
+    /**
+     * The pool of the current environment if one was already created in this run; never creates one.
+     */
+    static Optional<FixturePool> existing() {
+        return Optional.ofNullable(POOLS.get(ApiConfig.snapshot()));
+    }
+
+    /**
+     * Ledger of the environment against its base URL, so runs of the same environment name against
+     * different servers never delete each other's ids.
+     */
+    private static Path ledgerFile(String environment) {
+        String baseUrl = ApiConfig.getBaseUrl().orElseThrow()
+                .replaceFirst("^[a-zA-Z][a-zA-Z0-9+.-]*://", "")
+                .replaceAll("/+$", "");
+        String key = (environment + "-" + baseUrl).replaceAll("[^A-Za-z0-9._-]", "_");
+        return Paths.get(System.getProperty(LEDGER_DIR_PROPERTY, DEFAULT_LEDGER_DIR), key + ".ids");
+    }
+
+    /**
+     * Takes a fixture for exclusive use by the calling test. Starts seeding on the first call and waits
+     * for seeding in progress; creates one inline when the pool is exhausted. Empty when fixtures are disabled or the create request fails.
+     */
+    public static Optional<Fixture> checkout() {
+        return current().flatMap(FixturePool::take);
+    }
+
+    /**
+     * Deletes leftovers from a previous run's ledger, then starts creating the pool in the background.
+     * Does nothing after the first call.
+     */
+    private synchronized void startSeeding() {
+        if (seeding != null) {
+            return;
+        }
+        List<String> leftovers = readLedger();
+        CompletableFuture<Void> cleanup = leftovers.isEmpty()
+                ? CompletableFuture.completedFuture(null)
+                : CompletableFuture.allOf(leftovers.stream()
+                        .map(id -> CompletableFuture.runAsync(() -> delete(id), workers))
+                        .toArray(CompletableFuture[]::new))
+                .thenRun(this::rewriteLedger);
+        seeding = cleanup.thenCompose(ignored -> CompletableFuture.allOf(IntStream.range(0, size)
+                .mapToObj(i -> CompletableFuture.runAsync(() -> create().ifPresent(available::offer), workers))
+                .toArray(CompletableFuture[]::new)));
+    }
+
+    /**
+     * Blocks until background seeding (if started) has finished, e.g. before a test that needs the
+     * collection to stay unchanged.
+     */
+    public void awaitSeeding() {
+        CompletableFuture<Void> pending;
+        synchronized (this) {
+            pending = seeding;
+        }
+        if (pending != null) {
+            pending.join();
+        }
+    }
+
+    private Optional<Fixture> take() {
+        startSeeding();
+        try {
+            Fixture fixture = available.poll();
+            while (fixture == null && !seeding.isDone()) {
+                fixture = available.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+            }
+            if (fixture == null) {
+                fixture = available.poll();
+            }
+            return fixture != null ? Optional.of(fixture) : create();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Deletes every fixture created by this pool (already deleted ones are ignored) and removes them
+     * from the ledger. Ids whose delete fails stay in the ledger for the next run.
+     */
+    public void sweep() {
+        awaitSeeding();
+        available.clear();
+        List<String> ids = new ArrayList<>(created);
+        CompletableFuture<?>[] deletes = ids.stream()
+                .map(id -> CompletableFuture.runAsync(() -> delete(id), workers))
+                .toArray(CompletableFuture[]::new);
+        try {
+            CompletableFuture.allOf(deletes).get(SWEEP_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (Exception e) {
+            System.err.println("Fixture sweep did not finish: " + e);
+        }
+        rewriteLedger();
+    }
+
+    /**
+     * Tracks resources created outside the pool (e.g. by the load runner) like fixtures: they are added to
+     * the ledger and deleted by {@link #sweep()}, or by the next run if this one crashes.
+     */
+    public void adopt(Collection<String> ids) {
+        for (String id : ids) {
+            if (created.add(id)) {
+                appendToLedger(id);
+            }
+        }
+    }
+
+    private Optional<Fixture> create() {
+        String name = "Fixture User";
+        String email = "fixture-" + UUID.randomUUID() + "@example.com";
+        Response response;
+        try {
+            response = given().spec(authSpec)
+                    .body("{\"name\":\"" + name + "\",\"email\":\"" + email + "\",\"gender\":\"" + Fixture.GENDER
+                            + "\",\"status\":\"" + Fixture.STATUS + "\"}")
+                    .when().post(basePath);
+        } catch (RuntimeException e) {
+            return Optional.empty();
+        }
+        Object id = response.path("id");
+        if ((response.getStatusCode() != 201 && response.getStatusCode() != 200) || id == null) {
+            return Optional.empty();
+        }
+        String idText = String.valueOf(id);
+        created.add(idText);
+        appendToLedger(idText);
+        return Optional.of(new Fixture(idText, basePath + "/" + idText, name, email));
+    }
+
+    /** Deletes one resource; 404 counts as deleted. */
+    private void delete(String id) {
+        try {
+            int status = given().spec(authSpec).when().delete(basePath + "/" + id).getStatusCode();
+            if (status < 300 || status == 404) {
+                created.remove(id);
+            }
+        } catch (RuntimeException e) {
+            // stays in the ledger for the next run
+        }
+    }
+
+    private synchronized void appendToLedger(String id) {
+        if (ledger == null) {
+            return;
+        }
+        try {
+            Files.createDirectories(ledger.getParent());
+            Files.write(ledger, List.of(id), StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            System.err.println("Could not record fixture " + id + " in " + ledger + ": " + e.getMessage());
+        }
+    }
+
+    /** Ids recorded by an earlier run; they are tracked as created so a failed cleanup is retried. */
+    private List<String> readLedger() {
+        if (ledger == null || !Files.isRegularFile(ledger)) {
+            return List.of();
+        }
+        try {
+            Set<String> ids = Files.readAllLines(ledger, StandardCharsets.UTF_8).stream()
+                    .map(String::trim)
+                    .filter(s -> !s.isEmpty())
+                    .collect(Collectors.toCollection(LinkedHashSet::new));
+            created.addAll(ids);
+            return new ArrayList<>(ids);
+        } catch (IOException e) {
+            System.err.println("Could not read fixture ledger " + ledger + ": " + e.getMessage());
+            return List.of();
+        }
+    }
+
+    /** Leaves only ids not yet deleted in the ledger; removes the file when none are left. */
+    private synchronized void rewriteLedger() {
+        if (ledger == null) {
+            return;
+        }
+        try {
+            if (created.isEmpty()) {
+                Files.deleteIfExists(ledger);
+            } else {
+                Files.createDirectories(ledger.getParent());
+                Files.write(ledger, new ArrayList<>(created), StandardCharsets.UTF_8);
+            }
+        } catch (IOException e) {
+            System.err.println("Could not update fixture ledger " + ledger + ": " + e.getMessage());
+        }
+    }
+}
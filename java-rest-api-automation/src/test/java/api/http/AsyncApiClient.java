@@ -0,0 +1,293 @@
+package api.http;
+
+import api.config.ApiConfig;
+import api.config.AuthProvider;
+import api.config.ConfigSnapshot;
+import api.metrics.LatencyRegistry;
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.http.Header;
+import io.restassured.http.Headers;
+import io.restassured.response.Response;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Non-blocking counterpart of {@code BaseApiTest#baseSpec}: same base URI, JSON headers, bearer token
+ * (when built {@link #withAuth with auth}, refreshed once on 401), retry policy and circuit breaker ({@link RetryFilter}),
+ * cassette scope ({@link CassetteFilter}) and latency recording, on top of {@link HttpClient}. Calls
+ * return at once, so independent requests run concurrently and a multi-call flow takes as long as its
+ * slowest call instead of the sum:
+ * <pre>
+ * CompletableFuture&lt;Response&gt; list = async.get(basePath);
+ * CompletableFuture&lt;Response&gt; one = async.get(basePath + "/" + id);
+ * AsyncApiClient.await(list).then().statusCode(200);
+ * </pre>
+ * Futures complete with RestAssured {@link Response}s, so the usual {@code then()} assertions apply;
+ * {@link #await} waits for one and rethrows the original failure. Waiting between retries does not hold
+ * a thread. Requests time out after HTTP_TIMEOUT_MS, like the synchronous client. HTTP2=true negotiates
+ * HTTP/2. Instances are immutable and thread-safe.
+ */
+public final class AsyncApiClient {
+
+    private static final String AUTH_HEADER = "Authorization";
+    private static final String BEARER_PREFIX = "Bearer ";
+    private static final String CONTENT_TYPE = "Content-Type";
+    private static final String ACCEPT = "Accept";
+    private static final String JSON = "application/json";
+    private static final int UNAUTHORIZED = 401;
+    private static final Duration CONNECT_TIMEOUT = Duration.ofMillis(PooledHttpClientFactory.DEFAULT_TIMEOUT_MS);
+    /** Not replayed as-is: the body is decoded and its length recomputed. */
+    private static final String CONTENT_LENGTH = "content-length";
+
+    private static final HttpClient HTTP_1_1 = newClient(HttpClient.Version.HTTP_1_1);
+    private static final HttpClient HTTP_2 = newClient(HttpClient.Version.HTTP_2);
+
+    private final ConfigSnapshot config;
+    private final String baseUrl;
+    private final HttpClient client;
+    private final CassetteFilter cassette;
+    private final RetryFilter retry;
+    private final AuthProvider provider;
+    private final Map<String, String> headers;
+    private final Duration timeout;
+
+    /**
+     * Client with the current configuration's BASE_URL and no Authorization header.
+     *
+     * @param cassette cassette scope the requests are recorded under, normally the test's own
+     * @param retry    retry policy and reporter, normally the test's own
+     */
+    public AsyncApiClient(CassetteFilter cassette, RetryFilter retry) {
+        this(ApiConfig.snapshot(),
+                ApiConfig.getBaseUrl().map(u -> u.endsWith("/") ? u.substring(0, u.length() - 1) : u).orElse(null),
+                ApiConfig.isHttp2Enabled() ? HTTP_2 : HTTP_1_1,
+                cassette, retry, null, defaultHeaders(),
+                Duration.ofMillis(PooledHttpClientFactory.timeoutMillis()));
+    }
+
+    private AsyncApiClient(ConfigSnapshot config, String baseUrl, HttpClient client, CassetteFilter cassette,
+                           RetryFilter retry, AuthProvider provider, Map<String, String> headers, Duration timeout) {
+        this.config = config;
+        this.baseUrl = baseUrl;
+        this.client = client;
+        this.cassette = cassette;
+        this.retry = retry;
+        this.provider = provider;
+        this.headers = headers;
+        this.timeout = timeout;
+    }
+
+    /** Copy that sends "Authorization: Bearer &lt;token&gt;" from the provider, read per request. */
+    public AsyncApiClient withAuth(AuthProvider provider) {
+        return new AsyncApiClient(config, baseUrl, client, cassette, retry, provider, headers, timeout);
+    }
+
+    /** Copy that sends the header on every request; it also overrides the provider's Authorization. */
+    public AsyncApiClient withHeader(String name, String value) {
+        Map<String, String> copy = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        copy.putAll(headers);
+        copy.put(name, value);
+        return new AsyncApiClient(config, baseUrl, client, cassette, retry, provider, copy, timeout);
+    }
+
+    /**
+     * Waits for the future and returns its result. A failure inside the future (a failed {@code then()}
+     * assertion in a stage, an I/O error) is rethrown as it is, not wrapped in a CompletionException,
+     * so reports show the real cause.
+     */
+    public static <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw e;
+        }
+    }
+
+    public CompletableFuture<Response> get(String path) {
+        return send("GET", path, null);
+    }
+
+    public CompletableFuture<Response> delete(String path) {
+        return send("DELETE", path, null);
+    }
+
+    public CompletableFuture<Response> post(String path, String body) {
+        return send("POST", path, body);
+    }
+
+    public CompletableFuture<Response> put(String path, String body) {
+        return send("PUT", path, body);
+    }
+
+    public CompletableFuture<Response> patch(String path, String body) {
+        return send("PATCH", path, body);
+    }
+
+    /**
+     * Sends the request without blocking the caller.
+     *
+     * @param path path relative to BASE_URL, optionally with a query string
+     * @param body request body, or null for none
+     * @return completes with the final response (after retries), or exceptionally on I/O errors, an open
+     *         circuit or, in strict replay, a request that was not recorded
+     */
+    public CompletableFuture<Response> send(String method, String path, String body) {
+        if (baseUrl == null) {
+            return CompletableFuture.failedFuture(new IllegalStateException("BASE_URL must be set"));
+        }
+        URI uri = URI.create(baseUrl + (path.startsWith("/") ? path : "/" + path));
+        Map<String, String> requestHeaders = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        requestHeaders.putAll(headers);
+        Optional<String> token = provider != null && !requestHeaders.containsKey(AUTH_HEADER)
+                ? provider.getToken()
+                : Optional.empty();
+        token.ifPresent(value -> requestHeaders.put(AUTH_HEADER, BEARER_PREFIX + value));
+        String requestBody = body == null ? "" : body;
+        String key = CassetteFilter.requestKey(method, uri, requestHeaders.get(AUTH_HEADER),
+                requestHeaders.get(CONTENT_TYPE), requestHeaders.get(ACCEPT), requestBody);
+        CompletableFuture<Response> response =
+                cassette.exchange(key, requestBody, () -> sendWithRetries(method, uri, requestHeaders, body));
+        if (token.isEmpty()) {
+            return response;
+        }
+        return response.thenCompose(r -> r.getStatusCode() == UNAUTHORIZED
+                ? retryWithFreshToken(method, path, body, token.get(), r)
+                : CompletableFuture.completedFuture(r));
+    }
+
+    /**
+     * Same as BearerAuthFilter: a 401 to the provider's token invalidates it and the request is sent once more
+     * with a new token; without a new one the 401 stands.
+     */
+    private CompletableFuture<Response> retryWithFreshToken(String method, String path, String body, String stale,
+                                                            Response unauthorized) {
+        provider.invalidate();
+        Optional<String> fresh = provider.getToken();
+        if (fresh.isEmpty() || fresh.get().equals(stale)) {
+            return CompletableFuture.completedFuture(unauthorized);
+        }
+        return withHeader(AUTH_HEADER, BEARER_PREFIX + fresh.get()).send(method, path, body);
+    }
+
+    private CompletableFuture<Response> sendWithRetries(String method, URI uri, Map<String, String> requestHeaders,
+                                                        String body) {
+        CircuitBreaker breaker = retry.breakerFor(uri);
+        if (!breaker.allowRequest()) {
+            return CompletableFuture.failedFuture(retry.circuitOpen(breaker, method, uri));
+        }
+        HttpRequest.Builder builder = HttpRequest.newBuilder(uri)
+                .timeout(timeout)
+                .method(method, body == null
+                        ? HttpRequest.BodyPublishers.noBody()
+                        : HttpRequest.BodyPublishers.ofString(body, StandardCharsets.UTF_8));
+        requestHeaders.forEach(builder::header);
+        HttpRequest request = builder.build();
+        long start = System.nanoTime();
+        return attempt(request, 1, retry.attemptsFor(method))
+                .whenComplete((response, failure) -> {
+                    if (failure == null) {
+                        retry.recordOutcome(breaker, response.statusCode());
+                    } else if (RetryFilter.isIoFailure(failure)) {
+                        breaker.recordFailure();
+                    } else {
+                        breaker.releaseTrial();
+                    }
+                })
+                .thenApply(response -> {
+                    long latency = System.nanoTime() - start;
+                    ApiConfig.runWith(config, () -> LatencyRegistry.record(method, uri.getRawPath(), latency));
+                    return toResponse(response);
+                });
+    }
+
+    /** Sends one attempt; a transient failure schedules the next one after the policy's delay. */
+    private CompletableFuture<HttpResponse<String>> attempt(HttpRequest request, int attempt, int attempts) {
+        return client.sendAsync(request, HttpResponse.BodyHandlers.ofString(StandardCharsets.UTF_8))
+                .handle((response, failure) -> {
+                    boolean transientFailure = failure == null
+                            ? retry.isRetryStatus(response.statusCode())
+                            : RetryFilter.isIoFailure(failure);
+                    if (attempt >= attempts || !transientFailure) {
+                        return failure == null
+                                ? CompletableFuture.completedFuture(response)
+                                : CompletableFuture.<HttpResponse<String>>failedFuture(failure);
+                    }
+                    String retryAfter = failure == null ? response.headers().firstValue("Retry-After").orElse(null) : null;
+                    long delay = retry.delayMillis(attempt, retryAfter);
+                    if (delay == RetryFilter.NO_RETRY) {
+                        retry.report(String.format("Not retrying %s %s after %d: Retry-After %s exceeds RETRY_MAX_DELAY_MS",
+                                request.method(), request.uri().getRawPath(), response.statusCode(), retryAfter));
+                        return CompletableFuture.completedFuture(response);
+                    }
+                    retry.report(String.format("Retry %d/%d %s %s after %s (waiting %d ms)", attempt, attempts - 1,
+                            request.method(), request.uri().getRawPath(),
+                            failure == null ? String.valueOf(response.statusCode()) : failure, delay));
+                    return CompletableFuture.runAsync(() -> { },
+                                    CompletableFuture.delayedExecutor(delay, TimeUnit.MILLISECONDS))
+                            .thenCompose(ignored -> attempt(request, attempt + 1, attempts));
+                })
+                .thenCompose(next -> next);
+    }
+
+    private static Response toResponse(HttpResponse<String> response) {
+        List<Header> headers = new ArrayList<>();
+        String contentType = null;
+        for (Map.Entry<String, List<String>> header : response.headers().map().entrySet()) {
+            if (header.getKey().startsWith(":") || CONTENT_LENGTH.equalsIgnoreCase(header.getKey())) {
+                continue;
+            }
+            for (String value : header.getValue()) {
+                if (CONTENT_TYPE.equalsIgnoreCase(header.getKey())) {
+                    contentType = value;
+                } else {
+                    headers.add(new Header(header.getKey(), value));
+                }
+            }
+        }
+        String protocol = response.version() == HttpClient.Version.HTTP_2 ? "HTTP/2" : "HTTP/1.1";
+        ResponseBuilder builder = new ResponseBuilder()
+                .setStatusCode(response.statusCode())
+                .setStatusLine(protocol + " " + response.statusCode())
+                .setHeaders(new Headers(headers))
+                .setBody(response.body().getBytes(StandardCharsets.UTF_8));
+        if (contentType != null) {
+            builder.setContentType(contentType);
+        }
+        return builder.build();
+    }
+
+    private static Map<String, String> defaultHeaders() {
+        Map<String, String> headers = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        headers.put(CONTENT_TYPE, JSON);
+        headers.put(ACCEPT, JSON);
+        return headers;
+    }
+
+    private static HttpClient newClient(HttpClient.Version version) {
+        return HttpClient.newBuilder()
+                .version(version)
+                .connectTimeout(CONNECT_TIMEOUT)
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .build();
+    }
+}
@@ -0,0 +1,64 @@
+package api.http;
+
+import api.config.AuthProvider;
+import io.restassured.filter.FilterContext;
+import io.restassured.filter.OrderedFilter;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+import java.util.Optional;
+
+import static io.restassured.RestAssured.given;
+
+/**
+ * Adds "Authorization: Bearer &lt;token&gt;" from an {@link AuthProvider} when the request is sent, not when the
+ * spec is built, so long runs always use the provider's current (refreshed) token. A header already set on the
+ * request is left untouched.
+ * <p>
+ * When a request carrying the provider's token gets 401, the token may have expired or been revoked before
+ * its reported expiry: the provider is {@link AuthProvider#invalidate() invalidated} and the request is sent
+ * once more with the new token. Without a new token (e.g. a static AUTH_TOKEN) the 401 is returned as is.
+ */
+public final class BearerAuthFilter implements OrderedFilter {
+
+    private static final String AUTH_HEADER = "Authorization";
+    private static final String BEARER_PREFIX = "Bearer ";
+    private static final int UNAUTHORIZED = 401;
+
+    private final AuthProvider provider;
+
+    public BearerAuthFilter(AuthProvider provider) {
+        this.provider = provider;
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        if (requestSpec.getHeaders().hasHeaderWithName(AUTH_HEADER)) {
+            return ctx.next(requestSpec, responseSpec);
+        }
+        Optional<String> token = provider.getToken();
+        token.ifPresent(value -> requestSpec.header(AUTH_HEADER, BEARER_PREFIX + value));
+        Response response = ctx.next(requestSpec, responseSpec);
+        if (response.getStatusCode() != UNAUTHORIZED || token.isEmpty()) {
+            return response;
+        }
+        provider.invalidate();
+        Optional<String> fresh = provider.getToken();
+        if (fresh.isEmpty() || fresh.equals(token)) {
+            return response;
+        }
+        // The chain can run only once per request, so the retry is a new request through the same filters;
+        // it carries the header already, so this filter does not retry it again
+        requestSpec.removeHeader(AUTH_HEADER);
+        requestSpec.header(AUTH_HEADER, BEARER_PREFIX + fresh.get());
+        return ctx.send(given().spec(requestSpec));
+    }
+
+    @Override
+    public int getOrder() {
+        return HIGHEST_PRECEDENCE;
+    }
+}
@@ -0,0 +1,31 @@
+package api.http;
+
+import io.restassured.filter.FilterContext;
+import io.restassured.filter.OrderedFilter;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+/**
+ * Reads the response body into memory as soon as the response arrives. RestAssured otherwise keeps
+ * the body stream open until a test happens to read it, which would hold the pooled connection
+ * (see {@link PooledHttpClientFactory}) and eventually exhaust the pool for status-only assertions.
+ * Reading to end of stream returns the connection to the pool for reuse.
+ */
+public final class BufferResponseBodyFilter implements OrderedFilter {
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        Response response = ctx.next(requestSpec, responseSpec);
+        response.asByteArray();
+        return response;
+    }
+
+    /** Runs closest to the network so later filters see an already-buffered body. */
+    @Override
+    public int getOrder() {
+        return LOWEST_PRECEDENCE;
+    }
+}
@@ -0,0 +1,221 @@
+package api.http;
+
+import api.config.ApiConfig;
+import api.config.ConfigSnapshot;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * On-disk store of recorded HTTP interactions for one environment: one gzip-compressed JSON file per
+ * scope (a test execution, or "shared" for fixtures and the load runner) under
+ * CASSETTE_DIR/&lt;environment&gt;/. Interactions are indexed by a hash of the normalized request (see
+ * {@link CassetteFilter}); repeated identical requests in a scope are kept in order.
+ * <p>
+ * Recordings are held in memory and written by {@link #flush()} at the end of the run.
+ */
+public final class Cassette {
+
+    /** What {@link CassetteFilter} does with each request. */
+    public enum Mode { OFF, RECORD, REPLAY }
+
+    /** Recorded responses per request kept at most; replay repeats the last one beyond that. */
+    static final int MAX_RESPONSES_PER_REQUEST = 20;
+
+    private static final String DEFAULT_DIR = "cassettes";
+    private static final String FILE_SUFFIX = ".json.gz";
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final Map<ConfigSnapshot, Cassette> CASSETTES = new ConcurrentHashMap<>();
+
+    private final Mode mode;
+    private final boolean strict;
+    private final Path dir;
+    private final Map<String, Tape> tapes = new ConcurrentHashMap<>();
+
+    private Cassette(ConfigSnapshot snapshot) {
+        this.mode = ApiConfig.getCassetteMode()
+                .map(m -> Mode.valueOf(m.trim().toUpperCase(Locale.ROOT)))
+                .orElse(Mode.OFF);
+        this.strict = ApiConfig.isCassetteStrict();
+        this.dir = Paths.get(ApiConfig.getCassetteDir().orElse(DEFAULT_DIR), snapshot.getName());
+    }
+
+    /** Cassette of the current environment. */
+    public static Cassette current() {
+        return CASSETTES.computeIfAbsent(ApiConfig.snapshot(), Cassette::new);
+    }
+
+    /** Whether requests are answered from recordings instead of the API. */
+    public static boolean isReplaying() {
+        return current().mode == Mode.REPLAY;
+    }
+
+    Mode mode() {
+        return mode;
+    }
+
+    boolean isStrict() {
+        return strict;
+    }
+
+    Path file(String scope) {
+        return dir.resolve(scope.replaceAll("[^A-Za-z0-9._-]", "_") + FILE_SUFFIX);
+    }
+
+    /** Tape for a scope; in replay mode loaded from disk on first use (empty when there is no file). */
+    Tape tape(String scope) {
+        return tapes.computeIfAbsent(scope, s -> mode == Mode.REPLAY ? Tape.read(file(s)) : new Tape());
+    }
+
+    /** In record mode, writes every scope recorded so far. */
+    public void flush() {
+        if (mode != Mode.RECORD) {
+            return;
+        }
+        tapes.forEach((scope, tape) -> {
+            Path file = file(scope);
+            try {
+                tape.write(scope, file);
+            } catch (IOException e) {
+                System.err.println("Could not write cassette " + file + ": " + e.getMessage());
+            }
+        });
+    }
+
+    /** SHA-256 of the normalized request, first 16 hex digits. */
+    static String hash(String requestKey) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(requestKey.getBytes(StandardCharsets.UTF_8));
+            StringBuilder hex = new StringBuilder();
+            for (int i = 0; i < 8; i++) {
+                hex.append(String.format("%02x", digest[i]));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * A recorded response plus the raw body of the request that produced it. Headers keep their order;
+     * names may repeat.
+     */
+    static final class Interaction {
+        final String requestBody;
+        final int status;
+        final List<String[]> headers;
+        final String body;
+
+        Interaction(String requestBody, int status, List<String[]> headers, String body) {
+            this.requestBody = requestBody;
+            this.status = status;
+            this.headers = headers;
+            this.body = body;
+        }
+    }
+
+    /** Interactions of one scope by request hash. */
+    static final class Tape {
+        private final Map<String, List<Interaction>> byHash = new ConcurrentHashMap<>();
+        private final Map<String, String> requests = new ConcurrentHashMap<>();
+
+        void record(String hash, String requestKey, Interaction interaction) {
+            requests.putIfAbsent(hash, requestKey);
+            List<Interaction> list = byHash.computeIfAbsent(hash, h -> Collections.synchronizedList(new ArrayList<>()));
+            synchronized (list) {
+                if (list.size() < MAX_RESPONSES_PER_REQUEST) {
+                    list.add(interaction);
+                }
+            }
+        }
+
+        /** The ordinal-th response recorded for the hash (the last one when fewer were recorded). */
+        Optional<Interaction> find(String hash, int ordinal) {
+            List<Interaction> list = byHash.get(hash);
+            if (list == null || list.isEmpty()) {
+                return Optional.empty();
+            }
+            return Optional.of(list.get(Math.min(ordinal, list.size() - 1)));
+        }
+
+        void write(String scope, Path file) throws IOException {
+            ObjectNode root = MAPPER.createObjectNode();
+            root.put("scope", scope);
+            ObjectNode index = root.putObject("requests");
+            byHash.forEach((hash, list) -> {
+                ObjectNode entry = index.putObject(hash);
+                entry.put("request", requests.get(hash));
+                ArrayNode responses = entry.putArray("responses");
+                synchronized (list) {
+                    for (Interaction interaction : list) {
+                        ObjectNode node = responses.addObject();
+                        node.put("requestBody", interaction.requestBody);
+                        node.put("status", interaction.status);
+                        ArrayNode headers = node.putArray("headers");
+                        interaction.headers.forEach(h -> headers.addArray().add(h[0]).add(h[1]));
+                        node.put("body", interaction.body);
+                    }
+                }
+            });
+            Files.createDirectories(file.getParent());
+            try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(file))) {
+                MAPPER.writeValue(out, root);
+            }
+        }
+
+        static Tape read(Path file) {
+            Tape tape = new Tape();
+            if (!Files.isRegularFile(file)) {
+                return tape;
+            }
+            JsonNode root;
+            try (InputStream in = new GZIPInputStream(Files.newInputStream(file))) {
+                root = MAPPER.readTree(in);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Could not read cassette " + file, e);
+            }
+            root.path("requests").fields().forEachRemaining(entry -> {
+                String request = entry.getValue().path("request").asText();
+                for (JsonNode node : entry.getValue().path("responses")) {
+                    List<String[]> headers = new ArrayList<>();
+                    node.path("headers").forEach(h -> headers.add(new String[] {h.get(0).asText(), h.get(1).asText()}));
+                    tape.record(entry.getKey(), request,
+                            new Interaction(node.path("requestBody").asText(), node.path("status").asInt(), headers,
+                                    node.path("body").asText()));
+                }
+            });
+            return tape;
+        }
+    }
+
+    /** Per-filter counters of how often each request hash was seen, so repeated requests map to successive recordings. */
+    static final class Ordinals {
+        private final Map<String, Integer> counts = new HashMap<>();
+
+        synchronized int next(String hash) {
+            return counts.merge(hash, 1, Integer::sum) - 1;
+        }
+    }
+}
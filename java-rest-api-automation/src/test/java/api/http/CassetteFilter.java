@@ -0,0 +1,239 @@
+package api.http;
+
+import api.config.ApiConfig;
+import api.config.ConfigSnapshot;
+import api.metrics.LatencyRegistry;
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.filter.FilterContext;
+import io.restassured.filter.OrderedFilter;
+import io.restassured.http.Header;
+import io.restassured.http.Headers;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Records responses to, or replays them from, the current environment's {@link Cassette}
+ * (CASSETTE_MODE=record|replay; see the {@code cassette-record} / {@code cassette-replay} Maven
+ * profiles). Each filter instance covers one scope, normally one test execution (see
+ * {@link CassetteScopeResolver}), so requests inside a test replay in the order they were recorded even
+ * when tests run in parallel. Requests made outside tests share one {@link #shared()} filter per
+ * environment, so their order is counted across all specs that use it.
+ * <p>
+ * Requests are matched on a normalized form: method, path with ids collapsed to {id} (fixture ids
+ * differ between runs), sorted query, the role of the bearer token (admin, user, expired, none or a
+ * hash of any other value), content type, accept and the body, with UUIDs and long digit runs
+ * (timestamps in unique emails) masked in query and body. Host and port are ignored, so recordings made against the
+ * stub server replay against a stub on another port. On replay, masked values the recorded request
+ * sent (e.g. a unique email) are replaced in the response body by the ones sent now, so echo checks
+ * still hold. Unmatched requests go to the API, or fail in strict mode (CASSETTE_STRICT=true).
+ */
+public final class CassetteFilter implements OrderedFilter {
+
+    /** Scope for requests not made by a test method (fixture pool, load runner). */
+    public static final String SHARED_SCOPE = "shared";
+
+    /** Run-specific values in request bodies: UUIDs and long digit runs (timestamps). */
+    private static final Pattern VOLATILE = Pattern.compile(
+            "[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}|\\d{10,}");
+    /** Not replayed: the stored body is already decoded and its length is recomputed. */
+    private static final Set<String> SKIPPED_HEADERS = Set.of("content-length", "transfer-encoding", "content-encoding");
+
+    private static final Map<ConfigSnapshot, CassetteFilter> SHARED = new ConcurrentHashMap<>();
+
+    private final String scope;
+    private final Cassette.Ordinals ordinals = new Cassette.Ordinals();
+
+    public CassetteFilter(String scope) {
+        this.scope = scope;
+    }
+
+    /** The current environment's filter for {@link #SHARED_SCOPE}; the same instance for every spec. */
+    public static CassetteFilter shared() {
+        return SHARED.computeIfAbsent(ApiConfig.snapshot(), snapshot -> new CassetteFilter(SHARED_SCOPE));
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        Cassette cassette = Cassette.current();
+        if (cassette.mode() == Cassette.Mode.OFF) {
+            return ctx.next(requestSpec, responseSpec);
+        }
+        String requestBody = bodyText(requestSpec);
+        String key = requestKey(requestSpec, requestBody);
+        String hash = Cassette.hash(key);
+        int ordinal = ordinals.next(hash);
+        Cassette.Tape tape = cassette.tape(scope);
+
+        if (cassette.mode() == Cassette.Mode.REPLAY) {
+            Optional<Cassette.Interaction> recorded = tape.find(hash, ordinal);
+            if (recorded.isPresent()) {
+                return toResponse(recorded.get(), requestBody);
+            }
+            if (cassette.isStrict()) {
+                throw new IllegalStateException("No recorded response in " + cassette.file(scope)
+                        + " for request " + hash + ":\n" + key);
+            }
+            return ctx.next(requestSpec, responseSpec);
+        }
+
+        return record(tape, hash, key, requestBody, ctx.next(requestSpec, responseSpec));
+    }
+
+    /**
+     * Same as {@link #filter} for a request sent outside RestAssured ({@link AsyncApiClient}): completes with
+     * the recorded response when replaying, otherwise sends the request and records its response.
+     */
+    CompletableFuture<Response> exchange(String key, String requestBody, Supplier<CompletableFuture<Response>> send) {
+        Cassette cassette = Cassette.current();
+        if (cassette.mode() == Cassette.Mode.OFF) {
+            return send.get();
+        }
+        String hash = Cassette.hash(key);
+        int ordinal = ordinals.next(hash);
+        Cassette.Tape tape = cassette.tape(scope);
+
+        if (cassette.mode() == Cassette.Mode.REPLAY) {
+            Optional<Cassette.Interaction> recorded = tape.find(hash, ordinal);
+            if (recorded.isPresent()) {
+                return CompletableFuture.completedFuture(toResponse(recorded.get(), requestBody));
+            }
+            if (cassette.isStrict()) {
+                return CompletableFuture.failedFuture(new IllegalStateException("No recorded response in "
+                        + cassette.file(scope) + " for request " + hash + ":\n" + key));
+            }
+            return send.get();
+        }
+        return send.get().thenApply(response -> record(tape, hash, key, requestBody, response));
+    }
+
+    private static Response record(Cassette.Tape tape, String hash, String key, String requestBody, Response response) {
+        List<String[]> headers = new ArrayList<>();
+        for (Header header : response.getHeaders()) {
+            if (!SKIPPED_HEADERS.contains(header.getName().toLowerCase())) {
+                headers.add(new String[] {header.getName(), header.getValue()});
+            }
+        }
+        tape.record(hash, key,
+                new Cassette.Interaction(requestBody, response.getStatusCode(), headers, response.asString()));
+        return response;
+    }
+
+    private static Response toResponse(Cassette.Interaction interaction, String requestBody) {
+        List<Header> headers = new ArrayList<>();
+        String contentType = null;
+        for (String[] h : interaction.headers) {
+            headers.add(new Header(h[0], h[1]));
+            if ("content-type".equalsIgnoreCase(h[0])) {
+                contentType = h[1];
+            }
+        }
+        ResponseBuilder builder = new ResponseBuilder()
+                .setStatusCode(interaction.status)
+                .setStatusLine("HTTP/1.1 " + interaction.status)
+                .setHeaders(new Headers(headers))
+                .setBody(substituteVolatile(interaction.body, interaction.requestBody, requestBody)
+                        .getBytes(StandardCharsets.UTF_8));
+        if (contentType != null) {
+            builder.setContentType(contentType);
+        }
+        return builder.build();
+    }
+
+    /**
+     * Replaces each volatile value of the recorded request with the value at the same position in the
+     * current request. Left unchanged when the two bodies do not have the same number of such values.
+     */
+    static String substituteVolatile(String responseBody, String recordedRequestBody, String requestBody) {
+        List<String> recorded = volatileValues(recordedRequestBody);
+        List<String> current = volatileValues(requestBody);
+        if (recorded.isEmpty() || recorded.size() != current.size()) {
+            return responseBody;
+        }
+        String result = responseBody;
+        for (int i = 0; i < recorded.size(); i++) {
+            result = result.replace(recorded.get(i), current.get(i));
+        }
+        return result;
+    }
+
+    private static List<String> volatileValues(String text) {
+        List<String> values = new ArrayList<>();
+        Matcher m = VOLATILE.matcher(text);
+        while (m.find()) {
+            values.add(m.group());
+        }
+        return values;
+    }
+
+    private static String bodyText(FilterableRequestSpecification requestSpec) {
+        Object body = requestSpec.getBody();
+        if (body == null) {
+            return "";
+        }
+        return body instanceof byte[] ? new String((byte[]) body, StandardCharsets.UTF_8) : body.toString();
+    }
+
+    static String requestKey(FilterableRequestSpecification requestSpec, String bodyText) {
+        return requestKey(requestSpec.getMethod(), URI.create(requestSpec.getURI()),
+                requestSpec.getHeaders().getValue("Authorization"), requestSpec.getContentType(),
+                requestSpec.getHeaders().getValue("Accept"), bodyText);
+    }
+
+    static String requestKey(String method, URI uri, String authorization, String contentType, String accept,
+                             String bodyText) {
+        String query = uri.getRawQuery() == null ? "" : Arrays.stream(uri.getRawQuery().split("&"))
+                .sorted()
+                .collect(Collectors.joining("&"));
+        return LatencyRegistry.endpointKey(method, uri.getRawPath())
+                + (query.isEmpty() ? "" : "?" + VOLATILE.matcher(query).replaceAll("{v}"))
+                + "\nauth=" + authRole(authorization)
+                + "\ncontent-type=" + contentType
+                + "\naccept=" + accept
+                + "\n\n" + VOLATILE.matcher(bodyText).replaceAll("{v}");
+    }
+
+    /** Role of the bearer token rather than its value, so tokens issued per run still match. */
+    private static String authRole(String authorization) {
+        if (authorization == null) {
+            return "none";
+        }
+        String token = authorization.startsWith("Bearer ") ? authorization.substring("Bearer ".length()) : authorization;
+        if (ApiConfig.getAuthToken().filter(token::equals).isPresent()) {
+            return "admin";
+        }
+        if (ApiConfig.getUserToken().filter(token::equals).isPresent()) {
+            return "user";
+        }
+        if (ApiConfig.getExpiredToken().filter(token::equals).isPresent()) {
+            return "expired";
+        }
+        return "other-" + Cassette.hash(authorization);
+    }
+
+    /**
+     * Runs outside {@link LatencyRecordingFilter}, so replayed responses are not counted as API latency,
+     * and inside {@link BearerAuthFilter}, so the Authorization header is part of the match.
+     */
+    @Override
+    public int getOrder() {
+        return LOWEST_PRECEDENCE - 2;
+    }
+}
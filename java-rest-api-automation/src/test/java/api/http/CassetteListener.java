@@ -0,0 +1,17 @@
+package api.http;
+
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestPlan;
+
+/**
+ * Writes the current environment's recorded cassette when the test plan finishes (see {@link Cassette}). Registered through
+ * META-INF/services (and by the multi-environment runner) ahead of the fixture listener, so it finishes after the fixture sweep and the
+ * sweep's requests are recorded too.
+ */
+public class CassetteListener implements TestExecutionListener {
+
+    @Override
+    public void testPlanExecutionFinished(TestPlan testPlan) {
+        Cassette.current().flush();
+    }
+}
@@ -0,0 +1,34 @@
+package api.http;
+
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.ParameterContext;
+import org.junit.jupiter.api.extension.ParameterResolver;
+import org.junit.platform.engine.UniqueId;
+
+import java.util.stream.Collectors;
+
+/**
+ * Resolves a {@link CassetteFilter} parameter with a scope of its own for each test execution. The scope
+ * is the test's JUnit unique id without the engine segment (e.g. "pkg.SomeTest/update(int)/#2"), so every
+ * repetition of a {@code @RepeatedTest} and every argument set of a {@code @ParameterizedTest} is
+ * recorded and replayed separately.
+ */
+public final class CassetteScopeResolver implements ParameterResolver {
+
+    @Override
+    public boolean supportsParameter(ParameterContext parameterContext, ExtensionContext extensionContext) {
+        return parameterContext.getParameter().getType() == CassetteFilter.class;
+    }
+
+    @Override
+    public Object resolveParameter(ParameterContext parameterContext, ExtensionContext extensionContext) {
+        return new CassetteFilter(scope(extensionContext.getUniqueId()));
+    }
+
+    static String scope(String uniqueId) {
+        return UniqueId.parse(uniqueId).getSegments().stream()
+                .filter(segment -> !"engine".equals(segment.getType()))
+                .map(UniqueId.Segment::getValue)
+                .collect(Collectors.joining("/"));
+    }
+}
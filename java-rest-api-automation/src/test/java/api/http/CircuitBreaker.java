@@ -0,0 +1,80 @@
+package api.http;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-host circuit breaker shared by all specs. After CIRCUIT_FAILURE_THRESHOLD consecutive failed
+ * requests (transient 5xx or I/O errors left after retrying) the host's circuit opens and requests fail
+ * fast for CIRCUIT_OPEN_MS; then one trial request is let through, which closes the circuit on success
+ * or reopens it on failure. Back-pressure (429) neither counts as a failure nor closes the circuit.
+ */
+final class CircuitBreaker {
+
+    private static final Map<String, CircuitBreaker> BY_HOST = new ConcurrentHashMap<>();
+
+    private final int failureThreshold;
+    private final long openMillis;
+    private int consecutiveFailures;
+    private long openUntil;
+    private boolean trialInFlight;
+
+    CircuitBreaker(int failureThreshold, long openMillis) {
+        this.failureThreshold = failureThreshold;
+        this.openMillis = openMillis;
+    }
+
+    /** Breaker for host:port; created with the given settings on first use. */
+    static CircuitBreaker forHost(String host, int failureThreshold, long openMillis) {
+        return BY_HOST.computeIfAbsent(host, h -> new CircuitBreaker(failureThreshold, openMillis));
+    }
+
+    /**
+     * Whether a request may be sent now. While open, false; once the open period is over, true for
+     * exactly one trial request until its outcome is recorded.
+     */
+    synchronized boolean allowRequest() {
+        if (consecutiveFailures < failureThreshold) {
+            return true;
+        }
+        if (System.currentTimeMillis() < openUntil || trialInFlight) {
+            return false;
+        }
+        trialInFlight = true;
+        return true;
+    }
+
+    synchronized void recordSuccess() {
+        consecutiveFailures = 0;
+        trialInFlight = false;
+    }
+
+    /** Outcome of a rate-limited request: the failure count is kept, a pending trial is released. */
+    synchronized void recordBackPressure() {
+        trialInFlight = false;
+    }
+
+    /**
+     * Releases a pending trial whose request ended without an outcome for the host (e.g. a filter or the
+     * cassette threw before or after sending), so the next request after the open period can try again.
+     */
+    synchronized void releaseTrial() {
+        trialInFlight = false;
+    }
+
+    synchronized void recordFailure() {
+        consecutiveFailures++;
+        trialInFlight = false;
+        if (consecutiveFailures >= failureThreshold) {
+            openUntil = System.currentTimeMillis() + openMillis;
+        }
+    }
+
+    synchronized int consecutiveFailures() {
+        return consecutiveFailures;
+    }
+
+    synchronized long openUntil() {
+        return openUntil;
+    }
+}
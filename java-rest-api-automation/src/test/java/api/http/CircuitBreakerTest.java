@@ -0,0 +1,118 @@
+package api.http;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for {@link CircuitBreaker} state changes: closed, open, half-open with a single trial,
+ * and back to closed or open depending on the trial's outcome.
+ */
+@DisplayName("Circuit breaker: closed, open, half-open")
+class CircuitBreakerTest {
+
+    private static final int THRESHOLD = 3;
+    private static final long LONG_OPEN_MS = 60_000L;
+    private static final long SHORT_OPEN_MS = 100L;
+    /** Open period already over when checked, so the breaker goes half-open at once. */
+    private static final long ELAPSED_OPEN_MS = 0L;
+
+    @Test
+    @DisplayName("Stays closed below the failure threshold and a success resets the count")
+    void belowThreshold_staysClosed() {
+        CircuitBreaker breaker = new CircuitBreaker(THRESHOLD, LONG_OPEN_MS);
+
+        breaker.recordFailure();
+        breaker.recordFailure();
+        assertTrue(breaker.allowRequest(), "Two failures must not open a breaker with threshold 3");
+        breaker.recordSuccess();
+        breaker.recordFailure();
+        breaker.recordFailure();
+
+        assertTrue(breaker.allowRequest(), "A success must reset the consecutive failure count");
+        assertEquals(2, breaker.consecutiveFailures());
+    }
+
+    @Test
+    @DisplayName("Opens at the threshold and rejects requests during the open period")
+    void atThreshold_opens() {
+        CircuitBreaker breaker = new CircuitBreaker(THRESHOLD, LONG_OPEN_MS);
+
+        failTimes(breaker, THRESHOLD);
+
+        assertFalse(breaker.allowRequest(), "Breaker must reject requests while open");
+        assertTrue(breaker.openUntil() > System.currentTimeMillis(), "Open period must lie in the future");
+    }
+
+    @Test
+    @DisplayName("After the open period exactly one trial is let through")
+    void afterOpenPeriod_allowsSingleTrial() {
+        CircuitBreaker breaker = new CircuitBreaker(THRESHOLD, ELAPSED_OPEN_MS);
+        failTimes(breaker, THRESHOLD);
+
+        assertTrue(breaker.allowRequest(), "First request after the open period is the trial");
+        assertFalse(breaker.allowRequest(), "No second request while the trial is in flight");
+    }
+
+    @Test
+    @DisplayName("A successful trial closes the circuit")
+    void successfulTrial_closes() {
+        CircuitBreaker breaker = new CircuitBreaker(THRESHOLD, ELAPSED_OPEN_MS);
+        failTimes(breaker, THRESHOLD);
+        breaker.allowRequest();
+
+        breaker.recordSuccess();
+
+        assertEquals(0, breaker.consecutiveFailures());
+        assertTrue(breaker.allowRequest());
+        assertTrue(breaker.allowRequest(), "Closed breaker lets every request through");
+    }
+
+    @Test
+    @DisplayName("A failed trial reopens the circuit")
+    void failedTrial_reopens() throws InterruptedException {
+        CircuitBreaker breaker = new CircuitBreaker(THRESHOLD, SHORT_OPEN_MS);
+        failTimes(breaker, THRESHOLD);
+        Thread.sleep(SHORT_OPEN_MS * 2);
+        assertTrue(breaker.allowRequest(), "Open period is over; the trial must be let through");
+
+        breaker.recordFailure();
+
+        assertFalse(breaker.allowRequest(), "Failed trial must start a new open period");
+        assertEquals(THRESHOLD + 1, breaker.consecutiveFailures());
+    }
+
+    @Test
+    @DisplayName("Back-pressure releases the trial without closing the circuit")
+    void backPressureTrial_releasesWithoutClosing() {
+        CircuitBreaker breaker = new CircuitBreaker(THRESHOLD, ELAPSED_OPEN_MS);
+        failTimes(breaker, THRESHOLD);
+        breaker.allowRequest();
+
+        breaker.recordBackPressure();
+
+        assertEquals(THRESHOLD, breaker.consecutiveFailures(), "429 must not reset the failure count");
+        assertTrue(breaker.allowRequest(), "The next request may try again");
+    }
+
+    @Test
+    @DisplayName("A released trial lets the next request try again")
+    void releasedTrial_allowsNextTrial() {
+        CircuitBreaker breaker = new CircuitBreaker(THRESHOLD, ELAPSED_OPEN_MS);
+        failTimes(breaker, THRESHOLD);
+        breaker.allowRequest();
+
+        breaker.releaseTrial();
+
+        assertTrue(breaker.allowRequest(), "A trial that ended without an outcome must not keep the circuit shut");
+    }
+
+    private static void failTimes(CircuitBreaker breaker, int times) {
+        for (int i = 0; i < times; i++) {
+            breaker.recordFailure();
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package api.http;
+
+import api.metrics.LatencyRegistry;
+import io.restassured.filter.FilterContext;
+import io.restassured.filter.OrderedFilter;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+import java.net.URI;
+
+/**
+ * Records the latency of every request into {@link LatencyRegistry}, keyed by method and normalized path.
+ * Wraps {@link BufferResponseBodyFilter}, so the measured time includes reading the full body.
+ * Requests that fail with an exception are not recorded.
+ */
+public final class LatencyRecordingFilter implements OrderedFilter {
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        long start = System.nanoTime();
+        Response response = ctx.next(requestSpec, responseSpec);
+        LatencyRegistry.record(requestSpec.getMethod(), path(requestSpec), System.nanoTime() - start);
+        return response;
+    }
+
+    private static String path(FilterableRequestSpecification requestSpec) {
+        try {
+            return URI.create(requestSpec.getURI()).getRawPath();
+        } catch (IllegalArgumentException e) {
+            return requestSpec.getDerivedPath();
+        }
+    }
+
+    /** Runs just outside {@link BufferResponseBodyFilter}. */
+    @Override
+    public int getOrder() {
+        return LOWEST_PRECEDENCE - 1;
+    }
+}
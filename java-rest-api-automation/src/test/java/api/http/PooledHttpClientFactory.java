@@ -0,0 +1,227 @@
+package api.http;
+
+import api.config.ApiConfig;
+import io.restassured.config.HttpClientConfig;
+import org.apache.http.ConnectionReuseStrategy;
+import org.apache.http.HeaderElement;
+import org.apache.http.HttpResponse;
+import org.apache.http.client.AuthenticationStrategy;
+import org.apache.http.client.HttpClient;
+import org.apache.http.client.HttpRequestRetryHandler;
+import org.apache.http.client.RedirectStrategy;
+import org.apache.http.client.RequestDirector;
+import org.apache.http.client.UserTokenHandler;
+import org.apache.http.conn.ClientConnectionManager;
+import org.apache.http.conn.ClientConnectionRequest;
+import org.apache.http.conn.ConnectionKeepAliveStrategy;
+import org.apache.http.conn.ManagedClientConnection;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.conn.routing.HttpRoutePlanner;
+import org.apache.http.conn.scheme.SchemeRegistry;
+import org.apache.http.impl.NoConnectionReuseStrategy;
+import org.apache.http.impl.client.DefaultHttpClient;
+import org.apache.http.impl.client.DefaultHttpRequestRetryHandler;
+import org.apache.http.impl.conn.BasicClientConnectionManager;
+import org.apache.http.impl.conn.PoolingClientConnectionManager;
+import org.apache.http.impl.conn.SchemeRegistryFactory;
+import org.apache.http.message.BasicHeaderElementIterator;
+import org.apache.http.params.HttpConnectionParams;
+import org.apache.http.params.HttpParams;
+import org.apache.http.protocol.HTTP;
+import org.apache.http.protocol.HttpProcessor;
+import org.apache.http.protocol.HttpRequestExecutor;
+
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * RestAssured {@link HttpClientConfig.HttpClientFactory} backed by one connection pool shared by all tests.
+ * RestAssured asks the factory for a new client per request; every client created here borrows
+ * connections from the same pool, so sockets (and TLS sessions) are kept alive and reused across
+ * requests, test methods and parallel workers instead of being opened per request.
+ * <p>
+ * Pool sizing, keep-alive, idle eviction and timeouts come from ApiConfig (HTTP_MAX_CONNECTIONS_TOTAL,
+ * HTTP_MAX_CONNECTIONS_PER_ROUTE, HTTP_KEEP_ALIVE_MS, HTTP_IDLE_EVICTION_MS, HTTP_TIMEOUT_MS). Transient failures are
+ * retried here, on the same client, following the {@link RetryFilter} of the request in flight.
+ * <p>
+ * Code that must not depend on socket reuse (for example the contenders of a concurrency race) can run
+ * inside {@link #withFreshConnections(Runnable)}: requests sent there open their own connection and close
+ * it after the response instead of borrowing from the pool.
+ */
+@SuppressWarnings("deprecation")
+public final class PooledHttpClientFactory implements HttpClientConfig.HttpClientFactory {
+
+    /** Default pool size across all routes. */
+    private static final int DEFAULT_MAX_TOTAL = 64;
+    /** Default pool size per route (host:port); the suite talks to a single BASE_URL. */
+    private static final int DEFAULT_MAX_PER_ROUTE = 32;
+    /**
+     * Default keep-alive when the server does not send a Keep-Alive timeout; below the 30 s idle timeout
+     * of common servers (including the JDK HttpServer behind the stub), so the client drops a connection
+     * before the server can close it under a request.
+     */
+    private static final long DEFAULT_KEEP_ALIVE_MS = 20_000L;
+    /** Default idle time after which pooled connections are closed; no longer than the keep-alive. */
+    private static final long DEFAULT_IDLE_EVICTION_MS = 20_000L;
+    /** Default connect and read timeout; also used by {@link AsyncApiClient}. */
+    static final long DEFAULT_TIMEOUT_MS = 60_000L;
+
+    private static final PooledHttpClientFactory INSTANCE = new PooledHttpClientFactory();
+    private static final ThreadLocal<Boolean> FRESH_CONNECTIONS = ThreadLocal.withInitial(() -> false);
+
+    private final ClientConnectionManager connectionManager;
+    private final ConnectionKeepAliveStrategy keepAliveStrategy;
+
+    private PooledHttpClientFactory() {
+        PoolingClientConnectionManager pool = new PoolingClientConnectionManager(SchemeRegistryFactory.createDefault());
+        pool.setMaxTotal(ApiConfig.getHttpMaxConnectionsTotal().orElse(DEFAULT_MAX_TOTAL));
+        pool.setDefaultMaxPerRoute(ApiConfig.getHttpMaxConnectionsPerRoute().orElse(DEFAULT_MAX_PER_ROUTE));
+        this.connectionManager = new SharedConnectionManager(pool);
+
+        long keepAliveMs = ApiConfig.getHttpKeepAliveMs().orElse(DEFAULT_KEEP_ALIVE_MS);
+        this.keepAliveStrategy = (response, context) -> serverKeepAliveMs(response).orElse(keepAliveMs);
+
+        long idleEvictionMs = ApiConfig.getHttpIdleEvictionMs().orElse(DEFAULT_IDLE_EVICTION_MS);
+        ScheduledExecutorService evictor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "http-pool-evictor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long period = Math.max(1_000L, idleEvictionMs / 2);
+        evictor.scheduleWithFixedDelay(() -> {
+            pool.closeExpiredConnections();
+            pool.closeIdleConnections(idleEvictionMs, TimeUnit.MILLISECONDS);
+        }, period, period, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * @return HttpClientConfig that makes RestAssured use the shared pool
+     */
+    public static HttpClientConfig httpClientConfig() {
+        return HttpClientConfig.httpClientConfig().httpClientFactory(INSTANCE);
+    }
+
+    /**
+     * Runs {@code action} with every request sent from this thread on a new, unpooled connection that is
+     * closed once the response has been read.
+     */
+    public static void withFreshConnections(Runnable action) {
+        boolean previous = FRESH_CONNECTIONS.get();
+        FRESH_CONNECTIONS.set(true);
+        try {
+            action.run();
+        } finally {
+            FRESH_CONNECTIONS.set(previous);
+        }
+    }
+
+    @Override
+    public HttpClient createHttpClient() {
+        // RestAssured mutates client params per request, so each request gets its own (cheap) client
+        DefaultHttpClient client;
+        if (FRESH_CONNECTIONS.get()) {
+            client = new RetryingHttpClient(new BasicClientConnectionManager(SchemeRegistryFactory.createDefault()));
+            client.setReuseStrategy(NoConnectionReuseStrategy.INSTANCE);
+        } else {
+            client = new RetryingHttpClient(connectionManager);
+            client.setKeepAliveStrategy(keepAliveStrategy);
+        }
+        int timeoutMs = (int) timeoutMillis();
+        HttpConnectionParams.setConnectionTimeout(client.getParams(), timeoutMs);
+        HttpConnectionParams.setSoTimeout(client.getParams(), timeoutMs);
+        // attempts are repeated by RetryingRequestDirector only; the client's own I/O retries would multiply them
+        client.setHttpRequestRetryHandler(new DefaultHttpRequestRetryHandler(0, false));
+        return client;
+    }
+
+    /** HTTP_TIMEOUT_MS of the current environment, read per client so each environment keeps its own. */
+    static long timeoutMillis() {
+        return ApiConfig.getHttpTimeoutMs().orElse(DEFAULT_TIMEOUT_MS);
+    }
+
+    private static Optional<Long> serverKeepAliveMs(HttpResponse response) {
+        BasicHeaderElementIterator it = new BasicHeaderElementIterator(response.headerIterator(HTTP.CONN_KEEP_ALIVE));
+        while (it.hasNext()) {
+            HeaderElement element = it.nextElement();
+            if ("timeout".equalsIgnoreCase(element.getName()) && element.getValue() != null) {
+                try {
+                    return Optional.of(Long.parseLong(element.getValue()) * 1000L);
+                } catch (NumberFormatException ignored) {
+                    // malformed Keep-Alive header; fall back to the configured default
+                }
+            }
+        }
+        return Optional.empty();
+    }
+
+    /** Wraps each request's director so attempts are repeated inside one RestAssured request. */
+    private static final class RetryingHttpClient extends DefaultHttpClient {
+
+        RetryingHttpClient(ClientConnectionManager connectionManager) {
+            super(connectionManager);
+        }
+
+        @Override
+        protected RequestDirector createClientRequestDirector(HttpRequestExecutor requestExec,
+                                                              ClientConnectionManager conman,
+                                                              ConnectionReuseStrategy reustrat,
+                                                              ConnectionKeepAliveStrategy kastrat,
+                                                              HttpRoutePlanner rouplan,
+                                                              HttpProcessor httpProcessor,
+                                                              HttpRequestRetryHandler retryHandler,
+                                                              RedirectStrategy redirectStrategy,
+                                                              AuthenticationStrategy targetAuthStrategy,
+                                                              AuthenticationStrategy proxyAuthStrategy,
+                                                              UserTokenHandler userTokenHandler,
+                                                              HttpParams params) {
+            return new RetryingRequestDirector(() -> super.createClientRequestDirector(requestExec, conman, reustrat,
+                    kastrat, rouplan, httpProcessor, retryHandler, redirectStrategy, targetAuthStrategy,
+                    proxyAuthStrategy, userTokenHandler, params));
+        }
+    }
+
+    /**
+     * Delegates to the shared pool but ignores {@link #shutdown()}, so a client that closes its
+     * connection manager cannot tear down the pool used by every other test.
+     */
+    private static final class SharedConnectionManager implements ClientConnectionManager {
+
+        private final ClientConnectionManager delegate;
+
+        SharedConnectionManager(ClientConnectionManager delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public SchemeRegistry getSchemeRegistry() {
+            return delegate.getSchemeRegistry();
+        }
+
+        @Override
+        public ClientConnectionRequest requestConnection(HttpRoute route, Object state) {
+            return delegate.requestConnection(route, state);
+        }
+
+        @Override
+        public void releaseConnection(ManagedClientConnection conn, long validDuration, TimeUnit timeUnit) {
+            delegate.releaseConnection(conn, validDuration, timeUnit);
+        }
+
+        @Override
+        public void closeIdleConnections(long idletime, TimeUnit tunit) {
+            delegate.closeIdleConnections(idletime, tunit);
+        }
+
+        @Override
+        public void closeExpiredConnections() {
+            delegate.closeExpiredConnections();
+        }
+
+        @Override
+        public void shutdown() {
+            // shared pool lives for the whole JVM
+        }
+    }
+}
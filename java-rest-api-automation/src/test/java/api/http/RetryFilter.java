@@ -0,0 +1,217 @@
+package api.http;
+
+import api.config.ApiConfig;
+import io.restassured.filter.FilterContext;
+import io.restassured.filter.OrderedFilter;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+import java.io.IOException;
+import java.net.URI;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * Retry policy and per-host circuit breaker for every request of a spec. Idempotent requests (GET, HEAD,
+ * OPTIONS, PUT, DELETE) that fail transiently, with a status in RETRY_STATUSES (default 429, 502, 503,
+ * 504) or an I/O error, are sent again up to RETRY_MAX_ATTEMPTS times in total. Between attempts the
+ * server's Retry-After is honoured, otherwise exponential backoff with full jitter (random up to
+ * RETRY_BASE_DELAY_MS * 2^n, capped at RETRY_MAX_DELAY_MS). A Retry-After longer than RETRY_MAX_DELAY_MS
+ * is not shortened: the response is returned without retrying. Every retry is passed to the reporter (the
+ * test's TestReporter in {@code BaseApiTest}). POST and PATCH are sent once: repeating them could
+ * create or change data twice.
+ * <p>
+ * RestAssured filters can call the rest of the chain only once, so the attempts themselves are made by
+ * the shared HTTP client ({@link RetryingRequestDirector}); this filter hands it the policy for the
+ * request in flight and feeds the final outcome to the host's {@link CircuitBreaker}: transient 5xx
+ * and I/O errors count as failures, 429 as back-pressure. Requests to a host whose circuit is open fail
+ * immediately. The cassette and latency filters see one response per
+ * request; its latency includes the retries.
+ */
+public final class RetryFilter implements OrderedFilter {
+
+    private static final Set<String> IDEMPOTENT_METHODS = Set.of("GET", "HEAD", "OPTIONS", "PUT", "DELETE");
+    private static final int DEFAULT_MAX_ATTEMPTS = 3;
+    private static final long DEFAULT_BASE_DELAY_MS = 200L;
+    private static final long DEFAULT_MAX_DELAY_MS = 5_000L;
+    private static final String DEFAULT_STATUSES = "429,502,503,504";
+    private static final int DEFAULT_CIRCUIT_FAILURE_THRESHOLD = 5;
+    private static final long DEFAULT_CIRCUIT_OPEN_MS = 30_000L;
+    private static final int TOO_MANY_REQUESTS = 429;
+    private static final int FIRST_SERVER_ERROR = 500;
+
+    /** Returned by {@link #delayMillis} when the server asks for a longer wait than RETRY_MAX_DELAY_MS. */
+    static final long NO_RETRY = -1L;
+
+    /** Policy of the request being sent on this thread, read by {@link RetryingRequestDirector}. */
+    private static final ThreadLocal<RetryFilter> IN_FLIGHT = new ThreadLocal<>();
+
+    private final Consumer<String> reporter;
+    private final int maxAttempts;
+    private final long baseDelayMs;
+    private final long maxDelayMs;
+    private final Set<Integer> retryStatuses;
+    private final int circuitFailureThreshold;
+    private final long circuitOpenMs;
+
+    /**
+     * @param reporter receives one line per retry and per request rejected by an open circuit
+     */
+    public RetryFilter(Consumer<String> reporter) {
+        this(reporter,
+                ApiConfig.getRetryMaxAttempts().orElse(DEFAULT_MAX_ATTEMPTS),
+                ApiConfig.getRetryBaseDelayMs().orElse(DEFAULT_BASE_DELAY_MS),
+                ApiConfig.getRetryMaxDelayMs().orElse(DEFAULT_MAX_DELAY_MS),
+                Arrays.stream(ApiConfig.getRetryStatuses().orElse(DEFAULT_STATUSES).split(","))
+                        .map(String::trim)
+                        .filter(s -> !s.isEmpty())
+                        .map(Integer::valueOf)
+                        .collect(Collectors.toUnmodifiableSet()),
+                ApiConfig.getCircuitFailureThreshold().orElse(DEFAULT_CIRCUIT_FAILURE_THRESHOLD),
+                ApiConfig.getCircuitOpenMs().orElse(DEFAULT_CIRCUIT_OPEN_MS));
+    }
+
+    /** Explicit policy, independent of the configuration. */
+    RetryFilter(Consumer<String> reporter, int maxAttempts, long baseDelayMs, long maxDelayMs,
+                Set<Integer> retryStatuses, int circuitFailureThreshold, long circuitOpenMs) {
+        this.reporter = reporter;
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.baseDelayMs = baseDelayMs;
+        this.maxDelayMs = maxDelayMs;
+        this.retryStatuses = Set.copyOf(retryStatuses);
+        this.circuitFailureThreshold = Math.max(1, circuitFailureThreshold);
+        this.circuitOpenMs = circuitOpenMs;
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        URI uri = URI.create(requestSpec.getURI());
+        CircuitBreaker breaker = breakerFor(uri);
+        if (!breaker.allowRequest()) {
+            throw circuitOpen(breaker, requestSpec.getMethod(), uri);
+        }
+        RetryFilter outer = IN_FLIGHT.get();
+        IN_FLIGHT.set(this);
+        boolean recorded = false;
+        try {
+            Response response = ctx.next(requestSpec, responseSpec);
+            recordOutcome(breaker, response.getStatusCode());
+            recorded = true;
+            return response;
+        } catch (RuntimeException e) {
+            if (isIoFailure(e)) {
+                breaker.recordFailure();
+                recorded = true;
+            }
+            throw e;
+        } finally {
+            if (!recorded) {
+                // Neither success nor failure of the host: a half-open trial must not stay pending forever
+                breaker.releaseTrial();
+            }
+            if (outer == null) {
+                IN_FLIGHT.remove();
+            } else {
+                IN_FLIGHT.set(outer);
+            }
+        }
+    }
+
+    /** Policy for the request being sent on the calling thread, or null outside a RestAssured request. */
+    static RetryFilter inFlight() {
+        return IN_FLIGHT.get();
+    }
+
+    CircuitBreaker breakerFor(URI uri) {
+        return CircuitBreaker.forHost(uri.getHost() + ":" + uri.getPort(), circuitFailureThreshold, circuitOpenMs);
+    }
+
+    /** Reports and returns the failure for a request rejected by an open circuit. */
+    IllegalStateException circuitOpen(CircuitBreaker breaker, String method, URI uri) {
+        String message = "Circuit open for " + uri.getHost() + ":" + uri.getPort() + " after "
+                + breaker.consecutiveFailures() + " consecutive failures (until "
+                + Instant.ofEpochMilli(breaker.openUntil()) + "); not sending " + method + " " + uri.getRawPath();
+        reporter.accept(message);
+        return new IllegalStateException(message);
+    }
+
+    /** Attempts allowed for the method: RETRY_MAX_ATTEMPTS for idempotent methods, otherwise 1. */
+    int attemptsFor(String method) {
+        return IDEMPOTENT_METHODS.contains(method.toUpperCase(Locale.ROOT)) ? maxAttempts : 1;
+    }
+
+    boolean isRetryStatus(int status) {
+        return retryStatuses.contains(status);
+    }
+
+    /**
+     * Feeds the final status of a request to the breaker: a transient 5xx is a failure, 429 is
+     * back-pressure (the server is up, only asking to slow down) and anything else a success.
+     */
+    void recordOutcome(CircuitBreaker breaker, int status) {
+        if (status == TOO_MANY_REQUESTS) {
+            breaker.recordBackPressure();
+        } else if (status >= FIRST_SERVER_ERROR && isRetryStatus(status)) {
+            breaker.recordFailure();
+        } else {
+            breaker.recordSuccess();
+        }
+    }
+
+    /**
+     * Wait before the next attempt: Retry-After (delta-seconds or HTTP-date) when given, otherwise full
+     * jitter, uniform in [0, min(max, base * 2^(attempt-1))]. {@link #NO_RETRY} when Retry-After asks for
+     * more than RETRY_MAX_DELAY_MS: retrying sooner would only be rejected again.
+     */
+    long delayMillis(int attempt, String retryAfter) {
+        if (retryAfter != null && !retryAfter.isBlank()) {
+            try {
+                return honour(Long.parseLong(retryAfter.trim()) * 1000L);
+            } catch (NumberFormatException e) {
+                try {
+                    return honour(Duration.between(Instant.now(),
+                            ZonedDateTime.parse(retryAfter.trim(), DateTimeFormatter.RFC_1123_DATE_TIME)).toMillis());
+                } catch (DateTimeParseException ignored) {
+                    // unparseable Retry-After; fall back to backoff
+                }
+            }
+        }
+        long ceiling = Math.min(maxDelayMs, baseDelayMs << Math.min(attempt - 1, 20));
+        return ThreadLocalRandom.current().nextLong(ceiling + 1);
+    }
+
+    void report(String message) {
+        reporter.accept(message);
+    }
+
+    private long honour(long millis) {
+        return millis > maxDelayMs ? NO_RETRY : Math.max(0L, millis);
+    }
+
+    static boolean isIoFailure(Throwable e) {
+        for (Throwable t = e; t != null; t = t.getCause()) {
+            if (t instanceof IOException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /** Outermost after {@link BearerAuthFilter}, so the breaker sees the final outcome of each request. */
+    @Override
+    public int getOrder() {
+        return HIGHEST_PRECEDENCE + 1;
+    }
+}
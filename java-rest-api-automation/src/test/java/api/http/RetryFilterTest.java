@@ -0,0 +1,175 @@
+package api.http;
+
+import io.restassured.filter.FilterContext;
+import io.restassured.specification.FilterableRequestSpecification;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.UncheckedIOException;
+import java.lang.reflect.Proxy;
+import java.net.SocketException;
+import java.net.URI;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for the {@link RetryFilter} policy (attempts, delays, Retry-After) and for how request
+ * outcomes reach the host's {@link CircuitBreaker}. No request leaves the JVM.
+ */
+@DisplayName("Retry filter: policy and circuit outcomes")
+class RetryFilterTest {
+
+    private static final int MAX_ATTEMPTS = 3;
+    private static final long BASE_DELAY_MS = 200L;
+    private static final long MAX_DELAY_MS = 5_000L;
+    private static final Set<Integer> RETRY_STATUSES = Set.of(429, 502, 503, 504);
+
+    private final List<String> reports = new ArrayList<>();
+
+    @Test
+    @DisplayName("Idempotent methods get RETRY_MAX_ATTEMPTS, POST and PATCH one attempt")
+    void attemptsFor_dependsOnIdempotency() {
+        RetryFilter filter = filter(1, 0L);
+
+        for (String method : List.of("GET", "HEAD", "OPTIONS", "PUT", "DELETE", "get")) {
+            assertEquals(MAX_ATTEMPTS, filter.attemptsFor(method), method);
+        }
+        assertEquals(1, filter.attemptsFor("POST"));
+        assertEquals(1, filter.attemptsFor("PATCH"));
+    }
+
+    @Test
+    @DisplayName("Retry-After in seconds within RETRY_MAX_DELAY_MS is honoured as is")
+    void delayMillis_withShortRetryAfter_honoursIt() {
+        RetryFilter filter = filter(1, 0L);
+
+        assertEquals(2_000L, filter.delayMillis(1, "2"));
+        assertEquals(0L, filter.delayMillis(1, "0"));
+    }
+
+    @Test
+    @DisplayName("Retry-After above RETRY_MAX_DELAY_MS means no retry")
+    void delayMillis_withLongRetryAfter_returnsNoRetry() {
+        RetryFilter filter = filter(1, 0L);
+        String inAMinute = ZonedDateTime.now(ZoneOffset.UTC).plusMinutes(1).format(DateTimeFormatter.RFC_1123_DATE_TIME);
+
+        assertEquals(RetryFilter.NO_RETRY, filter.delayMillis(1, "120"));
+        assertEquals(RetryFilter.NO_RETRY, filter.delayMillis(1, inAMinute));
+    }
+
+    @Test
+    @DisplayName("Without Retry-After the delay is full jitter capped by the backoff ceiling")
+    void delayMillis_withoutRetryAfter_staysWithinBackoff() {
+        RetryFilter filter = filter(1, 0L);
+
+        for (int i = 0; i < 100; i++) {
+            long first = filter.delayMillis(1, null);
+            long third = filter.delayMillis(3, "not a date");
+            long late = filter.delayMillis(30, "");
+            assertTrue(first >= 0 && first <= BASE_DELAY_MS, "attempt 1: " + first);
+            assertTrue(third >= 0 && third <= BASE_DELAY_MS * 4, "attempt 3: " + third);
+            assertTrue(late >= 0 && late <= MAX_DELAY_MS, "attempt 30: " + late);
+        }
+    }
+
+    @Test
+    @DisplayName("429 is back-pressure: it neither counts as a failure nor resets the count")
+    void recordOutcome_with429_isBackPressure() {
+        RetryFilter filter = filter(3, 60_000L);
+        CircuitBreaker breaker = new CircuitBreaker(3, 60_000L);
+        breaker.recordFailure();
+
+        filter.recordOutcome(breaker, 429);
+        filter.recordOutcome(breaker, 429);
+        filter.recordOutcome(breaker, 429);
+
+        assertEquals(1, breaker.consecutiveFailures());
+        assertTrue(breaker.allowRequest());
+    }
+
+    @Test
+    @DisplayName("Transient 5xx counts as failure; other statuses, including non-retry 5xx, as success")
+    void recordOutcome_countsOnlyTransientServerErrors() {
+        RetryFilter filter = filter(3, 60_000L);
+        CircuitBreaker breaker = new CircuitBreaker(3, 60_000L);
+
+        filter.recordOutcome(breaker, 503);
+        filter.recordOutcome(breaker, 502);
+        assertEquals(2, breaker.consecutiveFailures());
+        filter.recordOutcome(breaker, 500);
+        assertEquals(0, breaker.consecutiveFailures(), "500 is not in RETRY_STATUSES: the host answered");
+        filter.recordOutcome(breaker, 504);
+        filter.recordOutcome(breaker, 404);
+        assertEquals(0, breaker.consecutiveFailures());
+    }
+
+    @Test
+    @DisplayName("A half-open trial that throws a non-I/O exception is released, not left pending")
+    void filter_whenTrialThrows_releasesTrial() {
+        RetryFilter filter = filter(1, 0L);
+        URI uri = URI.create("http://trial-released.invalid:8080/users");
+        CircuitBreaker breaker = filter.breakerFor(uri);
+        breaker.recordFailure();
+
+        assertThrows(IllegalStateException.class, () -> filter.filter(request(uri), null,
+                failingContext(new IllegalStateException("No recorded response for GET /users"))));
+
+        assertTrue(breaker.allowRequest(), "Next request after the open period must be let through as a new trial");
+    }
+
+    @Test
+    @DisplayName("An I/O failure of the trial reopens the circuit")
+    void filter_whenTrialFailsWithIo_recordsFailure() {
+        RetryFilter filter = filter(1, 60_000L);
+        URI uri = URI.create("http://trial-io-failure.invalid:8080/users");
+        CircuitBreaker breaker = filter.breakerFor(uri);
+
+        assertThrows(UncheckedIOException.class, () -> filter.filter(request(uri), null,
+                failingContext(new UncheckedIOException(new SocketException("Connection reset")))));
+
+        assertEquals(1, breaker.consecutiveFailures());
+        assertFalse(breaker.allowRequest());
+        assertThrows(IllegalStateException.class, () -> filter.filter(request(uri), null, failingContext(null)));
+        assertTrue(reports.stream().anyMatch(r -> r.startsWith("Circuit open for trial-io-failure.invalid:8080")),
+                "Rejected request must be reported: " + reports);
+    }
+
+    private RetryFilter filter(int circuitFailureThreshold, long circuitOpenMs) {
+        return new RetryFilter(reports::add, MAX_ATTEMPTS, BASE_DELAY_MS, MAX_DELAY_MS, RETRY_STATUSES,
+                circuitFailureThreshold, circuitOpenMs);
+    }
+
+    private static FilterableRequestSpecification request(URI uri) {
+        return (FilterableRequestSpecification) Proxy.newProxyInstance(RetryFilterTest.class.getClassLoader(),
+                new Class<?>[]{FilterableRequestSpecification.class}, (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "getURI":
+                            return uri.toString();
+                        case "getMethod":
+                            return "GET";
+                        default:
+                            throw new UnsupportedOperationException(method.getName());
+                    }
+                });
+    }
+
+    /** Filter chain whose next step throws the given exception. */
+    private static FilterContext failingContext(RuntimeException failure) {
+        return (FilterContext) Proxy.newProxyInstance(RetryFilterTest.class.getClassLoader(),
+                new Class<?>[]{FilterContext.class}, (proxy, method, args) -> {
+                    if (method.getName().equals("next") && failure != null) {
+                        throw failure;
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+    }
+}
@@ -0,0 +1,91 @@
+package api.http;
+
+import org.apache.http.Header;
+import org.apache.http.HttpEntity;
+import org.apache.http.HttpEntityEnclosingRequest;
+import org.apache.http.HttpException;
+import org.apache.http.HttpHost;
+import org.apache.http.HttpRequest;
+import org.apache.http.HttpResponse;
+import org.apache.http.client.RequestDirector;
+import org.apache.http.client.methods.AbstractExecutionAwareRequest;
+import org.apache.http.protocol.HttpContext;
+import org.apache.http.util.EntityUtils;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.function.Supplier;
+
+/**
+ * Repeats a request on the shared HTTP client according to the {@link RetryFilter} of the request in
+ * flight on this thread. Without one (or for a non-repeatable body) the request is sent once. Directors
+ * are single-use, so each attempt gets a new one.
+ */
+@SuppressWarnings("deprecation")
+final class RetryingRequestDirector implements RequestDirector {
+
+    private final Supplier<RequestDirector> directors;
+
+    RetryingRequestDirector(Supplier<RequestDirector> directors) {
+        this.directors = directors;
+    }
+
+    @Override
+    public HttpResponse execute(HttpHost target, HttpRequest request, HttpContext context)
+            throws HttpException, IOException {
+        RetryFilter policy = RetryFilter.inFlight();
+        String method = request.getRequestLine().getMethod();
+        int attempts = policy == null || !isRepeatable(request) ? 1 : policy.attemptsFor(method);
+        String description = method + " " + request.getRequestLine().getUri();
+        for (int attempt = 1; ; attempt++) {
+            if (attempt > 1 && request instanceof AbstractExecutionAwareRequest) {
+                ((AbstractExecutionAwareRequest) request).reset();
+            }
+            HttpResponse response;
+            try {
+                response = directors.get().execute(target, request, context);
+            } catch (IOException e) {
+                if (attempt >= attempts) {
+                    throw e;
+                }
+                long delay = policy.delayMillis(attempt, null);
+                policy.report(String.format("Retry %d/%d %s after %s (waiting %d ms)",
+                        attempt, attempts - 1, description, e, delay));
+                sleep(delay);
+                continue;
+            }
+            int status = response.getStatusLine().getStatusCode();
+            if (attempt >= attempts || !policy.isRetryStatus(status)) {
+                return response;
+            }
+            Header retryAfter = response.getFirstHeader("Retry-After");
+            long delay = policy.delayMillis(attempt, retryAfter == null ? null : retryAfter.getValue());
+            if (delay == RetryFilter.NO_RETRY) {
+                policy.report(String.format("Not retrying %s after %d: Retry-After %s exceeds RETRY_MAX_DELAY_MS",
+                        description, status, retryAfter.getValue()));
+                return response;
+            }
+            EntityUtils.consumeQuietly(response.getEntity());
+            policy.report(String.format("Retry %d/%d %s after %d (waiting %d ms)",
+                    attempt, attempts - 1, description, status, delay));
+            sleep(delay);
+        }
+    }
+
+    private static boolean isRepeatable(HttpRequest request) {
+        if (!(request instanceof HttpEntityEnclosingRequest)) {
+            return true;
+        }
+        HttpEntity entity = ((HttpEntityEnclosingRequest) request).getEntity();
+        return entity == null || entity.isRepeatable();
+    }
+
+    private static void sleep(long millis) throws IOException {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting to retry");
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package api.load;
+
+import api.BaseApiTest;
+import api.config.ApiConfig;
+import api.config.AuthProvider;
+import api.fixtures.FixturePool;
+import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
+
+import java.util.ArrayList;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import static io.restassured.RestAssured.given;
+
+/**
+ * Shared inputs for load scenarios: base and authenticated specs, resource path and one fixture resource
+ * (created up front) that GET by id, PATCH and PUT target. The scenario specs send each request once
+ * (no retries), so errors and latencies are measured as the API served them. Every user created during
+ * the run, the fixture included, is handed to the {@link FixturePool} by {@link #cleanUp()} and deleted
+ * by its sweep.
+ */
+public final class LoadContext {
+
+    private final RequestSpecification spec;
+    private final String basePath;
+    private final RequestSpecification authSpec;
+    private final String fixturePath;
+    private final String fixtureEmail;
+    private final Queue<String> createdIds = new ConcurrentLinkedQueue<>();
+
+    private LoadContext(RequestSpecification spec, String basePath, RequestSpecification authSpec, String fixturePath, String fixtureEmail) {
+        this.spec = spec;
+        this.basePath = basePath;
+        this.authSpec = authSpec;
+        this.fixturePath = fixturePath;
+        this.fixtureEmail = fixtureEmail;
+    }
+
+    /**
+     * Builds the context from ApiConfig. When AUTH_TOKEN is set, creates the fixture resource;
+     * otherwise the first resource of the list is used as fixture.
+     *
+     * @throws IllegalStateException when no fixture resource can be obtained
+     */
+    public static LoadContext fromConfig() {
+        RequestSpecification spec = BaseApiTest.createBaseSpecWithoutRetries();
+        String basePath = ApiConfig.getCreateEndpoint()
+                .map(p -> p.startsWith("/") ? p : "/" + p)
+                .orElseThrow(() -> new IllegalStateException("PROTECTED_ENDPOINT/CREATE_ENDPOINT must be set"));
+        boolean authenticated = ApiConfig.getAuthToken().isPresent();
+        RequestSpecification authSpec = BaseApiTest.createAuthSpecWithoutRetries(AuthProvider.admin());
+
+        Object id;
+        String email = LoadScenario.uniqueEmail("load-fixture");
+        if (authenticated) {
+            // Setup is not measured, so it may retry
+            Response created = given().spec(BaseApiTest.createAuthSpec(AuthProvider.admin()))
+                    .body(LoadScenario.userBody("Load Fixture", email, "active"))
+                    .when().post(basePath);
+            id = created.path("id");
+        } else {
+            id = given().spec(BaseApiTest.createBaseSpec()).when().get(basePath).path("[0].id");
+        }
+        if (id == null) {
+            throw new IllegalStateException("Could not obtain a fixture resource from " + basePath);
+        }
+        LoadContext ctx = new LoadContext(spec, basePath, authSpec, basePath + "/" + id, email);
+        if (authenticated) {
+            ctx.createdIds.add(String.valueOf(id));
+        }
+        return ctx;
+    }
+
+    /** Records a user created by a scenario, so {@link #cleanUp()} removes it. */
+    void created(Object id) {
+        if (id != null) {
+            createdIds.add(String.valueOf(id));
+        }
+    }
+
+    /**
+     * Hands every user created by the run to the {@link FixturePool}, which deletes them when the test
+     * plan finishes (ids already deleted by the DELETE scenario count as deleted).
+     */
+    public void cleanUp() {
+        FixturePool.current().ifPresent(pool -> pool.adopt(new ArrayList<>(createdIds)));
+        createdIds.clear();
+    }
+
+    RequestSpecification spec() {
+        return spec;
+    }
+
+    String basePath() {
+        return basePath;
+    }
+
+    /** Spec whose bearer token is resolved per request, so cached OAuth tokens refresh during long runs. */
+    RequestSpecification authSpec() {
+        return authSpec;
+    }
+
+    String fixturePath() {
+        return fixturePath;
+    }
+
+    String fixtureEmail() {
+        return fixtureEmail;
+    }
+}
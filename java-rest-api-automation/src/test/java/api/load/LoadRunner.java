@@ -0,0 +1,156 @@
+package api.load;
+
+import io.restassured.response.Response;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.PrintStream;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open-loop load generator: issues requests at a fixed rate regardless of how fast the API answers,
+ * cycling through the given scenarios. Latency is measured from each request's intended start time,
+ * so time spent queued behind slow requests is included (no coordinated omission).
+ * <p>
+ * Requests run on a bounded worker pool ({@code maxConcurrency}); keep it at or below
+ * HTTP_MAX_CONNECTIONS_PER_ROUTE so workers do not wait on the connection pool.
+ */
+public final class LoadRunner {
+
+    private static final long HIGHEST_TRACKABLE_NANOS = TimeUnit.MINUTES.toNanos(5);
+    private static final int SIGNIFICANT_DIGITS = 3;
+    private static final long TERMINATION_GRACE_SECONDS = 60L;
+
+    private final LoadContext ctx;
+    private final List<LoadScenario> scenarios;
+    private final int rps;
+    private final Duration duration;
+    private final int maxConcurrency;
+
+    public LoadRunner(LoadContext ctx, List<LoadScenario> scenarios, int rps, Duration duration, int maxConcurrency) {
+        if (scenarios.isEmpty() || rps <= 0 || maxConcurrency <= 0) {
+            throw new IllegalArgumentException("scenarios, rps and maxConcurrency must be positive");
+        }
+        this.ctx = ctx;
+        this.scenarios = List.copyOf(scenarios);
+        this.rps = rps;
+        this.duration = duration;
+        this.maxConcurrency = maxConcurrency;
+    }
+
+    /**
+     * Runs the load for the configured duration and waits for in-flight requests to finish.
+     */
+    public Report run() throws InterruptedException {
+        Map<LoadScenario, ScenarioStats> stats = new LinkedHashMap<>();
+        scenarios.forEach(s -> stats.putIfAbsent(s, new ScenarioStats()));
+
+        AtomicInteger threadIndex = new AtomicInteger();
+        ExecutorService executor = new ThreadPoolExecutor(maxConcurrency, maxConcurrency, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(), runnable -> {
+                    Thread thread = new Thread(runnable, "load-worker-" + threadIndex.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / rps;
+        long durationNanos = duration.toNanos();
+        long start = System.nanoTime();
+        AtomicLong lastCompletion = new AtomicLong(start);
+        for (long i = 0; i * intervalNanos < durationNanos; i++) {
+            long intended = start + i * intervalNanos;
+            long wait = intended - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            LoadScenario scenario = scenarios.get((int) (i % scenarios.size()));
+            ScenarioStats scenarioStats = stats.get(scenario);
+            executor.execute(() -> {
+                boolean ok;
+                try {
+                    Response response = scenario.execute(ctx);
+                    ok = scenario.isExpected(response.getStatusCode());
+                } catch (RuntimeException e) {
+                    ok = false;
+                }
+                long end = System.nanoTime();
+                scenarioStats.record(end - intended, ok);
+                lastCompletion.accumulateAndGet(end, Math::max);
+            });
+        }
+        executor.shutdown();
+        if (!executor.awaitTermination(duration.getSeconds() + TERMINATION_GRACE_SECONDS, TimeUnit.SECONDS)) {
+            executor.shutdownNow();
+        }
+        return new Report(stats, lastCompletion.get() - start);
+    }
+
+    private static final class ScenarioStats {
+        private final Histogram latencies = new ConcurrentHistogram(HIGHEST_TRACKABLE_NANOS, SIGNIFICANT_DIGITS);
+        private final AtomicLong errors = new AtomicLong();
+
+        void record(long latencyNanos, boolean ok) {
+            latencies.recordValue(Math.min(latencyNanos, HIGHEST_TRACKABLE_NANOS));
+            if (!ok) {
+                errors.incrementAndGet();
+            }
+        }
+    }
+
+    /** Throughput, error count and latency percentiles per scenario and in total. */
+    public static final class Report {
+        private final Map<LoadScenario, ScenarioStats> stats;
+        private final long elapsedNanos;
+
+        private Report(Map<LoadScenario, ScenarioStats> stats, long elapsedNanos) {
+            this.stats = stats;
+            this.elapsedNanos = Math.max(1L, elapsedNanos);
+        }
+
+        public long totalRequests() {
+            return stats.values().stream().mapToLong(s -> s.latencies.getTotalCount()).sum();
+        }
+
+        public long totalErrors() {
+            return stats.values().stream().mapToLong(s -> s.errors.get()).sum();
+        }
+
+        public double errorRate() {
+            long total = totalRequests();
+            return total == 0 ? 0.0 : (double) totalErrors() / total;
+        }
+
+        public void print(PrintStream out) {
+            out.printf("%-14s %8s %7s %10s %9s %9s %9s %9s %9s%n",
+                    "Scenario", "Requests", "Errors", "Thr (rps)", "p50 ms", "p95 ms", "p99 ms", "p99.9 ms", "max ms");
+            Histogram total = new Histogram(HIGHEST_TRACKABLE_NANOS, SIGNIFICANT_DIGITS);
+            for (Map.Entry<LoadScenario, ScenarioStats> entry : stats.entrySet()) {
+                Histogram h = entry.getValue().latencies.copy();
+                total.add(h);
+                printRow(out, entry.getKey().name(), h, entry.getValue().errors.get());
+            }
+            printRow(out, "TOTAL", total, totalErrors());
+        }
+
+        private void printRow(PrintStream out, String name, Histogram h, long errors) {
+            double seconds = elapsedNanos / 1e9;
+            out.printf("%-14s %8d %7d %10.1f %9.1f %9.1f %9.1f %9.1f %9.1f%n",
+                    name, h.getTotalCount(), errors, h.getTotalCount() / seconds,
+                    millis(h, 50.0), millis(h, 95.0), millis(h, 99.0), millis(h, 99.9), h.getMaxValue() / 1e6);
+        }
+
+        private static double millis(Histogram h, double percentile) {
+            return h.getValueAtPercentile(percentile) / 1e6;
+        }
+    }
+}
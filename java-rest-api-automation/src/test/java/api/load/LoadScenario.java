@@ -0,0 +1,146 @@
+package api.load;
+
+import io.restassured.response.Response;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+
+import static io.restassured.RestAssured.given;
+
+/**
+ * Request flows replayed by the load runner. Each mirrors the happy path of the corresponding
+ * functional test area (get-list, get-single, post-create, patch-update, put-update, delete) and
+ * uses the same ApiConfig endpoints and tokens.
+ */
+public enum LoadScenario {
+
+    GET_LIST(false) {
+        @Override
+        Response execute(LoadContext ctx) {
+            return given().spec(ctx.spec()).when().get(ctx.basePath());
+        }
+
+        @Override
+        boolean isExpected(int status) {
+            return status == 200;
+        }
+    },
+
+    GET_BY_ID(false) {
+        @Override
+        Response execute(LoadContext ctx) {
+            return given().spec(ctx.spec()).when().get(ctx.fixturePath());
+        }
+
+        @Override
+        boolean isExpected(int status) {
+            return status == 200;
+        }
+    },
+
+    POST_CREATE(true) {
+        @Override
+        Response execute(LoadContext ctx) {
+            Response created = given().spec(ctx.authSpec())
+                    .body(userBody("Load Create", uniqueEmail("load-post"), "active"))
+                    .when().post(ctx.basePath());
+            if (isExpected(created.getStatusCode())) {
+                ctx.created(created.path("id"));
+            }
+            return created;
+        }
+
+        @Override
+        boolean isExpected(int status) {
+            return status == 201 || status == 200;
+        }
+    },
+
+    PATCH_UPDATE(true) {
+        @Override
+        Response execute(LoadContext ctx) {
+            return given().spec(ctx.authSpec())
+                    .body("{\"name\":\"Load Patch\"}")
+                    .when().patch(ctx.fixturePath());
+        }
+
+        @Override
+        boolean isExpected(int status) {
+            return status == 200 || status == 204;
+        }
+    },
+
+    PUT_UPDATE(true) {
+        @Override
+        Response execute(LoadContext ctx) {
+            return given().spec(ctx.authSpec())
+                    .body(userBody("Load Put", ctx.fixtureEmail(), "inactive"))
+                    .when().put(ctx.fixturePath());
+        }
+
+        @Override
+        boolean isExpected(int status) {
+            return status == 200 || status == 204;
+        }
+    },
+
+    /** Create-then-delete flow; the recorded latency covers both requests. */
+    DELETE(true) {
+        @Override
+        Response execute(LoadContext ctx) {
+            Response created = POST_CREATE.execute(ctx);
+            Object id = created.path("id");
+            if (!POST_CREATE.isExpected(created.getStatusCode()) || id == null) {
+                return created;
+            }
+            return given().spec(ctx.authSpec())
+                    .when().delete(ctx.basePath() + "/" + id);
+        }
+
+        @Override
+        boolean isExpected(int status) {
+            return status == 204 || status == 200;
+        }
+    };
+
+    private final boolean requiresAuth;
+
+    LoadScenario(boolean requiresAuth) {
+        this.requiresAuth = requiresAuth;
+    }
+
+    abstract Response execute(LoadContext ctx);
+
+    abstract boolean isExpected(int status);
+
+    public boolean requiresAuth() {
+        return requiresAuth;
+    }
+
+    /**
+     * Parses a comma-separated list of scenario names (case-insensitive). Blank means all scenarios.
+     */
+    public static List<LoadScenario> parse(String names) {
+        if (names == null || names.isBlank()) {
+            return Arrays.asList(values());
+        }
+        List<LoadScenario> scenarios = new ArrayList<>();
+        for (String name : names.split(",")) {
+            if (!name.isBlank()) {
+                scenarios.add(valueOf(name.trim().toUpperCase(Locale.ROOT)));
+            }
+        }
+        return scenarios;
+    }
+
+    static String userBody(String name, String email, String status) {
+        return "{\"name\":\"" + name + "\",\"email\":\"" + email + "\",\"gender\":\"male\",\"status\":\"" + status + "\"}";
+    }
+
+    static String uniqueEmail(String prefix) {
+        return prefix + "-" + UUID.randomUUID() + "@example.com";
+    }
+}
@@ -0,0 +1,58 @@
+package api.load;
+
+import api.config.ApiConfig;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Load mode: replays the REST scenarios open-loop at LOAD_RPS for LOAD_DURATION_SECONDS and prints
+ * throughput and p50/p95/p99/p99.9 latencies. Skipped unless LOAD_RPS is set (see the {@code load}
+ * Maven profile). Mutating scenarios are dropped when AUTH_TOKEN is not set. Fails when the share
+ * of unexpected responses exceeds LOAD_MAX_ERROR_RATE. Users created by the run are deleted afterwards.
+ */
+@DisplayName("Load: REST scenarios at target RPS")
+class ScenarioLoadTest {
+
+    private static final long DEFAULT_DURATION_SECONDS = 30L;
+    private static final int DEFAULT_MAX_CONCURRENCY = 32;
+    private static final double DEFAULT_MAX_ERROR_RATE = 0.01;
+
+    @Test
+    @DisplayName("Scenarios sustain target RPS within error budget")
+    void scenarios_atTargetRps_withinErrorBudget() throws InterruptedException {
+        Assumptions.assumeTrue(ApiConfig.getBaseUrl().isPresent(), "BASE_URL must be set");
+        Assumptions.assumeTrue(ApiConfig.getLoadRps().isPresent(), "LOAD_RPS must be set (load mode)");
+
+        boolean authenticated = ApiConfig.getAuthToken().isPresent();
+        List<LoadScenario> scenarios = LoadScenario.parse(ApiConfig.getLoadScenarios().orElse("")).stream()
+                .filter(s -> authenticated || !s.requiresAuth())
+                .collect(Collectors.toList());
+        assertFalse(scenarios.isEmpty(), "No load scenarios left to run (mutating scenarios need AUTH_TOKEN)");
+
+        LoadContext ctx = LoadContext.fromConfig();
+        LoadRunner.Report report;
+        try {
+            LoadRunner runner = new LoadRunner(ctx, scenarios,
+                    ApiConfig.getLoadRps().orElseThrow(),
+                    Duration.ofSeconds(ApiConfig.getLoadDurationSeconds().orElse(DEFAULT_DURATION_SECONDS)),
+                    ApiConfig.getLoadMaxConcurrency().orElse(DEFAULT_MAX_CONCURRENCY));
+            report = runner.run();
+        } finally {
+            ctx.cleanUp();
+        }
+        report.print(System.out);
+
+        double maxErrorRate = ApiConfig.getLoadMaxErrorRate().orElse(DEFAULT_MAX_ERROR_RATE);
+        assertTrue(report.errorRate() <= maxErrorRate,
+                "Error rate " + report.errorRate() + " exceeded " + maxErrorRate
+                        + " (" + report.totalErrors() + " of " + report.totalRequests() + " requests)");
+    }
+}
@@ -0,0 +1,76 @@
+package api.metrics;
+
+import api.config.ApiConfig;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * JVM-wide latency store: one HdrHistogram {@link Recorder} per environment and "METHOD /normalized/path".
+ * The environment is the name of the config snapshot of the recording thread (see ApiConfig#runWith).
+ * Recording is wait-free, so parallel tests do not contend; {@link #snapshot()} drains the recorders
+ * into cumulative histograms for reporting.
+ */
+public final class LatencyRegistry {
+
+    private static final long HIGHEST_TRACKABLE_NANOS = TimeUnit.MINUTES.toNanos(5);
+    private static final int SIGNIFICANT_DIGITS = 3;
+    /** Numeric ids and UUIDs are collapsed so /users/1 and /users/2 share one endpoint key. */
+    private static final Pattern ID_SEGMENT = Pattern.compile(
+            "/(\\d+|[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12})(?=/|$)");
+
+    private static final Map<String, Map<String, Recorder>> RECORDERS = new ConcurrentHashMap<>();
+    private static final Map<String, Map<String, Histogram>> TOTALS = new ConcurrentHashMap<>();
+
+    private LatencyRegistry() {
+    }
+
+    /**
+     * Records one request's latency.
+     *
+     * @param method HTTP method
+     * @param path   request path (query string is ignored)
+     */
+    public static void record(String method, String path, long latencyNanos) {
+        RECORDERS.computeIfAbsent(ApiConfig.snapshot().getName(), env -> new ConcurrentHashMap<>())
+                .computeIfAbsent(endpointKey(method, path), k -> new Recorder(HIGHEST_TRACKABLE_NANOS, SIGNIFICANT_DIGITS))
+                .recordValue(Math.min(Math.max(0L, latencyNanos), HIGHEST_TRACKABLE_NANOS));
+    }
+
+    /**
+     * Endpoint key used for grouping, e.g. "GET /users/{id}".
+     */
+    public static String endpointKey(String method, String path) {
+        String p = path == null || path.isEmpty() ? "/" : path;
+        int query = p.indexOf('?');
+        if (query >= 0) {
+            p = p.substring(0, query);
+        }
+        return method.toUpperCase() + " " + ID_SEGMENT.matcher(p).replaceAll("/{id}");
+    }
+
+    /**
+     * @return cumulative histograms (nanoseconds) of everything recorded so far, by environment name
+     *         and then endpoint key, both sorted
+     */
+    public static synchronized Map<String, Map<String, Histogram>> snapshot() {
+        RECORDERS.forEach((env, recorders) -> {
+            Map<String, Histogram> totals = TOTALS.computeIfAbsent(env, e -> new ConcurrentHashMap<>());
+            recorders.forEach((key, recorder) -> totals
+                    .computeIfAbsent(key, k -> new Histogram(HIGHEST_TRACKABLE_NANOS, SIGNIFICANT_DIGITS))
+                    .add(recorder.getIntervalHistogram()));
+        });
+        Map<String, Map<String, Histogram>> copy = new TreeMap<>();
+        TOTALS.forEach((env, totals) -> {
+            Map<String, Histogram> envCopy = new TreeMap<>();
+            totals.forEach((key, histogram) -> envCopy.put(key, histogram.copy()));
+            copy.put(env, envCopy);
+        });
+        return copy;
+    }
+}
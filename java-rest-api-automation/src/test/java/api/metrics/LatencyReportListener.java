@@ -0,0 +1,100 @@
+package api.metrics;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.HdrHistogram.Histogram;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestPlan;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+
+/**
+ * Writes the per-environment, per-endpoint latency summary collected by {@link LatencyRegistry} when the test
+ * run finishes: a JSON report (target/latency-report.json, override with -Dlatency.report.file) and a console
+ * table per environment.
+ * Registered through META-INF/services, so it runs for every Maven/IDE launch without test changes.
+ */
+public class LatencyReportListener implements TestExecutionListener {
+
+    private static final String REPORT_FILE_PROPERTY = "latency.report.file";
+    private static final String DEFAULT_REPORT_FILE = "target/latency-report.json";
+    private static final double[] PERCENTILES = {50.0, 90.0, 95.0, 99.0, 99.9};
+
+    @Override
+    public void testPlanExecutionFinished(TestPlan testPlan) {
+        report();
+    }
+
+    /**
+     * Prints and writes the report for everything recorded so far, one section per environment.
+     */
+    public static void report() {
+        Map<String, Map<String, Histogram>> byEnvironment = LatencyRegistry.snapshot();
+        if (byEnvironment.isEmpty()) {
+            return;
+        }
+        byEnvironment.forEach((env, histograms) -> printTable(env, histograms, System.out));
+        Path file = Paths.get(System.getProperty(REPORT_FILE_PROPERTY, DEFAULT_REPORT_FILE));
+        try {
+            writeJson(byEnvironment, file);
+        } catch (IOException e) {
+            System.err.println("Could not write latency report to " + file + ": " + e.getMessage());
+        }
+    }
+
+    static void writeJson(Map<String, Map<String, Histogram>> byEnvironment, Path file) throws IOException {
+        ObjectMapper mapper = new ObjectMapper();
+        ObjectNode root = mapper.createObjectNode();
+        root.put("unit", "ms");
+        ArrayNode endpoints = root.putArray("endpoints");
+        byEnvironment.forEach((env, histograms) -> histograms.forEach((endpoint, h) -> {
+            ObjectNode node = endpoints.addObject();
+            node.put("environment", env);
+            node.put("endpoint", endpoint);
+            node.put("count", h.getTotalCount());
+            node.put("min", millis(h.getMinValue()));
+            node.put("mean", h.getMean() / 1e6);
+            for (double p : PERCENTILES) {
+                node.put("p" + formatPercentile(p), millis(h.getValueAtPercentile(p)));
+            }
+            node.put("max", millis(h.getMaxValue()));
+        }));
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        mapper.writerWithDefaultPrettyPrinter().writeValue(file.toFile(), root);
+    }
+
+    static void printTable(String env, Map<String, Histogram> histograms, PrintStream out) {
+        int width = Math.max("Endpoint".length(), histograms.keySet().stream().mapToInt(String::length).max().orElse(0));
+        out.println();
+        out.println("REST latency by endpoint (ms), environment " + env);
+        StringBuilder header = new StringBuilder(String.format("%-" + width + "s %7s", "Endpoint", "Count"));
+        for (double p : PERCENTILES) {
+            header.append(String.format(" %8s", "p" + formatPercentile(p)));
+        }
+        out.println(header.append(String.format(" %8s", "max")));
+        histograms.forEach((endpoint, h) -> {
+            StringBuilder row = new StringBuilder(String.format("%-" + width + "s %7d", endpoint, h.getTotalCount()));
+            for (double p : PERCENTILES) {
+                row.append(String.format(" %8.1f", millis(h.getValueAtPercentile(p))));
+            }
+            out.println(row.append(String.format(" %8.1f", millis(h.getMaxValue()))));
+        });
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1e6;
+    }
+
+    /** 50.0 -> "50", 99.9 -> "99.9". */
+    static String formatPercentile(double p) {
+        return p == Math.rint(p) ? String.valueOf((long) p) : String.valueOf(p);
+    }
+}
@@ -0,0 +1,103 @@
+package api.metrics;
+
+import api.config.ApiConfig;
+import io.restassured.response.Response;
+import org.HdrHistogram.Histogram;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntPredicate;
+import java.util.function.Supplier;
+
+/**
+ * Percentile-based latency check for one endpoint: sends warm-up requests (discarded), then a number of
+ * measured requests, and compares percentiles against thresholds. Send the requests with a spec that
+ * does not retry (e.g. {@code BaseApiTest#baseSpecWithoutRetries()}): a retried 5xx or 429 would pass the
+ * status check and add its backoff to the measured latency.
+ * <pre>
+ * LatencySla.forEndpoint("GET /users")
+ *         .warmup(5).samples(50)
+ *         .percentile(95.0, 300).percentile(99.0, 800)
+ *         .expectStatus(s -&gt; s == 200)
+ *         .measure(() -&gt; given().spec(baseSpecWithoutRetries()).get("/users"))
+ *         .export()
+ *         .assertWithinSla();
+ * </pre>
+ */
+public final class LatencySla {
+
+    private static final long HIGHEST_TRACKABLE_NANOS = TimeUnit.MINUTES.toNanos(5);
+    private static final int SIGNIFICANT_DIGITS = 3;
+
+    private final String endpoint;
+    private final Map<Double, Long> thresholdsMs = new LinkedHashMap<>();
+    private int warmup;
+    private int samples = 1;
+    private IntPredicate expectedStatus = status -> status >= 200 && status < 300;
+
+    private LatencySla(String endpoint) {
+        this.endpoint = endpoint;
+    }
+
+    /**
+     * @param endpoint label used in messages and the exported file, e.g. "GET /users"
+     */
+    public static LatencySla forEndpoint(String endpoint) {
+        return new LatencySla(endpoint);
+    }
+
+    public LatencySla warmup(int requests) {
+        this.warmup = Math.max(0, requests);
+        return this;
+    }
+
+    public LatencySla samples(int requests) {
+        this.samples = Math.max(1, requests);
+        return this;
+    }
+
+    /**
+     * Adds a threshold: the given percentile (e.g. 95.0) must be at or below {@code maxMs}.
+     */
+    public LatencySla percentile(double percentile, long maxMs) {
+        thresholdsMs.put(percentile, maxMs);
+        return this;
+    }
+
+    /**
+     * Status codes accepted for every warm-up and measured response. Default 2xx.
+     */
+    public LatencySla expectStatus(IntPredicate expected) {
+        this.expectedStatus = expected;
+        return this;
+    }
+
+    /**
+     * Sends the warm-up and measured requests sequentially and returns the result, labelled with the
+     * current ApiConfig environment.
+     *
+     * @throws AssertionError when any response has an unexpected status
+     */
+    public SlaResult measure(Supplier<Response> request) {
+        for (int i = 0; i < warmup; i++) {
+            checkStatus(request.get(), "warm-up request " + (i + 1));
+        }
+        Histogram histogram = new Histogram(HIGHEST_TRACKABLE_NANOS, SIGNIFICANT_DIGITS);
+        for (int i = 0; i < samples; i++) {
+            long start = System.nanoTime();
+            Response response = request.get();
+            long elapsed = System.nanoTime() - start;
+            checkStatus(response, "sample " + (i + 1));
+            histogram.recordValue(Math.min(elapsed, HIGHEST_TRACKABLE_NANOS));
+        }
+        return new SlaResult(ApiConfig.snapshot().getName(), endpoint, warmup, histogram, thresholdsMs);
+    }
+
+    private void checkStatus(Response response, String label) {
+        int status = response.getStatusCode();
+        if (!expectedStatus.test(status)) {
+            throw new AssertionError(endpoint + ": unexpected status " + status + " on " + label);
+        }
+    }
+}
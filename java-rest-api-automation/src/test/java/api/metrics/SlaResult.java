@@ -0,0 +1,111 @@
+package api.metrics;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Outcome of a {@link LatencySla} measurement: observed percentiles, thresholds and breaches.
+ * {@link #export()} writes it to target/sla-results/&lt;environment&gt;/&lt;endpoint&gt;.json (override the
+ * directory with -Dsla.report.dir) so CI can archive and trend it; environments measured concurrently by
+ * the multi-environment runner keep separate files.
+ */
+public final class SlaResult {
+
+    private static final String REPORT_DIR_PROPERTY = "sla.report.dir";
+    private static final String DEFAULT_REPORT_DIR = "target/sla-results";
+
+    private final String environment;
+    private final String endpoint;
+    private final int warmup;
+    private final Histogram histogram;
+    private final Map<Double, Long> thresholdsMs;
+
+    SlaResult(String environment, String endpoint, int warmup, Histogram histogram, Map<Double, Long> thresholdsMs) {
+        this.environment = environment;
+        this.endpoint = endpoint;
+        this.warmup = warmup;
+        this.histogram = histogram;
+        this.thresholdsMs = new LinkedHashMap<>(thresholdsMs);
+    }
+
+    /**
+     * @return observed latency in ms at the given percentile
+     */
+    public double percentileMs(double percentile) {
+        return histogram.getValueAtPercentile(percentile) / 1e6;
+    }
+
+    /**
+     * @return one message per breached threshold; empty when within SLA
+     */
+    public List<String> breaches() {
+        List<String> breaches = new ArrayList<>();
+        thresholdsMs.forEach((percentile, maxMs) -> {
+            double actual = percentileMs(percentile);
+            if (actual > maxMs) {
+                breaches.add(String.format("p%s = %.1f ms exceeds %d ms", LatencyReportListener.formatPercentile(percentile), actual, maxMs));
+            }
+        });
+        return breaches;
+    }
+
+    /**
+     * Writes the result as JSON and returns this result.
+     */
+    public SlaResult export() {
+        ObjectMapper mapper = new ObjectMapper();
+        ObjectNode root = mapper.createObjectNode();
+        root.put("environment", environment);
+        root.put("endpoint", endpoint);
+        root.put("warmup", warmup);
+        root.put("samples", histogram.getTotalCount());
+        root.put("unit", "ms");
+        ObjectNode observed = root.putObject("observed");
+        observed.put("min", histogram.getMinValue() / 1e6);
+        observed.put("mean", histogram.getMean() / 1e6);
+        for (double p : new double[]{50.0, 90.0, 95.0, 99.0}) {
+            observed.put("p" + LatencyReportListener.formatPercentile(p), percentileMs(p));
+        }
+        observed.put("max", histogram.getMaxValue() / 1e6);
+        ObjectNode thresholds = root.putObject("thresholds");
+        thresholdsMs.forEach((percentile, maxMs) -> thresholds.put("p" + LatencyReportListener.formatPercentile(percentile), maxMs));
+        root.putPOJO("breaches", breaches());
+        root.put("passed", breaches().isEmpty());
+
+        Path dir = Paths.get(System.getProperty(REPORT_DIR_PROPERTY, DEFAULT_REPORT_DIR), fileName(environment));
+        Path file = dir.resolve(fileName(endpoint) + ".json");
+        try {
+            Files.createDirectories(dir);
+            mapper.writerWithDefaultPrettyPrinter().writeValue(file.toFile(), root);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not write SLA result to " + file, e);
+        }
+        return this;
+    }
+
+    private static String fileName(String label) {
+        return label.replaceAll("[^A-Za-z0-9]+", "_").replaceAll("^_+|_+$", "");
+    }
+
+    /**
+     * @throws AssertionError listing every breached percentile
+     */
+    public void assertWithinSla() {
+        List<String> breaches = breaches();
+        if (!breaches.isEmpty()) {
+            throw new AssertionError(endpoint + " (" + environment + ") latency SLA breached over " + histogram.getTotalCount()
+                    + " samples: " + String.join("; ", breaches));
+        }
+    }
+}
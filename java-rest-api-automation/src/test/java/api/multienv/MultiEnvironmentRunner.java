@@ -0,0 +1,121 @@
+package api.multienv;
+
+import api.BaseApiTest;
+import api.config.ApiConfig;
+import api.config.ConfigSnapshot;
+import api.fixtures.FixtureLifecycleListener;
+import api.http.CassetteListener;
+import api.metrics.LatencyReportListener;
+import org.junit.platform.launcher.Launcher;
+import org.junit.platform.launcher.LauncherDiscoveryRequest;
+import org.junit.platform.launcher.core.LauncherConfig;
+import org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder;
+import org.junit.platform.launcher.core.LauncherFactory;
+import org.junit.platform.launcher.listeners.SummaryGeneratingListener;
+import org.junit.platform.launcher.listeners.TestExecutionSummary;
+import org.junit.platform.reporting.legacy.xml.LegacyXmlReportGeneratingListener;
+
+import java.io.PrintWriter;
+import java.net.URISyntaxException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+
+import static org.junit.platform.engine.discovery.ClassNameFilter.includeClassNamePatterns;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClasspathRoots;
+
+/**
+ * Runs the whole REST suite against several environments concurrently in one JVM. Each environment is a
+ * named config set ({@code .env.<name>}, see {@link ApiConfig#forEnvironment}) bound to its own thread with
+ * {@link ApiConfig#runWith}, so tests, tokens and latency stats are partitioned per environment.
+ * <p>
+ * Usage: {@code mvn test -Pmulti-env -Denvironments=dev,staging,eu,us}. Per environment it prints a summary
+ * and writes JUnit XML to target/multi-env-reports/&lt;name&gt;/; the latency report covers all environments.
+ * Fails when any environment has failing tests.
+ */
+public final class MultiEnvironmentRunner {
+
+    private static final String REPORTS_DIR = "target/multi-env-reports";
+    private static final String TEST_CLASS_PATTERN = ".*Tests?";
+
+    private MultiEnvironmentRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        List<String> environments = Arrays.stream(String.join(",", args).split(","))
+                .map(String::trim)
+                .filter(s -> !s.isEmpty())
+                .distinct()
+                .collect(Collectors.toList());
+        if (environments.isEmpty()) {
+            throw new IllegalArgumentException("No environments given (e.g. -Denvironments=dev,staging)");
+        }
+        // resolve every environment up front so a broken config fails before anything runs
+        Map<String, ConfigSnapshot> configs = new LinkedHashMap<>();
+        for (String env : environments) {
+            configs.put(env, ApiConfig.forEnvironment(env));
+        }
+
+        Path testClasses = testClassesRoot();
+        ExecutorService executor = Executors.newFixedThreadPool(configs.size(), runnable -> {
+            Thread thread = new Thread(runnable);
+            thread.setDaemon(true);
+            return thread;
+        });
+        Map<String, Future<TestExecutionSummary>> results = new LinkedHashMap<>();
+        configs.forEach((env, config) -> results.put(env, executor.submit(() -> {
+            Thread.currentThread().setName("env-" + env);
+            SummaryGeneratingListener summary = new SummaryGeneratingListener();
+            ApiConfig.runWith(config, () -> runSuite(testClasses, env, summary));
+            return summary.getSummary();
+        })));
+
+        long failed = 0;
+        PrintWriter out = new PrintWriter(System.out, true);
+        for (Map.Entry<String, Future<TestExecutionSummary>> entry : results.entrySet()) {
+            TestExecutionSummary summary;
+            try {
+                summary = entry.getValue().get();
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("Environment " + entry.getKey() + " aborted", e.getCause());
+            }
+            out.println();
+            out.println("=== Environment " + entry.getKey() + " ===");
+            summary.printTo(out);
+            summary.printFailuresTo(out, 10);
+            failed += summary.getTotalFailureCount();
+        }
+        executor.shutdown();
+        LatencyReportListener.report();
+        if (failed > 0) {
+            throw new IllegalStateException(failed + " test(s) failed across environments " + environments);
+        }
+    }
+
+    private static void runSuite(Path testClasses, String env, SummaryGeneratingListener summary) {
+        LauncherDiscoveryRequest request = LauncherDiscoveryRequestBuilder.request()
+                .selectors(selectClasspathRoots(Set.of(testClasses)))
+                .filters(includeClassNamePatterns(TEST_CLASS_PATTERN))
+                .build();
+        // the latency report is written once for all environments, not per launcher; fixtures are per environment
+        Launcher launcher = LauncherFactory.create(LauncherConfig.builder()
+                .enableTestExecutionListenerAutoRegistration(false)
+                .build());
+        LegacyXmlReportGeneratingListener xml = new LegacyXmlReportGeneratingListener(
+                Paths.get(REPORTS_DIR, env), new PrintWriter(System.err, true));
+        launcher.execute(request, summary, xml, new CassetteListener(), new FixtureLifecycleListener());
+    }
+
+    private static Path testClassesRoot() throws URISyntaxException {
+        return Paths.get(BaseApiTest.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+    }
+}
@@ -0,0 +1,17 @@
+package api.pagination;
+
+import java.util.Locale;
+
+/** How a list endpoint exposes its next page. */
+public enum PageStyle {
+    /** {@code ?page=N&per_page=M}; next page is known in advance. Body is a root-level array. */
+    PAGE,
+    /** {@code Link: <...>; rel="next"} response header. Body is a root-level array. */
+    LINK,
+    /** Body is an object with an items array and a next-cursor field, sent back as a query parameter. */
+    CURSOR;
+
+    public static PageStyle parse(String value) {
+        return valueOf(value.trim().toUpperCase(Locale.ROOT));
+    }
+}
@@ -0,0 +1,428 @@
+package api.pagination;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Walks every page of a list endpoint and checks pagination invariants without materializing pages:
+ * each body is streamed through Jackson's token parser and only the item ids are kept (for the
+ * duplicate check). While page N is parsed, the request for page N+1 is already in flight
+ * (page-number style: issued up front; Link style: issued as soon as page N's headers arrive).
+ * <p>
+ * Invariants: every item has an id; no id appears twice across pages; ids are monotonic in one
+ * direction (detected from the first two items unless configured); X-Pagination-Total, when sent,
+ * is the same on every page and equals the number of items seen.
+ */
+public final class PaginationCrawler {
+
+    /** Ordering expectation for item ids across the whole traversal. */
+    public enum Order { ASC, DESC, ANY, AUTO }
+
+    private static final String TOTAL_HEADER = "X-Pagination-Total";
+    private static final String PAGES_HEADER = "X-Pagination-Pages";
+    private static final Pattern NEXT_LINK = Pattern.compile("<([^>]+)>\\s*;\\s*rel=\"?next\"?");
+    private static final int MAX_REPORTED_VIOLATIONS = 20;
+    private static final Duration TIMEOUT = Duration.ofSeconds(60);
+    private static final HttpClient HTTP = HttpClient.newBuilder()
+            .connectTimeout(TIMEOUT)
+            .followRedirects(HttpClient.Redirect.NORMAL)
+            .build();
+    private static final JsonFactory JSON = new JsonFactory();
+
+    private final URI listUri;
+    private final PageStyle style;
+    private final int perPage;
+    private final int maxPages;
+    private final String authorization;
+    private final Order order;
+    private final String idField;
+    private final String itemsField;
+    private final String cursorField;
+    private final String cursorParam;
+
+    private PaginationCrawler(Builder b) {
+        this.listUri = b.listUri;
+        this.style = b.style;
+        this.perPage = b.perPage;
+        this.maxPages = b.maxPages;
+        this.authorization = b.authorization;
+        this.order = b.order;
+        this.idField = b.idField;
+        this.itemsField = b.itemsField;
+        this.cursorField = b.cursorField;
+        this.cursorParam = b.cursorParam;
+    }
+
+    /**
+     * @param listUri absolute URI of the list endpoint, without pagination parameters
+     */
+    public static Builder builder(URI listUri) {
+        return new Builder(listUri);
+    }
+
+    /** Builder; defaults: PAGE style, 100 per page, no page limit, AUTO order, GoREST-style field names. */
+    public static final class Builder {
+        private final URI listUri;
+        private PageStyle style = PageStyle.PAGE;
+        private int perPage = 100;
+        private int maxPages = Integer.MAX_VALUE;
+        private String authorization;
+        private Order order = Order.AUTO;
+        private String idField = "id";
+        private String itemsField = "data";
+        private String cursorField = "next_cursor";
+        private String cursorParam = "cursor";
+
+        private Builder(URI listUri) {
+            this.listUri = listUri;
+        }
+
+        public Builder style(PageStyle style) {
+            this.style = style;
+            return this;
+        }
+
+        public Builder perPage(int perPage) {
+            this.perPage = perPage;
+            return this;
+        }
+
+        /** Stops after this many pages (safety limit for very large collections). */
+        public Builder maxPages(int maxPages) {
+            this.maxPages = maxPages;
+            return this;
+        }
+
+        /** Full Authorization header value, e.g. "Bearer ...". */
+        public Builder authorization(String authorization) {
+            this.authorization = authorization;
+            return this;
+        }
+
+        public Builder order(Order order) {
+            this.order = order;
+            return this;
+        }
+
+        public Builder idField(String idField) {
+            this.idField = idField;
+            return this;
+        }
+
+        /** CURSOR style: name of the items array and of the next-cursor field in the body, and the query parameter. */
+        public Builder cursor(String itemsField, String cursorField, String cursorParam) {
+            this.itemsField = itemsField;
+            this.cursorField = cursorField;
+            this.cursorParam = cursorParam;
+            return this;
+        }
+
+        public PaginationCrawler build() {
+            return new PaginationCrawler(this);
+        }
+    }
+
+    /** Outcome of a traversal. */
+    public static final class Result {
+        private final int pages;
+        private final long items;
+        private final OptionalLong reportedTotal;
+        private final List<String> violations;
+        private final boolean truncated;
+
+        Result(int pages, long items, OptionalLong reportedTotal, List<String> violations, boolean truncated) {
+            this.pages = pages;
+            this.items = items;
+            this.reportedTotal = reportedTotal;
+            this.violations = List.copyOf(violations);
+            this.truncated = truncated;
+        }
+
+        public int getPages() {
+            return pages;
+        }
+
+        public long getItems() {
+            return items;
+        }
+
+        /** X-Pagination-Total of the first page, when sent. */
+        public OptionalLong getReportedTotal() {
+            return reportedTotal;
+        }
+
+        /** First violations found (at most 20); empty when pagination is consistent. */
+        public List<String> getViolations() {
+            return violations;
+        }
+
+        /** True when the crawl stopped at maxPages before reaching the last page. */
+        public boolean isTruncated() {
+            return truncated;
+        }
+    }
+
+    /**
+     * Walks all pages (up to maxPages).
+     *
+     * @throws IllegalStateException when a page request fails or returns a non-200 status
+     */
+    public Result crawl() throws InterruptedException {
+        State state = new State();
+        URI current = firstPageUri();
+        CompletableFuture<HttpResponse<InputStream>> inFlight = send(current);
+        int page = 1;
+        while (true) {
+            HttpResponse<InputStream> response = await(inFlight, current);
+            Optional<URI> next = Optional.empty();
+            CompletableFuture<HttpResponse<InputStream>> prefetch = null;
+            boolean canContinue = page < maxPages;
+            if (style == PageStyle.PAGE && canContinue && !lastPageByHeader(response, page)) {
+                next = Optional.of(pageUri(page + 1));
+            } else if (style == PageStyle.LINK && canContinue) {
+                next = nextLink(response);
+            }
+            if (next.isPresent()) {
+                prefetch = send(next.get());
+            }
+
+            state.checkTotal(response, page);
+            PageContent content;
+            try (InputStream body = response.body()) {
+                content = parsePage(body, state, page);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Could not read page " + page + " from " + current, e);
+            }
+
+            if (style == PageStyle.PAGE && content.items < perPage) {
+                next = Optional.empty();
+            } else if (style == PageStyle.CURSOR && canContinue && content.nextCursor != null) {
+                next = Optional.of(withQuery(listUri, cursorParam + "="
+                        + URLEncoder.encode(content.nextCursor, StandardCharsets.UTF_8) + "&per_page=" + perPage));
+                prefetch = send(next.get());
+            }
+            if (next.isEmpty()) {
+                if (prefetch != null) {
+                    prefetch.cancel(true);
+                }
+                boolean truncated = !canContinue && content.items > 0;
+                state.checkFinalCount(truncated);
+                return new Result(page, state.items, state.firstTotal, state.violations, truncated);
+            }
+            current = next.get();
+            inFlight = prefetch;
+            page++;
+        }
+    }
+
+    private URI firstPageUri() {
+        return style == PageStyle.CURSOR ? withQuery(listUri, "per_page=" + perPage) : pageUri(1);
+    }
+
+    private URI pageUri(int page) {
+        return withQuery(listUri, "page=" + page + "&per_page=" + perPage);
+    }
+
+    private static URI withQuery(URI base, String query) {
+        String s = base.toString();
+        return URI.create(s + (s.contains("?") ? "&" : "?") + query);
+    }
+
+    private boolean lastPageByHeader(HttpResponse<?> response, int page) {
+        return response.headers().firstValue(PAGES_HEADER)
+                .map(v -> {
+                    try {
+                        return page >= Long.parseLong(v.trim());
+                    } catch (NumberFormatException e) {
+                        return false;
+                    }
+                })
+                .orElse(false);
+    }
+
+    private static Optional<URI> nextLink(HttpResponse<?> response) {
+        for (String link : response.headers().allValues("Link")) {
+            Matcher m = NEXT_LINK.matcher(link);
+            if (m.find()) {
+                return Optional.of(URI.create(m.group(1)));
+            }
+        }
+        return Optional.empty();
+    }
+
+    private CompletableFuture<HttpResponse<InputStream>> send(URI uri) {
+        HttpRequest.Builder request = HttpRequest.newBuilder(uri)
+                .timeout(TIMEOUT)
+                .header("Accept", "application/json")
+                .GET();
+        if (authorization != null) {
+            request.header("Authorization", authorization);
+        }
+        return HTTP.sendAsync(request.build(), HttpResponse.BodyHandlers.ofInputStream());
+    }
+
+    private static HttpResponse<InputStream> await(CompletableFuture<HttpResponse<InputStream>> future, URI uri)
+            throws InterruptedException {
+        HttpResponse<InputStream> response;
+        try {
+            response = future.get();
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("GET " + uri + " failed: " + e.getCause(), e.getCause());
+        }
+        if (response.statusCode() != 200) {
+            try {
+                response.body().close();
+            } catch (IOException ignored) {
+                // status is what matters
+            }
+            throw new IllegalStateException("GET " + uri + " returned " + response.statusCode());
+        }
+        return response;
+    }
+
+    private static final class PageContent {
+        long items;
+        String nextCursor;
+    }
+
+    private PageContent parsePage(InputStream body, State state, int page) throws IOException {
+        PageContent content = new PageContent();
+        try (JsonParser parser = JSON.createParser(body)) {
+            JsonToken root = parser.nextToken();
+            if (style == PageStyle.CURSOR) {
+                if (root != JsonToken.START_OBJECT) {
+                    state.violation("page " + page + ": body is not a JSON object");
+                    return content;
+                }
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String field = parser.getCurrentName();
+                    JsonToken value = parser.nextToken();
+                    if (itemsField.equals(field) && value == JsonToken.START_ARRAY) {
+                        content.items = parseItems(parser, state, page);
+                    } else if (cursorField.equals(field) && value.isScalarValue() && value != JsonToken.VALUE_NULL) {
+                        content.nextCursor = parser.getText();
+                    } else {
+                        parser.skipChildren();
+                    }
+                }
+            } else if (root != JsonToken.START_ARRAY) {
+                state.violation("page " + page + ": body is not a JSON array");
+            } else {
+                content.items = parseItems(parser, state, page);
+            }
+        }
+        return content;
+    }
+
+    /** Parser is positioned on START_ARRAY; consumes through the matching END_ARRAY. */
+    private long parseItems(JsonParser parser, State state, int page) throws IOException {
+        long count = 0;
+        while (parser.nextToken() == JsonToken.START_OBJECT) {
+            String id = null;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.getCurrentName();
+                JsonToken value = parser.nextToken();
+                if (idField.equals(field) && value.isScalarValue()) {
+                    id = parser.getText();
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            count++;
+            state.item(id, page);
+        }
+        return count;
+    }
+
+    /** Running invariant state for one traversal. */
+    private final class State {
+        final Set<String> seenIds = new HashSet<>();
+        final List<String> violations = new ArrayList<>();
+        OptionalLong firstTotal = OptionalLong.empty();
+        long items;
+        String previousId;
+        Order direction = order;
+
+        void item(String id, int page) {
+            items++;
+            if (id == null) {
+                violation("page " + page + ": item without " + idField);
+                return;
+            }
+            if (!seenIds.add(id)) {
+                violation("page " + page + ": duplicate " + idField + " " + id);
+            }
+            if (previousId != null && direction != Order.ANY) {
+                int cmp = compareIds(previousId, id);
+                if (direction == Order.AUTO && cmp != 0) {
+                    direction = cmp < 0 ? Order.ASC : Order.DESC;
+                } else if ((direction == Order.ASC && cmp >= 0) || (direction == Order.DESC && cmp <= 0)) {
+                    violation("page " + page + ": " + idField + " " + id + " out of " + direction + " order after " + previousId);
+                }
+            }
+            previousId = id;
+        }
+
+        void checkTotal(HttpResponse<?> response, int page) {
+            Optional<String> header = response.headers().firstValue(TOTAL_HEADER);
+            if (header.isEmpty()) {
+                return;
+            }
+            long total;
+            try {
+                total = Long.parseLong(header.get().trim());
+            } catch (NumberFormatException e) {
+                violation("page " + page + ": " + TOTAL_HEADER + " is not a number: " + header.get());
+                return;
+            }
+            if (firstTotal.isEmpty()) {
+                firstTotal = OptionalLong.of(total);
+            } else if (firstTotal.getAsLong() != total) {
+                violation("page " + page + ": " + TOTAL_HEADER + " changed from " + firstTotal.getAsLong() + " to " + total);
+            }
+        }
+
+        void checkFinalCount(boolean truncated) {
+            if (!truncated && firstTotal.isPresent() && firstTotal.getAsLong() != items) {
+                violation(TOTAL_HEADER + " " + firstTotal.getAsLong() + " but " + items + " items traversed");
+            }
+        }
+
+        void violation(String message) {
+            if (violations.size() < MAX_REPORTED_VIOLATIONS) {
+                violations.add(message);
+            }
+        }
+    }
+
+    /** Numeric ids compare numerically, others lexicographically. */
+    private static int compareIds(String a, String b) {
+        try {
+            return Long.compare(Long.parseLong(a), Long.parseLong(b));
+        } catch (NumberFormatException e) {
+            return a.compareTo(b);
+        }
+    }
+}
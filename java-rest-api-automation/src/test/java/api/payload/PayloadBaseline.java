@@ -0,0 +1,170 @@
+package api.payload;
+
+import api.config.ApiConfig;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+/**
+ * Response sizes per environment and endpoint that later runs are compared against, kept in a JSON
+ * file meant to be committed (payload-baseline.json in the module directory, override with
+ * -Dpayload.baseline.file). The file is only written with -Dpayload.baseline.update=true, so ordinary
+ * runs never change the tracked file and growth has to be accepted explicitly.
+ * <p>
+ * Entries are partitioned by the current ApiConfig environment ({@link #environment()}), so environments
+ * measured concurrently by the multi-environment runner never read or replace each other's sizes. All
+ * tests share one instance per JVM ({@link #shared()}); in update mode its entries are merged into the
+ * file once, when the JVM exits, into the file as it is on disk at that moment.
+ */
+public final class PayloadBaseline {
+
+    private static final String FILE_PROPERTY = "payload.baseline.file";
+    private static final String UPDATE_PROPERTY = "payload.baseline.update";
+    private static final String DEFAULT_FILE = "payload-baseline.json";
+    private static final String STUB_SUFFIX = "-stub";
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static PayloadBaseline shared;
+
+    /** Baseline sizes of one endpoint. */
+    public static final class Entry {
+        private final long identityBytes;
+        private final long gzipBytes;
+
+        Entry(long identityBytes, long gzipBytes) {
+            this.identityBytes = identityBytes;
+            this.gzipBytes = gzipBytes;
+        }
+
+        /** Uncompressed body size. */
+        public long getIdentityBytes() {
+            return identityBytes;
+        }
+
+        /** Body size on the wire when gzip is accepted (equal to identity when the server did not compress). */
+        public long getGzipBytes() {
+            return gzipBytes;
+        }
+    }
+
+    /** Environment name, then endpoint label. */
+    private final Map<String, Map<String, Entry>> entries;
+    /** Entries put in this run, by environment and endpoint. */
+    private final Map<String, Map<String, Entry>> changed = new TreeMap<>();
+
+    private PayloadBaseline(Map<String, Map<String, Entry>> entries) {
+        this.entries = entries;
+    }
+
+    static Path file() {
+        return Paths.get(System.getProperty(FILE_PROPERTY, DEFAULT_FILE));
+    }
+
+    /** Whether measured sizes are recorded as baselines instead of being checked against them. */
+    public static boolean isUpdate() {
+        return Boolean.parseBoolean(System.getProperty(UPDATE_PROPERTY, "false"));
+    }
+
+    /**
+     * Partition of the current environment: the ApiConfig environment name, with "-stub" appended for
+     * the embedded stub server so its sizes never mix with those of a real API of the same name.
+     */
+    public static String environment() {
+        String name = ApiConfig.snapshot().getName();
+        return ApiConfig.isStubServerEnabled() ? name + STUB_SUFFIX : name;
+    }
+
+    /**
+     * The baselines of this JVM, loaded from the file on first use (empty when it does not exist or
+     * cannot be read). In update mode the first call also registers the merge that writes the file.
+     */
+    public static synchronized PayloadBaseline shared() {
+        if (shared == null) {
+            shared = new PayloadBaseline(read(file()));
+            if (isUpdate()) {
+                Runtime.getRuntime().addShutdownHook(new Thread(shared::saveQuietly, "payload-baseline-save"));
+            }
+        }
+        return shared;
+    }
+
+    /** Baseline of the endpoint in the current {@link #environment()}. */
+    public synchronized Optional<Entry> get(String endpoint) {
+        return Optional.ofNullable(entries.getOrDefault(environment(), Map.of()).get(endpoint));
+    }
+
+    /**
+     * Sets the baseline of the endpoint in the current {@link #environment()}; written when the JVM exits.
+     * Only allowed in {@link #isUpdate() update mode}.
+     */
+    public synchronized void put(String endpoint, long identityBytes, long gzipBytes) {
+        if (!isUpdate()) {
+            throw new IllegalStateException("Payload baselines change only with -D" + UPDATE_PROPERTY + "=true");
+        }
+        Entry entry = new Entry(identityBytes, gzipBytes);
+        String environment = environment();
+        entries.computeIfAbsent(environment, k -> new TreeMap<>()).put(endpoint, entry);
+        changed.computeIfAbsent(environment, k -> new TreeMap<>()).put(endpoint, entry);
+    }
+
+    /**
+     * Merges the entries put in this run into the file: re-reads it, replaces only those entries and
+     * writes it back, so entries of environments not measured in this run are kept. Does nothing when
+     * no entry was put.
+     */
+    private synchronized void saveQuietly() {
+        if (changed.isEmpty()) {
+            return;
+        }
+        Path file = file();
+        Map<String, Map<String, Entry>> merged = read(file);
+        changed.forEach((environment, endpoints) ->
+                merged.computeIfAbsent(environment, k -> new TreeMap<>()).putAll(endpoints));
+        try {
+            write(file, merged);
+            changed.clear();
+        } catch (IOException e) {
+            System.err.println("Could not write payload baseline " + file + ": " + e.getMessage());
+        }
+    }
+
+    private static Map<String, Map<String, Entry>> read(Path file) {
+        Map<String, Map<String, Entry>> entries = new TreeMap<>();
+        if (Files.isRegularFile(file)) {
+            try {
+                JsonNode environments = MAPPER.readTree(file.toFile()).path("environments");
+                environments.fields().forEachRemaining(env -> env.getValue().fields().forEachRemaining(e ->
+                        entries.computeIfAbsent(env.getKey(), k -> new TreeMap<>()).put(e.getKey(), new Entry(
+                                e.getValue().path("identityBytes").asLong(),
+                                e.getValue().path("gzipBytes").asLong()))));
+            } catch (IOException e) {
+                System.err.println("Ignoring unreadable payload baseline " + file + ": " + e.getMessage());
+            }
+        }
+        return entries;
+    }
+
+    private static void write(Path file, Map<String, Map<String, Entry>> entries) throws IOException {
+        ObjectNode root = MAPPER.createObjectNode();
+        ObjectNode environments = root.putObject("environments");
+        entries.forEach((environment, endpoints) -> {
+            ObjectNode env = environments.putObject(environment);
+            endpoints.forEach((endpoint, entry) -> {
+                ObjectNode node = env.putObject(endpoint);
+                node.put("identityBytes", entry.identityBytes);
+                node.put("gzipBytes", entry.gzipBytes);
+            });
+        });
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        MAPPER.writerWithDefaultPrettyPrinter().writeValue(file.toFile(), root);
+    }
+}
@@ -0,0 +1,124 @@
+package api.payload;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Fetches a URI with a given Accept-Encoding and reports the bytes on the wire. RestAssured (via
+ * Apache httpclient) asks for gzip itself and hands tests the decoded body, so sizes are measured on
+ * {@link HttpClient}, which leaves the body as sent. gzip and deflate bodies are decoded to get the
+ * uncompressed size; other codings (e.g. br, for which the JDK has no decoder) report the wire size only.
+ */
+public final class PayloadProbe {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(60);
+    private static final HttpClient HTTP = HttpClient.newBuilder()
+            .connectTimeout(TIMEOUT)
+            .followRedirects(HttpClient.Redirect.NORMAL)
+            .build();
+
+    private PayloadProbe() {
+    }
+
+    /** One response as received. */
+    public static final class Sample {
+        private final int status;
+        private final String contentEncoding;
+        private final String vary;
+        private final long wireBytes;
+        private final long decodedBytes;
+
+        private Sample(int status, String contentEncoding, String vary, long wireBytes, long decodedBytes) {
+            this.status = status;
+            this.contentEncoding = contentEncoding;
+            this.vary = vary;
+            this.wireBytes = wireBytes;
+            this.decodedBytes = decodedBytes;
+        }
+
+        public int getStatus() {
+            return status;
+        }
+
+        /** Content-Encoding in lower case; "identity" when the header is absent. */
+        public String getContentEncoding() {
+            return contentEncoding;
+        }
+
+        public Optional<String> getVary() {
+            return Optional.ofNullable(vary);
+        }
+
+        /** Body bytes as transferred (after content coding, before decoding). */
+        public long getWireBytes() {
+            return wireBytes;
+        }
+
+        /** Body bytes after decoding; empty for codings that cannot be decoded here. */
+        public OptionalLong getDecodedBytes() {
+            return decodedBytes < 0 ? OptionalLong.empty() : OptionalLong.of(decodedBytes);
+        }
+
+        public boolean isCompressed() {
+            return !"identity".equals(contentEncoding);
+        }
+    }
+
+    /**
+     * @param authorization full Authorization header value, or null for none
+     * @param acceptEncoding Accept-Encoding to send, e.g. "gzip", "br" or "identity"
+     */
+    public static Sample fetch(URI uri, String authorization, String acceptEncoding) {
+        HttpRequest.Builder request = HttpRequest.newBuilder(uri)
+                .timeout(TIMEOUT)
+                .header("Accept", "application/json")
+                .header("Accept-Encoding", acceptEncoding)
+                .GET();
+        if (authorization != null) {
+            request.header("Authorization", authorization);
+        }
+        HttpResponse<byte[]> response;
+        try {
+            response = HTTP.send(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+        } catch (IOException e) {
+            throw new IllegalStateException("GET " + uri + " failed: " + e, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while fetching " + uri, e);
+        }
+        String encoding = response.headers().firstValue("Content-Encoding")
+                .map(v -> v.trim().toLowerCase(Locale.ROOT))
+                .filter(v -> !v.isEmpty())
+                .orElse("identity");
+        byte[] body = response.body();
+        return new Sample(response.statusCode(), encoding, response.headers().firstValue("Vary").orElse(null),
+                body.length, decodedLength(encoding, body, uri));
+    }
+
+    private static long decodedLength(String encoding, byte[] body, URI uri) {
+        if ("identity".equals(encoding)) {
+            return body.length;
+        }
+        if (!"gzip".equals(encoding) && !"x-gzip".equals(encoding) && !"deflate".equals(encoding)) {
+            return -1;
+        }
+        try (InputStream in = "deflate".equals(encoding)
+                ? new InflaterInputStream(new ByteArrayInputStream(body))
+                : new GZIPInputStream(new ByteArrayInputStream(body))) {
+            return in.readAllBytes().length;
+        } catch (IOException e) {
+            throw new IllegalStateException("Body of " + uri + " is not valid " + encoding + ": " + e.getMessage(), e);
+        }
+    }
+}
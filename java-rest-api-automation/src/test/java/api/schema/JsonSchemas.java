@@ -0,0 +1,72 @@
+package api.schema;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.networknt.schema.JsonSchema;
+import com.networknt.schema.JsonSchemaFactory;
+import com.networknt.schema.SpecVersion;
+import com.networknt.schema.ValidationMessage;
+import io.restassured.response.Response;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * JSON Schema validation for response bodies. Schemas live in src/test/resources/schemas (draft-07;
+ * relative $ref between them is resolved on the classpath), are compiled on first use and cached for the
+ * whole JVM. The body bytes are parsed once into a tree that is both validated and returned, so tests read
+ * fields from it instead of re-parsing with jsonPath() per assertion.
+ */
+public final class JsonSchemas {
+
+    /** Single /users resource. */
+    public static final String USER = "user.json";
+    /** GET /users page (array of users). */
+    public static final String USER_LIST = "user-list.json";
+
+    private static final String SCHEMA_ROOT = "classpath:/schemas/";
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final JsonSchemaFactory FACTORY = JsonSchemaFactory.getInstance(SpecVersion.VersionFlag.V7);
+    private static final Map<String, JsonSchema> CACHE = new ConcurrentHashMap<>();
+
+    private JsonSchemas() {
+    }
+
+    /**
+     * Parses the response body once and validates it against the schema.
+     *
+     * @param schemaName file name under schemas/, e.g. {@link #USER}
+     * @return the parsed body
+     * @throws AssertionError listing every violation, or when the body is not JSON
+     */
+    public static JsonNode assertMatches(Response response, String schemaName) {
+        JsonNode body;
+        try {
+            body = MAPPER.readTree(response.asByteArray());
+        } catch (IOException e) {
+            throw new AssertionError("Response body is not valid JSON: " + e.getMessage(), e);
+        }
+        Set<ValidationMessage> errors = schema(schemaName).validate(body);
+        if (!errors.isEmpty()) {
+            throw new AssertionError("Response body does not match " + schemaName + ": "
+                    + errors.stream().map(ValidationMessage::getMessage).sorted().collect(Collectors.joining("; ")));
+        }
+        return body;
+    }
+
+    /**
+     * @return the compiled schema, loaded and compiled on first request
+     */
+    static JsonSchema schema(String schemaName) {
+        return CACHE.computeIfAbsent(schemaName, name -> {
+            JsonSchema schema = FACTORY.getSchema(URI.create(SCHEMA_ROOT + name));
+            // resolve $ref targets now rather than on the first validation
+            schema.initializeValidators();
+            return schema;
+        });
+    }
+}
@@ -0,0 +1,53 @@
+package api.selection;
+
+import org.junit.platform.engine.FilterResult;
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.launcher.PostDiscoveryFilter;
+
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Selects tests by area (see {@link TestArea}) with {@code -Dareas}: a comma-separated list such as
+ * {@code auth,delete} runs only those areas, {@code !load} runs everything except them. Any
+ * combination runs in one JVM, and concurrently with -Pparallel. Registered through
+ * META-INF/services; blank or unset selects everything.
+ */
+public class AreaFilter implements PostDiscoveryFilter {
+
+    private static final String AREAS_PROPERTY = "areas";
+
+    private final Set<String> included = new LinkedHashSet<>();
+    private final Set<String> excluded = new LinkedHashSet<>();
+
+    public AreaFilter() {
+        for (String area : System.getProperty(AREAS_PROPERTY, "").split(",")) {
+            String a = area.trim().toLowerCase(Locale.ROOT);
+            if (a.startsWith("!")) {
+                excluded.add(a.substring(1).trim());
+            } else if (!a.isEmpty()) {
+                included.add(a);
+            }
+        }
+    }
+
+    @Override
+    public FilterResult apply(TestDescriptor descriptor) {
+        if (included.isEmpty() && excluded.isEmpty()) {
+            return FilterResult.included("all areas selected");
+        }
+        Optional<String> area = TestArea.of(descriptor);
+        if (area.isEmpty()) {
+            return FilterResult.included("not a test class");
+        }
+        if (excluded.contains(area.get())) {
+            return FilterResult.excluded("area " + area.get() + " excluded by -D" + AREAS_PROPERTY);
+        }
+        if (!included.isEmpty() && !included.contains(area.get())) {
+            return FilterResult.excluded("area " + area.get() + " not in -D" + AREAS_PROPERTY);
+        }
+        return FilterResult.included("area " + area.get() + " selected");
+    }
+}
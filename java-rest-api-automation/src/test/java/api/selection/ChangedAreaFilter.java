@@ -0,0 +1,102 @@
+package api.selection;
+
+import org.junit.platform.engine.FilterResult;
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.launcher.PostDiscoveryFilter;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * "Changed-area" selection: with {@code -Dselection.mode=changed} only test classes of the
+ * rest-api-tests areas touched since {@code -Dselection.base} (default HEAD, i.e. uncommitted work;
+ * use e.g. origin/main on a branch) are run. Untracked files count as changed. A change anywhere
+ * else in the module (src/, pom.xml, ...) can affect every area, so the full suite runs; it also runs
+ * when nothing changed or git is unavailable. Registered through META-INF/services; inactive by default.
+ */
+public class ChangedAreaFilter implements PostDiscoveryFilter {
+
+    private static final String MODE_PROPERTY = "selection.mode";
+    private static final String BASE_PROPERTY = "selection.base";
+    private static final String CHANGED = "changed";
+
+    /** Areas (see {@link TestArea}) to keep; empty when everything runs. */
+    private final Set<String> areas;
+
+    public ChangedAreaFilter() {
+        String mode = System.getProperty(MODE_PROPERTY, "all").toLowerCase(Locale.ROOT);
+        this.areas = CHANGED.equals(mode) ? changedAreas() : Set.of();
+    }
+
+    @Override
+    public FilterResult apply(TestDescriptor descriptor) {
+        if (areas.isEmpty()) {
+            return FilterResult.included("all areas selected");
+        }
+        Optional<String> area = TestArea.of(descriptor);
+        if (area.isEmpty()) {
+            return FilterResult.included("not a test class");
+        }
+        return areas.contains(area.get())
+                ? FilterResult.included("area " + area.get() + " changed")
+                : FilterResult.excluded("area " + area.get() + " unchanged since " + base());
+    }
+
+    private static String base() {
+        return System.getProperty(BASE_PROPERTY, "HEAD");
+    }
+
+    private static Set<String> changedAreas() {
+        List<String> files = new ArrayList<>();
+        try {
+            files.addAll(git("diff", "--name-only", "--relative", base()));
+            files.addAll(git("ls-files", "--others", "--exclude-standard"));
+        } catch (IOException e) {
+            System.err.println("[selection] git unavailable (" + e.getMessage() + "), running all areas");
+            return Set.of();
+        }
+        Set<String> areas = new LinkedHashSet<>();
+        for (String file : files) {
+            Optional<String> area = TestArea.ofPath(file);
+            if (area.isPresent()) {
+                areas.add(area.get());
+            } else if (!file.isEmpty() && !file.endsWith(".md")) {
+                System.err.println("[selection] " + file + " changed, running all areas");
+                return Set.of();
+            }
+        }
+        System.err.println(areas.isEmpty()
+                ? "[selection] no area changed since " + base() + ", running all areas"
+                : "[selection] running changed areas " + areas);
+        return areas;
+    }
+
+    private static List<String> git(String... args) throws IOException {
+        List<String> command = new ArrayList<>();
+        command.add("git");
+        command.addAll(List.of(args));
+        Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+        List<String> lines = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+            for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+                lines.add(line.trim());
+            }
+            if (!process.waitFor(30, TimeUnit.SECONDS) || process.exitValue() != 0) {
+                throw new IOException("git " + String.join(" ", args) + " failed: " + String.join(" ", lines));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("interrupted", e);
+        }
+        return lines;
+    }
+}
@@ -0,0 +1,73 @@
+package api.selection;
+
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.support.descriptor.ClassSource;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Derives a test's area from the folder layout instead of annotations: the {@code <area>} of
+ * {@code rest-api-tests/<area>/...} in the class's TEST_CASE_SPEC_PATH, otherwise its top-level
+ * package with '_' as '-' (get_list → get-list). Infrastructure tests under {@code api.<name>} get
+ * area {@code <name>}, e.g. {@code load}.
+ */
+final class TestArea {
+
+    private static final String SPEC_FIELD = "TEST_CASE_SPEC_PATH";
+    private static final String TESTS_DIR = "rest-api-tests/";
+    private static final String INFRA_PACKAGE = "api.";
+
+    private static final Map<String, String> AREAS = new ConcurrentHashMap<>();
+
+    private TestArea() {
+    }
+
+    /** Area of the test class enclosing the descriptor; empty for engine and other non-class descriptors. */
+    static Optional<String> of(TestDescriptor descriptor) {
+        for (Optional<TestDescriptor> current = Optional.of(descriptor); current.isPresent();
+             current = current.get().getParent()) {
+            Optional<ClassSource> source = current.get().getSource()
+                    .filter(ClassSource.class::isInstance)
+                    .map(ClassSource.class::cast);
+            if (source.isPresent()) {
+                return Optional.of(AREAS.computeIfAbsent(source.get().getClassName(), name -> of(source.get())));
+            }
+        }
+        return Optional.empty();
+    }
+
+    /** Area from a changed file path relative to the module, when it is inside an area folder. */
+    static Optional<String> ofPath(String path) {
+        String p = path.replace('\\', '/');
+        int areaEnd = p.indexOf('/', TESTS_DIR.length());
+        return p.startsWith(TESTS_DIR) && areaEnd > 0
+                ? Optional.of(p.substring(TESTS_DIR.length(), areaEnd))
+                : Optional.empty();
+    }
+
+    private static String of(ClassSource source) {
+        try {
+            Field field = source.getJavaClass().getDeclaredField(SPEC_FIELD);
+            if (Modifier.isStatic(field.getModifiers()) && field.getType() == String.class) {
+                field.setAccessible(true);
+                Optional<String> area = ofPath((String) field.get(null));
+                if (area.isPresent()) {
+                    return area.get();
+                }
+            }
+        } catch (NoSuchFieldException | IllegalAccessException e) {
+            // no spec path: fall back to the package
+        }
+        String name = source.getClassName();
+        if (name.startsWith(INFRA_PACKAGE)) {
+            name = name.substring(INFRA_PACKAGE.length());
+        }
+        int dot = name.indexOf('.');
+        return (dot < 0 ? "" : name.substring(0, dot)).replace('_', '-').toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,111 @@
+package api.selection;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+/**
+ * Per test class duration and last outcome from previous runs, kept in a local JSON file
+ * (test-history.json in the module directory, override with -Dselection.history.file). Durations are
+ * smoothed over runs (average of the previous value and the new one) so one slow run does not
+ * dominate the ordering.
+ */
+public final class TestHistory {
+
+    private static final String FILE_PROPERTY = "selection.history.file";
+    private static final String DEFAULT_FILE = "test-history.json";
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    /** History of one test class. */
+    public static final class Entry {
+        private final long durationMs;
+        private final boolean failed;
+        private final int runs;
+
+        Entry(long durationMs, boolean failed, int runs) {
+            this.durationMs = durationMs;
+            this.failed = failed;
+            this.runs = runs;
+        }
+
+        public long getDurationMs() {
+            return durationMs;
+        }
+
+        /** Whether any test of the class failed in the last run that executed it. */
+        public boolean isFailed() {
+            return failed;
+        }
+
+        public int getRuns() {
+            return runs;
+        }
+    }
+
+    private final Map<String, Entry> entries;
+
+    private TestHistory(Map<String, Entry> entries) {
+        this.entries = entries;
+    }
+
+    static Path file() {
+        return Paths.get(System.getProperty(FILE_PROPERTY, DEFAULT_FILE));
+    }
+
+    /** Loads the history file; empty when it does not exist or cannot be read. */
+    public static TestHistory load() {
+        Map<String, Entry> entries = new TreeMap<>();
+        Path file = file();
+        if (Files.isRegularFile(file)) {
+            try {
+                JsonNode classes = MAPPER.readTree(file.toFile()).path("classes");
+                classes.fields().forEachRemaining(e -> entries.put(e.getKey(), new Entry(
+                        e.getValue().path("durationMs").asLong(),
+                        e.getValue().path("failed").asBoolean(),
+                        e.getValue().path("runs").asInt())));
+            } catch (IOException e) {
+                System.err.println("Ignoring unreadable test history " + file + ": " + e.getMessage());
+            }
+        }
+        return new TestHistory(entries);
+    }
+
+    public Optional<Entry> get(String className) {
+        return Optional.ofNullable(entries.get(className));
+    }
+
+    public boolean isEmpty() {
+        return entries.isEmpty();
+    }
+
+    /** Merges one run's result for a class into the history. */
+    synchronized void record(String className, long durationMs, boolean failed) {
+        Entry previous = entries.get(className);
+        long smoothed = previous == null ? durationMs : (previous.durationMs + durationMs) / 2;
+        entries.put(className, new Entry(smoothed, failed, previous == null ? 1 : previous.runs + 1));
+    }
+
+    synchronized void save() throws IOException {
+        ObjectNode root = MAPPER.createObjectNode();
+        ObjectNode classes = root.putObject("classes");
+        entries.forEach((name, entry) -> {
+            ObjectNode node = classes.putObject(name);
+            node.put("durationMs", entry.durationMs);
+            node.put("failed", entry.failed);
+            node.put("runs", entry.runs);
+        });
+        Path file = file();
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        MAPPER.writerWithDefaultPrettyPrinter().writeValue(file.toFile(), root);
+    }
+}
@@ -0,0 +1,92 @@
+package api.selection;
+
+import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.engine.support.descriptor.ClassSource;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.TestPlan;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Records how long each test class ran and whether any of its tests failed into {@link TestHistory}
+ * when the run finishes. Classes whose tests were all skipped (e.g. no BASE_URL) are not recorded, so
+ * unconfigured runs do not erase real durations. Registered through META-INF/services.
+ */
+public class TestHistoryListener implements TestExecutionListener {
+
+    private final Map<String, Long> startNanos = new ConcurrentHashMap<>();
+    private final Map<String, Long> durations = new ConcurrentHashMap<>();
+    private final Set<String> executed = ConcurrentHashMap.newKeySet();
+    private final Set<String> failed = ConcurrentHashMap.newKeySet();
+    private volatile TestPlan testPlan;
+
+    @Override
+    public void testPlanExecutionStarted(TestPlan testPlan) {
+        this.testPlan = testPlan;
+    }
+
+    @Override
+    public void executionStarted(TestIdentifier identifier) {
+        className(identifier).ifPresent(name -> startNanos.put(name, System.nanoTime()));
+    }
+
+    @Override
+    public void executionFinished(TestIdentifier identifier, TestExecutionResult result) {
+        className(identifier).ifPresent(name -> {
+            Long start = startNanos.remove(name);
+            if (start != null) {
+                durations.put(name, (System.nanoTime() - start) / 1_000_000L);
+            }
+        });
+        if (identifier.isTest() && result.getStatus() != TestExecutionResult.Status.ABORTED) {
+            enclosingClass(identifier).ifPresent(name -> {
+                executed.add(name);
+                if (result.getStatus() == TestExecutionResult.Status.FAILED) {
+                    failed.add(name);
+                }
+            });
+        }
+    }
+
+    @Override
+    public void testPlanExecutionFinished(TestPlan testPlan) {
+        if (executed.isEmpty()) {
+            return;
+        }
+        TestHistory history = TestHistory.load();
+        durations.forEach((name, millis) -> {
+            if (executed.contains(name)) {
+                history.record(name, millis, failed.contains(name));
+            }
+        });
+        try {
+            history.save();
+        } catch (IOException e) {
+            System.err.println("Could not write test history " + TestHistory.file() + ": " + e.getMessage());
+        }
+    }
+
+    /** Class name when the identifier is a test class container. */
+    private static Optional<String> className(TestIdentifier identifier) {
+        return identifier.getSource()
+                .filter(ClassSource.class::isInstance)
+                .map(source -> ((ClassSource) source).getClassName());
+    }
+
+    private Optional<String> enclosingClass(TestIdentifier identifier) {
+        TestPlan plan = testPlan;
+        for (Optional<TestIdentifier> current = Optional.of(identifier); current.isPresent();
+             current = plan == null ? Optional.empty() : plan.getParent(current.get())) {
+            Optional<String> name = className(current.get());
+            if (name.isPresent()) {
+                return name;
+            }
+        }
+        return Optional.empty();
+    }
+}
@@ -1,12 +1,12 @@
 package com.qa.automation.project01.base;
 
+import com.qa.automation.common.driver.DriverFactory;
+import com.qa.automation.common.driver.DriverLease;
+import com.qa.automation.common.driver.DriverPool;
 import com.qa.automation.project01.config.TestConfig;
-import io.github.bonigarcia.wdm.WebDriverManager;
-import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.extension.RegisterExtension;
 import org.openqa.selenium.WebDriver;
-import org.openqa.selenium.firefox.FirefoxDriver;
-import org.openqa.selenium.firefox.FirefoxOptions;
 
 import java.time.Duration;
 
@@ -15,45 +15,35 @@ import java.time.Duration;
  * <p>
  * Responsibilities:
  * <ul>
- *   <li>Create and configure a Firefox WebDriver before each test (no shared browser state).</li>
- *   <li>Use WebDriverManager so GeckoDriver is resolved automatically (no manual driver path).</li>
+ *   <li>Acquire and configure a Firefox WebDriver before each test: a new one, or with
+ *       {@code -Ddriver.pool.enabled=true} a pooled browser reset to about:blank with cookies and storage cleared.</li>
+ *   <li>Use DriverFactory: shared BrowserOptions (headless by default), GeckoDriver resolved automatically.</li>
  *   <li>Set timeouts: short implicit wait (2s) and configurable page-load timeout for stability.</li>
- *   <li>Quit the driver after each test so tests remain independent and do not affect each other.</li>
+ *   <li>Return the driver after each test: quit when pooling is off or the test failed, otherwise
+ *       handed back to {@link DriverPool} so the next test starts from a clean session.</li>
  * </ul>
  * Firefox is used instead of Chrome to avoid the "Change your password" (data breach) popup
  * that can block the login form during automation.
  */
 public abstract class BaseTest {
 
-    /** Shared WebDriver instance for the current test; initialised in setUpDriver, closed in tearDownDriver. */
+    /** Shared WebDriver instance for the current test; initialised in setUpDriver, returned by driverLease. */
     protected WebDriver driver;
 
+    /** Returns the driver after each test: back to the pool when it passed, quit when it failed or pooling is off. */
+    @RegisterExtension
+    DriverLease driverLease = new DriverLease(() -> driver);
+
     /**
      * Runs before each test method. Initialises Firefox, sets timeouts, and assigns the driver.
-     * Each test gets a fresh browser session so execution order does not matter.
+     * Each test gets a fresh (or reset pooled) browser session so execution order does not matter.
      */
     @BeforeEach
     void setUpDriver() {
-        // Resolve and set up GeckoDriver (downloads if missing); no manual PATH or driver path needed.
-        WebDriverManager.firefoxdriver().setup();
-        FirefoxOptions options = new FirefoxOptions();
-        options.addArguments("--width=1920");
-        options.addArguments("--height=1080");
-        driver = new FirefoxDriver(options);
+        driver = DriverPool.acquire(DriverFactory::firefox);
 
         // Short implicit wait as fallback; tests should rely on explicit waits in page objects.
         driver.manage().timeouts().implicitlyWait(Duration.ofSeconds(2));
         driver.manage().timeouts().pageLoadTimeout(Duration.ofSeconds(TestConfig.getTimeoutSeconds()));
     }
-
-    /**
-     * Runs after each test method. Closes the browser and releases resources so the next test
-     * starts with a clean driver.
-     */
-    @AfterEach
-    void tearDownDriver() {
-        if (driver != null) {
-            driver.quit();
-        }
-    }
 }
@@ -1,42 +1,36 @@
 package com.qa.automation.project02.base;
 
+import com.qa.automation.common.driver.DriverFactory;
+import com.qa.automation.common.driver.DriverLease;
+import com.qa.automation.common.driver.DriverPool;
 import com.qa.automation.project02.config.TestConfig;
-import io.github.bonigarcia.wdm.WebDriverManager;
-import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.extension.RegisterExtension;
 import org.openqa.selenium.WebDriver;
-import org.openqa.selenium.firefox.FirefoxDriver;
-import org.openqa.selenium.firefox.FirefoxOptions;
 
 import java.time.Duration;
 
 /**
  * Base test class for PROJECT_02 (Form Validation).
  * <p>
- * All tests use Firefox. WebDriver is created before each test and quit after each test so
- * tests remain independent. Timeouts are taken from {@link TestConfig}; page load and a short
- * implicit wait are configured here.
+ * All tests use Firefox. WebDriver is created (or leased from DriverPool) before each test and returned after it;
+ * a pooled browser is reset in between (cookies, storage, extra windows) and one from a failed test is quit.
+ * Timeouts are taken from {@link TestConfig}; page load and a short implicit wait are configured here.
  */
 public abstract class BaseTest {
 
-    /** WebDriver instance shared by the test; initialized in {@link #setUpDriver()}. */
+    /** WebDriver for the current test; acquired in {@link #setUpDriver()}. */
     protected WebDriver driver;
 
+    /** Returns the driver after each test: back to the pool when it passed, quit when it failed or pooling is off. */
+    @RegisterExtension
+    DriverLease driverLease = new DriverLease(() -> driver);
+
     /** Initializes Firefox driver with fixed viewport and timeouts; called before every test. */
     @BeforeEach
     void setUpDriver() {
-        WebDriverManager.firefoxdriver().setup();
-        FirefoxOptions options = new FirefoxOptions();
-        options.addArguments("--width=1920");
-        options.addArguments("--height=1080");
-        driver = new FirefoxDriver(options);
+        driver = DriverPool.acquire(DriverFactory::firefox);
         driver.manage().timeouts().implicitlyWait(Duration.ofSeconds(2));
         driver.manage().timeouts().pageLoadTimeout(Duration.ofSeconds(TestConfig.getTimeoutSeconds()));
     }
-
-    /** Closes the browser and quits the driver after each test. */
-    @AfterEach
-    void tearDownDriver() {
-        if (driver != null) driver.quit();
-    }
 }
@@ -1,38 +1,31 @@
 package com.qa.automation.project03.base;
 
+import com.qa.automation.common.driver.DriverFactory;
+import com.qa.automation.common.driver.DriverLease;
+import com.qa.automation.common.driver.DriverPool;
 import com.qa.automation.project03.config.TestConfig;
-import io.github.bonigarcia.wdm.WebDriverManager;
-import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.extension.RegisterExtension;
 import org.openqa.selenium.WebDriver;
-import org.openqa.selenium.firefox.FirefoxDriver;
-import org.openqa.selenium.firefox.FirefoxOptions;
 
 import java.time.Duration;
 
 /**
  * Base class for PROJECT_03 Google Search tests.
- * Firefox, WebDriverManager, per-test driver lifecycle.
+ * Firefox from DriverFactory; each test gets a new driver, or a reset pooled one when {@link DriverPool} is enabled.
  */
 public abstract class BaseTest {
 
     protected WebDriver driver;
 
+    /** Returns the driver after each test: back to the pool when it passed, quit when it failed or pooling is off. */
+    @RegisterExtension
+    DriverLease driverLease = new DriverLease(() -> driver);
+
     @BeforeEach
     void setUpDriver() {
-        WebDriverManager.firefoxdriver().setup();
-        FirefoxOptions options = new FirefoxOptions();
-        options.addArguments("--width=1920");
-        options.addArguments("--height=1080");
-        driver = new FirefoxDriver(options);
+        driver = DriverPool.acquire(DriverFactory::firefox);
         driver.manage().timeouts().implicitlyWait(Duration.ofSeconds(2));
         driver.manage().timeouts().pageLoadTimeout(Duration.ofSeconds(TestConfig.getTimeoutSeconds()));
     }
-
-    @AfterEach
-    void tearDownDriver() {
-        if (driver != null) {
-            driver.quit();
-        }
-    }
 }
@@ -1,17 +1,17 @@
 package com.qa.automation.project05.base;
 
+import com.qa.automation.common.driver.DriverFactory;
+import com.qa.automation.common.driver.DriverPool;
 import com.qa.automation.project05.config.TestConfig;
-import io.github.bonigarcia.wdm.WebDriverManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.extension.RegisterExtension;
 import org.openqa.selenium.WebDriver;
-import org.openqa.selenium.firefox.FirefoxDriver;
-import org.openqa.selenium.firefox.FirefoxOptions;
 
 import java.time.Duration;
 
 /**
- * Base for PROJECT_05. Provides WebDriver and registers ScreenshotOnFailureWatcher.
+ * Base for PROJECT_05. Provides WebDriver (new, or a reset one from {@link DriverPool}) and registers
+ * ScreenshotOnFailureWatcher, which returns the driver after each test.
  */
 public abstract class BaseTest {
 
@@ -22,13 +22,11 @@ public abstract class BaseTest {
 
     @BeforeEach
     void setUpDriver() {
-        WebDriverManager.firefoxdriver().setup();
-        FirefoxOptions options = new FirefoxOptions();
-        options.addArguments("--width=1920", "--height=1080");
-        driver = new FirefoxDriver(options);
+        driver = DriverPool.acquire(DriverFactory::firefox);
         driver.manage().timeouts().implicitlyWait(Duration.ofSeconds(2));
         driver.manage().timeouts().pageLoadTimeout(Duration.ofSeconds(TestConfig.getTimeoutSeconds()));
     }
 
-    // Driver is quit by ScreenshotOnFailureWatcher (after screenshot on failure, or on success/abort)
+    // Driver is returned by ScreenshotOnFailureWatcher: discarded after screenshot on failure,
+    // released to DriverPool (or quit when pooling is off) on success/abort
 }
@@ -1,5 +1,6 @@
 package com.qa.automation.project05.base;
 
+import com.qa.automation.common.driver.DriverPool;
 import com.qa.automation.project05.config.TestConfig;
 import org.junit.jupiter.api.extension.ExtensionContext;
 import org.junit.jupiter.api.extension.TestWatcher;
@@ -17,7 +18,8 @@ import java.util.Optional;
 import java.util.function.Supplier;
 
 /**
- * JUnit 5 TestWatcher: captures a screenshot when a test fails.
+ * JUnit 5 TestWatcher: captures a screenshot when a test fails, then returns the driver to
+ * {@link DriverPool} (discarded after a failure, released otherwise).
  * Register with @RegisterExtension and pass a Supplier that returns the current WebDriver.
  */
 public class ScreenshotOnFailureWatcher implements TestWatcher {
@@ -47,31 +49,26 @@ public class ScreenshotOnFailureWatcher implements TestWatcher {
                 System.err.println("[Screenshot on failure] Could not save screenshot: " + e.getMessage());
             }
         }
-        quitDriver();
+        // A failed test leaves the browser in an unknown state: never hand it to the next test
+        DriverPool.discard(driver);
     }
 
     @Override
     public void testSuccessful(ExtensionContext context) {
-        quitDriver();
+        releaseDriver();
     }
 
     @Override
     public void testAborted(ExtensionContext context, Throwable cause) {
-        quitDriver();
+        releaseDriver();
     }
 
     @Override
     public void testDisabled(ExtensionContext context, Optional<String> reason) {
-        quitDriver();
+        releaseDriver();
     }
 
-    private void quitDriver() {
-        WebDriver d = driverSupplier.get();
-        if (d != null) {
-            try {
-                d.quit();
-            } catch (Exception ignored) {
-            }
-        }
+    private void releaseDriver() {
+        DriverPool.release(driverSupplier.get());
     }
 }
@@ -1,36 +1,65 @@
 package com.qa.automation.project06.base;
 
+import com.qa.automation.common.driver.DriverFactory;
+import com.qa.automation.common.driver.DriverLease;
+import com.qa.automation.common.driver.DriverPool;
+import com.qa.automation.common.session.LoginRole;
+import com.qa.automation.common.session.SessionSnapshots;
 import com.qa.automation.project06.config.TestConfig;
-import io.github.bonigarcia.wdm.WebDriverManager;
-import org.junit.jupiter.api.AfterEach;
+import com.qa.automation.project06.pages.LoginPage;
+import com.qa.automation.project06.pages.ProductsPage;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.extension.RegisterExtension;
 import org.openqa.selenium.WebDriver;
-import org.openqa.selenium.firefox.FirefoxDriver;
-import org.openqa.selenium.firefox.FirefoxOptions;
 
 import java.time.Duration;
 
 /**
- * Base test for PROJECT_06 (E-Commerce Shopping Cart). Uses Firefox and WebDriverManager.
+ * Base test for PROJECT_06 (E-Commerce Shopping Cart). Uses Firefox from DriverFactory (new per test, or
+ * leased from {@link DriverPool} and reset between tests); cart and checkout
+ * tests start from {@link #loginAsShopper()}.
  */
 public abstract class BaseTest {
 
+    /** Configured SauceDemo user: logged in through the UI once per JVM, then restored from a session snapshot. */
+    private static final LoginRole SHOPPER = new LoginRole(
+            String.valueOf(TestConfig.getSaucedemoUsername()),
+            TestConfig.getSaucedemoBaseUrl(),
+            withSlash(TestConfig.getSaucedemoBaseUrl()) + "inventory.html",
+            webDriver -> {
+                LoginPage loginPage = new LoginPage(webDriver);
+                loginPage.navigateTo();
+                loginPage.login(TestConfig.getSaucedemoUsername(), TestConfig.getSaucedemoPassword());
+            },
+            webDriver -> {
+                String url = webDriver.getCurrentUrl();
+                return url != null && url.contains("inventory");
+            });
+
     protected WebDriver driver;
 
+    /** Returns the driver after each test: back to the pool when it passed, quit when it failed or pooling is off. */
+    @RegisterExtension
+    DriverLease driverLease = new DriverLease(() -> driver);
+
     @BeforeEach
     void setUpDriver() {
-        WebDriverManager.firefoxdriver().setup();
-        FirefoxOptions options = new FirefoxOptions();
-        options.addArguments("--headless");
-        driver = new FirefoxDriver(options);
+        driver = DriverPool.acquire(DriverFactory::firefox);
         driver.manage().timeouts().implicitlyWait(Duration.ofSeconds(TestConfig.getTimeoutSeconds()));
-        driver.manage().window().maximize();
     }
 
-    @AfterEach
-    void tearDownDriver() {
-        if (driver != null) {
-            driver.quit();
-        }
+    /**
+     * Logs in as the configured SauceDemo user and waits for the products page. The captured session
+     * (cookie plus an empty cart in localStorage) is reused when valid. Not for tests of the login form itself.
+     */
+    protected ProductsPage loginAsShopper() {
+        SessionSnapshots.open(driver, SHOPPER);
+        ProductsPage productsPage = new ProductsPage(driver);
+        productsPage.waitForPageLoad();
+        return productsPage;
+    }
+
+    private static String withSlash(String url) {
+        return url.endsWith("/") ? url : url + "/";
     }
 }
@@ -15,12 +15,7 @@ import java.util.List;
 class ShoppingCartFlowTest extends BaseTest {
 
     private ProductsPage loginAndGetProductsPage() {
-        LoginPage loginPage = new LoginPage(driver);
-        loginPage.navigateTo();
-        loginPage.login(TestConfig.getSaucedemoUsername(), TestConfig.getSaucedemoPassword());
-        ProductsPage productsPage = new ProductsPage(driver);
-        productsPage.waitForPageLoad();
-        return productsPage;
+        return loginAsShopper();
     }
 
     @Nested
@@ -28,12 +23,7 @@ class ShoppingCartFlowTest extends BaseTest {
 
         @Test
         void shouldCompleteFullPurchaseFlow() {
-            LoginPage loginPage = new LoginPage(driver);
-            loginPage.navigateTo();
-            loginPage.login(TestConfig.getSaucedemoUsername(), TestConfig.getSaucedemoPassword());
-
-            ProductsPage productsPage = new ProductsPage(driver);
-            productsPage.waitForPageLoad();
+            ProductsPage productsPage = loginAsShopper();
             Assertions.assertTrue(productsPage.isLoaded(), "Products page should be loaded");
 
             int productsCount = productsPage.getProductsCount();
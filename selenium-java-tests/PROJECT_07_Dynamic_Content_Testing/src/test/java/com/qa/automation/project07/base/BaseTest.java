@@ -1,39 +1,33 @@
 package com.qa.automation.project07.base;
 
+import com.qa.automation.common.driver.DriverFactory;
+import com.qa.automation.common.driver.DriverLease;
+import com.qa.automation.common.driver.DriverPool;
 import com.qa.automation.project07.config.TestConfig;
-import io.github.bonigarcia.wdm.WebDriverManager;
-import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.extension.RegisterExtension;
 import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.WebDriver;
-import org.openqa.selenium.firefox.FirefoxDriver;
-import org.openqa.selenium.firefox.FirefoxOptions;
 
 import java.time.Duration;
 
 /**
- * Base test for PROJECT_07 (Dynamic Content). Uses Firefox and WebDriverManager.
+ * Base test for PROJECT_07 (Dynamic Content). Uses Firefox from DriverFactory, new per test or leased
+ * from {@link DriverPool} and reset between tests.
  */
 public abstract class BaseTest {
 
     protected WebDriver driver;
 
+    /** Returns the driver after each test: back to the pool when it passed, quit when it failed or pooling is off. */
+    @RegisterExtension
+    DriverLease driverLease = new DriverLease(() -> driver);
+
     @BeforeEach
     void setUpDriver() {
-        WebDriverManager.firefoxdriver().setup();
-        FirefoxOptions options = new FirefoxOptions();
-        options.addArguments("--headless");
-        driver = new FirefoxDriver(options);
+        driver = DriverPool.acquire(DriverFactory::firefox);
         driver.manage().timeouts().implicitlyWait(Duration.ofSeconds(TestConfig.getTimeoutSeconds()));
         driver.manage().timeouts().pageLoadTimeout(Duration.ofSeconds(30));
-        driver.manage().window().maximize();
-    }
-
-    @AfterEach
-    void tearDownDriver() {
-        if (driver != null) {
-            driver.quit();
-        }
     }
 
     protected long getPageHeight() {
@@ -1,48 +1,89 @@
 package com.qa.automation.project14.base;
 
+import com.qa.automation.common.driver.DriverFactory;
+import com.qa.automation.common.driver.DriverLease;
+import com.qa.automation.common.driver.DriverPool;
+import com.qa.automation.common.session.LoginRole;
+import com.qa.automation.common.session.SessionSnapshots;
 import com.qa.automation.project14.config.TestConfig;
-import io.github.bonigarcia.wdm.WebDriverManager;
-import org.junit.jupiter.api.AfterEach;
+import com.qa.automation.project14.pages.LoginPage;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
-import org.openqa.selenium.firefox.FirefoxDriver;
-import org.openqa.selenium.firefox.FirefoxOptions;
 
 import java.time.Duration;
 
 /**
  * Base test class for PROJECT_14 (Banking Application Testing).
  * <p>
- * Uses Firefox for all tests. WebDriver is created before each test and quit after each test
- * so tests remain independent. Timeouts are taken from {@link TestConfig}. Tests that require
- * login should check {@link TestConfig#isLoginConfigured()} and skip with a clear message when
- * credentials are not set (no hardcoded credentials).
+ * Uses Firefox for all tests. WebDriver is created (or leased from DriverPool) before each test and returned after it;
+ * a pooled browser is reset in between (cookies, storage, extra windows) and one from a failed test is quit.
+ * Timeouts are taken from {@link TestConfig}. Tests that require login should check
+ * {@link TestConfig#isLoginConfigured()} and skip with a clear message when credentials are not set
+ * (no hardcoded credentials), then call {@link #loginAsCustomer()}.
  */
 public abstract class BaseTest {
 
-    /** WebDriver instance for the current test; initialised in setUpDriver, closed in tearDownDriver. */
+    /** Configured banking user: logged in through the UI once per JVM, then restored from a session snapshot. */
+    private static final LoginRole CUSTOMER = new LoginRole(
+            String.valueOf(TestConfig.getUsername()),
+            TestConfig.getBaseUrl(),
+            withSlash(TestConfig.getBaseUrl()) + "overview.htm",
+            webDriver -> {
+                LoginPage loginPage = new LoginPage(webDriver);
+                loginPage.navigateTo();
+                loginPage.login(TestConfig.getUsername(), TestConfig.getPassword());
+            },
+            webDriver -> {
+                String url = webDriver.getCurrentUrl();
+                if (url == null || !url.contains("overview")) {
+                    return false;
+                }
+                // The check must not wait: a rejected session would otherwise cost the implicit wait each time
+                WebDriver.Timeouts timeouts = webDriver.manage().timeouts();
+                Duration implicitWait = timeouts.getImplicitWaitTimeout();
+                timeouts.implicitlyWait(Duration.ZERO);
+                try {
+                    return !webDriver.findElements(By.linkText("Log Out")).isEmpty();
+                } finally {
+                    timeouts.implicitlyWait(implicitWait);
+                }
+            });
+
+    /** WebDriver instance for the current test; initialised in setUpDriver, returned by driverLease. */
     protected WebDriver driver;
 
+    /** Returns the driver after each test: back to the pool when it passed, quit when it failed or pooling is off. */
+    @RegisterExtension
+    DriverLease driverLease = new DriverLease(() -> driver);
+
     /**
      * Initialises Firefox driver with fixed viewport and timeouts before every test.
-     * WebDriverManager resolves GeckoDriver automatically.
+     * DriverFactory applies the shared BrowserOptions and resolves GeckoDriver.
      */
     @BeforeEach
     void setUpDriver() {
-        WebDriverManager.firefoxdriver().setup();
-        FirefoxOptions options = new FirefoxOptions();
-        options.addArguments("--width=1920");
-        options.addArguments("--height=1080");
-        driver = new FirefoxDriver(options);
+        driver = DriverPool.acquire(DriverFactory::firefox);
         driver.manage().timeouts().implicitlyWait(Duration.ofSeconds(2));
         driver.manage().timeouts().pageLoadTimeout(Duration.ofSeconds(TestConfig.getTimeoutSeconds()));
     }
 
-    /** Closes the browser and quits the driver after each test. */
-    @AfterEach
-    void tearDownDriver() {
-        if (driver != null) {
-            driver.quit();
-        }
+    /**
+     * Logs in as the configured banking user and lands on Accounts Overview. Reuses the captured session
+     * when it is still valid; falls back to the login form when it has expired on the server.
+     * Not for tests of the login form itself.
+     */
+    protected void loginAsCustomer() {
+        SessionSnapshots.open(driver, CUSTOMER);
+    }
+
+    /** Logs in through the form in a session of its own; for tests that log out (that ends the shared session). */
+    protected void loginAsCustomerInOwnSession() {
+        SessionSnapshots.openPrivate(driver, CUSTOMER);
+    }
+
+    private static String withSlash(String url) {
+        return url.endsWith("/") ? url : url + "/";
     }
 }
@@ -28,9 +28,7 @@ class DashboardTest extends BaseTest {
     void loginIfConfigured() {
         assumeTrue(TestConfig.isLoginConfigured(),
                 "BANKING_USERNAME and BANKING_PASSWORD must be set to run dashboard tests");
-        LoginPage loginPage = new LoginPage(driver);
-        loginPage.navigateTo();
-        loginPage.login(TestConfig.getUsername(), TestConfig.getPassword());
+        loginAsCustomer();
     }
 
     /**
@@ -91,6 +89,8 @@ class DashboardTest extends BaseTest {
     @Test
     @DisplayName("TC-BANK-DASH-005: Logout from dashboard")
     void shouldLogoutFromDashboard() {
+        // Logging out ends the server session: never log out of the one shared by the other tests
+        loginAsCustomerInOwnSession();
         DashboardPage dashboard = new DashboardPage(driver);
         LoginPage loginPage = dashboard.logout();
         assertTrue(loginPage.isLoaded(), "After logout, login page should be visible (redirected to login or home)");
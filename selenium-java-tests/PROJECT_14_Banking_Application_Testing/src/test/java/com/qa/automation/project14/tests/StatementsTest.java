@@ -4,7 +4,6 @@ import com.qa.automation.project14.base.BaseTest;
 import com.qa.automation.project14.config.TestConfig;
 import com.qa.automation.project14.pages.AccountActivityPage;
 import com.qa.automation.project14.pages.DashboardPage;
-import com.qa.automation.project14.pages.LoginPage;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -26,9 +25,7 @@ class StatementsTest extends BaseTest {
     void loginIfConfigured() {
         assumeTrue(TestConfig.isLoginConfigured(),
                 "BANKING_USERNAME and BANKING_PASSWORD must be set to run statement tests");
-        LoginPage loginPage = new LoginPage(driver);
-        loginPage.navigateTo();
-        loginPage.login(TestConfig.getUsername(), TestConfig.getPassword());
+        loginAsCustomer();
     }
 
     /**
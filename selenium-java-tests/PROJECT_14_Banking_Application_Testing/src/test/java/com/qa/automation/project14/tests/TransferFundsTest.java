@@ -3,11 +3,12 @@ package com.qa.automation.project14.tests;
 import com.qa.automation.project14.base.BaseTest;
 import com.qa.automation.project14.config.TestConfig;
 import com.qa.automation.project14.pages.DashboardPage;
-import com.qa.automation.project14.pages.LoginPage;
 import com.qa.automation.project14.pages.TransferFundsPage;
+import com.qa.automation.project14.util.SharedResources;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.ResourceLock;
 
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assumptions.assumeTrue;
@@ -19,15 +20,14 @@ import static org.junit.jupiter.api.Assumptions.assumeTrue;
  * TC-BANK-XFER-002: Transfer with invalid amount (negative/zero); expect error or validation, transfer not completed.
  * Both tests require configured credentials and at least two accounts for full flow; skipped when creds not set.
  */
+@ResourceLock(SharedResources.BANKING_ACCOUNTS)
 class TransferFundsTest extends BaseTest {
 
     @BeforeEach
     void loginIfConfigured() {
         assumeTrue(TestConfig.isLoginConfigured(),
                 "BANKING_USERNAME and BANKING_PASSWORD must be set to run transfer tests");
-        LoginPage loginPage = new LoginPage(driver);
-        loginPage.navigateTo();
-        loginPage.login(TestConfig.getUsername(), TestConfig.getPassword());
+        loginAsCustomer();
     }
 
     /**
@@ -0,0 +1,15 @@
+package com.qa.automation.project14.util;
+
+/**
+ * Keys for JUnit {@code @ResourceLock} on state that banking tests share when running in parallel.
+ * <p>
+ * All tests log in with the same BANKING_USERNAME, so transfers change the balances other tests read.
+ * Tests that move money take {@link #BANKING_ACCOUNTS} in READ_WRITE mode.
+ */
+public final class SharedResources {
+
+    private SharedResources() {}
+
+    /** Accounts and balances of the configured demo banking user. */
+    public static final String BANKING_ACCOUNTS = "project14.banking.accounts";
+}
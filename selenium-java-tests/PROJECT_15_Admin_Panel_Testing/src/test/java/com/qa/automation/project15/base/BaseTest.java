@@ -1,44 +1,64 @@
 package com.qa.automation.project15.base;
 
+import com.qa.automation.common.driver.DriverFactory;
+import com.qa.automation.common.driver.DriverLease;
+import com.qa.automation.common.driver.DriverPool;
+import com.qa.automation.common.session.LoginRole;
+import com.qa.automation.common.session.SessionSnapshots;
 import com.qa.automation.project15.config.TestConfig;
-import io.github.bonigarcia.wdm.WebDriverManager;
-import org.junit.jupiter.api.AfterEach;
+import com.qa.automation.project15.pages.LoginPage;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.extension.RegisterExtension;
 import org.openqa.selenium.WebDriver;
-import org.openqa.selenium.firefox.FirefoxDriver;
-import org.openqa.selenium.firefox.FirefoxOptions;
 
 import java.time.Duration;
 
 /**
  * Base test class for PROJECT_15 (Admin Panel Testing).
  * <p>
- * Uses Firefox; WebDriver is created before each test and quit after each test for independence.
+ * Uses Firefox; WebDriver is created (or leased from DriverPool) before each test and returned after it;
+ * a pooled browser is reset in between and one from a failed test is quit.
  * Timeouts from {@link TestConfig}. Login-dependent tests should check {@link TestConfig#isLoginConfigured()}
- * and skip with a clear message when credentials are not set.
+ * and skip with a clear message when credentials are not set, then call {@link #loginAsAdmin()}.
  */
 public abstract class BaseTest {
 
-    /** WebDriver for the current test; initialised in setUpDriver, closed in tearDownDriver. */
+    /** Configured admin: logged in through the UI once per JVM, then restored from a session snapshot. */
+    private static final LoginRole ADMIN = new LoginRole(
+            String.valueOf(TestConfig.getUsername()),
+            TestConfig.getBaseUrl(),
+            withSlash(TestConfig.getBaseUrl()) + LoginPage.DASHBOARD_PATH + "/index",
+            webDriver -> {
+                LoginPage loginPage = new LoginPage(webDriver);
+                loginPage.navigateTo();
+                loginPage.login(TestConfig.getUsername(), TestConfig.getPassword());
+            },
+            webDriver -> LoginPage.isDashboardUrl(webDriver.getCurrentUrl()));
+
+    /** WebDriver for the current test; initialised in setUpDriver, returned by driverLease. */
     protected WebDriver driver;
 
-    /** Initialises Firefox driver before every test; WebDriverManager resolves GeckoDriver. */
+    /** Returns the driver after each test: back to the pool when it passed, quit when it failed or pooling is off. */
+    @RegisterExtension
+    DriverLease driverLease = new DriverLease(() -> driver);
+
+    /** Initialises Firefox driver (DriverFactory) before every test. */
     @BeforeEach
     void setUpDriver() {
-        WebDriverManager.firefoxdriver().setup();
-        FirefoxOptions options = new FirefoxOptions();
-        options.addArguments("--width=1920");
-        options.addArguments("--height=1080");
-        driver = new FirefoxDriver(options);
+        driver = DriverPool.acquire(DriverFactory::firefox);
         driver.manage().timeouts().implicitlyWait(Duration.ofSeconds(2));
         driver.manage().timeouts().pageLoadTimeout(Duration.ofSeconds(TestConfig.getTimeoutSeconds()));
     }
 
-    /** Closes the browser and quits the driver after each test. */
-    @AfterEach
-    void tearDownDriver() {
-        if (driver != null) {
-            driver.quit();
-        }
+    /**
+     * Logs in as the configured admin. Reuses the captured session when it is still valid (no credentials
+     * typed); falls back to the login form otherwise. Not for tests of the login form itself.
+     */
+    protected void loginAsAdmin() {
+        SessionSnapshots.open(driver, ADMIN);
+    }
+
+    private static String withSlash(String url) {
+        return url.endsWith("/") ? url : url + "/";
     }
 }
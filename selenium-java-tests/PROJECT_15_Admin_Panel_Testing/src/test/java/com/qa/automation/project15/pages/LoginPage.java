@@ -17,11 +17,16 @@ import java.time.Duration;
  */
 public class LoginPage {
 
+    /** Path (after the base URL) of the landing page every successful login redirects to. */
+    public static final String DASHBOARD_PATH = "index.php/dashboard";
+
     /** OrangeHRM 5: inputs by name (or placeholder fallback). */
     private static final By USERNAME_INPUT = By.name("username");
     private static final By PASSWORD_INPUT = By.name("password");
     /** Login submit button (type submit or orangehrm login button). */
     private static final By LOGIN_BUTTON = By.cssSelector("button[type='submit']");
+    /** Error alert shown on the login page for rejected credentials (e.g. "Invalid credentials"). */
+    private static final By LOGIN_ERROR = By.cssSelector(".oxd-alert-content-text");
 
     private final WebDriver driver;
     private final String baseUrl;
@@ -67,20 +72,21 @@ public class LoginPage {
     }
 
     /**
-     * Full login flow: enter username and password, click Login, then wait until
-     * the dashboard or main menu is visible (success) or an error appears.
+     * Full login flow: enter username and password, click Login, then wait until the browser
+     * has landed on the dashboard (success) or the login error alert appears. The login page
+     * itself lives under {@code index.php}, so only the dashboard URL counts as success.
      */
     public void login(String username, String password) {
         enterUsername(username);
         enterPassword(password);
         clickLogin();
-        wait.until(webDriver -> {
-            String url = webDriver.getCurrentUrl();
-            if (url != null && (url.contains("dashboard") || url.contains("index.php"))) {
-                return true;
-            }
-            return webDriver.findElements(LOGIN_BUTTON).isEmpty() || !webDriver.findElement(LOGIN_BUTTON).isDisplayed();
-        });
+        wait.until(webDriver -> isDashboardUrl(webDriver.getCurrentUrl())
+                || !webDriver.findElements(LOGIN_ERROR).isEmpty());
+    }
+
+    /** Returns true if the URL is the dashboard, i.e. the browser is past the login page. */
+    public static boolean isDashboardUrl(String url) {
+        return url != null && url.contains(DASHBOARD_PATH);
     }
 
     /** Returns true if the login page is loaded (login button visible). */
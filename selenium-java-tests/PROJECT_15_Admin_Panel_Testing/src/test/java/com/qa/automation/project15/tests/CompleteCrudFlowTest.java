@@ -2,11 +2,12 @@ package com.qa.automation.project15.tests;
 
 import com.qa.automation.project15.base.BaseTest;
 import com.qa.automation.project15.config.TestConfig;
-import com.qa.automation.project15.pages.LoginPage;
 import com.qa.automation.project15.pages.UsersManagementPage;
+import com.qa.automation.project15.util.SharedResources;
 import com.qa.automation.project15.util.TestDataHelper;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.ResourceLock;
 
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assumptions.assumeTrue;
@@ -16,6 +17,7 @@ import static org.junit.jupiter.api.Assumptions.assumeTrue;
  * <p>
  * TC-ADMIN-FLOW-001: Full CRUD — Create user, Read (search and verify), Update (if supported), Delete, verify not in list.
  */
+@ResourceLock(SharedResources.ADMIN_USERS)
 class CompleteCrudFlowTest extends BaseTest {
 
     /**
@@ -25,9 +27,7 @@ class CompleteCrudFlowTest extends BaseTest {
     @DisplayName("TC-ADMIN-FLOW-001: Full CRUD flow")
     void shouldCompleteFullCrudFlow() {
         assumeTrue(TestConfig.isLoginConfigured(), "ADMIN_USERNAME and ADMIN_PASSWORD must be set");
-        LoginPage loginPage = new LoginPage(driver);
-        loginPage.navigateTo();
-        loginPage.login(TestConfig.getUsername(), TestConfig.getPassword());
+        loginAsAdmin();
 
         String username = TestDataHelper.uniqueUsername();
         UsersManagementPage usersPage = new UsersManagementPage(driver);
@@ -2,12 +2,13 @@ package com.qa.automation.project15.tests;
 
 import com.qa.automation.project15.base.BaseTest;
 import com.qa.automation.project15.config.TestConfig;
-import com.qa.automation.project15.pages.LoginPage;
 import com.qa.automation.project15.pages.UsersManagementPage;
+import com.qa.automation.project15.util.SharedResources;
 import com.qa.automation.project15.util.TestDataHelper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.ResourceLock;
 
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assumptions.assumeTrue;
@@ -18,14 +19,13 @@ import static org.junit.jupiter.api.Assumptions.assumeTrue;
  * TC-ADMIN-C-001: Create a new user with role ESS, employee, username, password, status Enabled.
  * Test data is generated per test (unique username) for independence.
  */
+@ResourceLock(SharedResources.ADMIN_USERS)
 class CreateUserTest extends BaseTest {
 
     @BeforeEach
     void loginIfConfigured() {
         assumeTrue(TestConfig.isLoginConfigured(), "ADMIN_USERNAME and ADMIN_PASSWORD must be set");
-        LoginPage loginPage = new LoginPage(driver);
-        loginPage.navigateTo();
-        loginPage.login(TestConfig.getUsername(), TestConfig.getPassword());
+        loginAsAdmin();
     }
 
     /**
@@ -2,11 +2,13 @@ package com.qa.automation.project15.tests;
 
 import com.qa.automation.project15.base.BaseTest;
 import com.qa.automation.project15.config.TestConfig;
-import com.qa.automation.project15.pages.LoginPage;
 import com.qa.automation.project15.pages.UsersManagementPage;
+import com.qa.automation.project15.util.SharedResources;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.ResourceAccessMode;
+import org.junit.jupiter.api.parallel.ResourceLock;
 
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assumptions.assumeTrue;
@@ -16,14 +18,13 @@ import static org.junit.jupiter.api.Assumptions.assumeTrue;
  * <p>
  * TC-ADMIN-P-001: Pagination exists when applicable; hasPagination() returns true/false consistently; no crash.
  */
+@ResourceLock(value = SharedResources.ADMIN_USERS, mode = ResourceAccessMode.READ)
 class PaginationTest extends BaseTest {
 
     @BeforeEach
     void loginIfConfigured() {
         assumeTrue(TestConfig.isLoginConfigured(), "ADMIN_USERNAME and ADMIN_PASSWORD must be set");
-        LoginPage loginPage = new LoginPage(driver);
-        loginPage.navigateTo();
-        loginPage.login(TestConfig.getUsername(), TestConfig.getPassword());
+        loginAsAdmin();
     }
 
     /**
@@ -0,0 +1,16 @@
+package com.qa.automation.project15.util;
+
+/**
+ * Keys for JUnit {@code @ResourceLock} on state that all admin tests share when running in parallel.
+ * <p>
+ * Every test logs in as the same admin and works on the same Users list: tests that add, edit or
+ * delete users take {@link #ADMIN_USERS} in READ_WRITE mode; tests that read or count the list take it
+ * in READ mode so they never see another test's half-finished changes.
+ */
+public final class SharedResources {
+
+    private SharedResources() {}
+
+    /** Users list of the admin panel (User Management → Users), including the admin account itself. */
+    public static final String ADMIN_USERS = "project15.admin.users";
+}
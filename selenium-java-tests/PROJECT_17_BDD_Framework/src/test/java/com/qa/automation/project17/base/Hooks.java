@@ -1,38 +1,37 @@
 package com.qa.automation.project17.base;
 
+import com.qa.automation.common.driver.DriverFactory;
+import com.qa.automation.common.driver.DriverPool;
 import com.qa.automation.project17.config.TestConfig;
 import io.cucumber.java.After;
 import io.cucumber.java.Before;
-import io.github.bonigarcia.wdm.WebDriverManager;
+import io.cucumber.java.Scenario;
 import org.openqa.selenium.WebDriver;
-import org.openqa.selenium.firefox.FirefoxDriver;
-import org.openqa.selenium.firefox.FirefoxOptions;
 
 import java.time.Duration;
 
 /**
- * Cucumber hooks: create and quit WebDriver per scenario.
- * Each scenario gets a fresh browser so tests are independent.
+ * Cucumber hooks: acquire a WebDriver before each scenario and return it afterwards.
+ * By default each scenario gets a new browser that is quit at the end. With {@link DriverPool} enabled the
+ * browser is leased instead, reset after a passed scenario and quit after a failed one.
  */
 public class Hooks {
 
     @Before
     public void setUp() {
-        WebDriverManager.firefoxdriver().setup();
-        FirefoxOptions options = new FirefoxOptions();
-        options.addArguments("--width=1920");
-        options.addArguments("--height=1080");
-        WebDriver driver = new FirefoxDriver(options);
+        WebDriver driver = DriverPool.acquire(DriverFactory::firefox);
         driver.manage().timeouts().implicitlyWait(Duration.ofSeconds(2));
         driver.manage().timeouts().pageLoadTimeout(Duration.ofSeconds(TestConfig.getTimeoutSeconds()));
         DriverHolder.set(driver);
     }
 
     @After
-    public void tearDown() {
+    public void tearDown(Scenario scenario) {
         WebDriver driver = DriverHolder.get();
-        if (driver != null) {
-            driver.quit();
+        if (scenario.isFailed()) {
+            DriverPool.discard(driver);
+        } else {
+            DriverPool.release(driver);
         }
         DriverHolder.clear();
     }
@@ -1,5 +1,7 @@
 package com.qa.automation.project17.steps;
 
+import com.qa.automation.common.session.LoginRole;
+import com.qa.automation.common.session.SessionSnapshots;
 import com.qa.automation.project17.base.DriverHolder;
 import com.qa.automation.project17.config.TestConfig;
 import com.qa.automation.project17.pages.LoginPage;
@@ -16,6 +18,24 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
  */
 public class LogoutSteps {
 
+    /**
+     * standard_user, logged in through the UI once per JVM and then restored from a session snapshot.
+     * SauceDemo's logout only clears the browser's cookie, so logging out never spoils the snapshot.
+     */
+    private static final LoginRole STANDARD_USER = new LoginRole(
+            "standard_user",
+            TestConfig.getBaseUrl(),
+            TestConfig.getBaseUrl() + "inventory.html",
+            webDriver -> {
+                LoginPage loginPage = new LoginPage(webDriver);
+                loginPage.navigateTo();
+                loginPage.login("standard_user", "secret_sauce");
+            },
+            webDriver -> {
+                String url = webDriver.getCurrentUrl();
+                return url != null && url.contains("inventory");
+            });
+
     private static WebDriver driver() {
         return DriverHolder.get();
     }
@@ -30,8 +50,7 @@ public class LogoutSteps {
 
     @Given("I am logged in.")
     public void i_am_logged_in() {
-        loginPage().navigateTo();
-        loginPage().login("standard_user", "secret_sauce");
+        SessionSnapshots.open(driver(), STANDARD_USER);
         assertTrue(productsPage().isLoaded(), "Should be on products page");
     }
 
@@ -0,0 +1,115 @@
+package com.qa.automation.common.driver;
+
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.chromium.ChromiumOptions;
+import org.openqa.selenium.edge.EdgeOptions;
+import org.openqa.selenium.firefox.FirefoxOptions;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Browser options shared by every UI module, tuned through system properties:
+ * <ul>
+ *   <li>{@code browser.headless} (default true) — no display needed, faster on CI; set false to watch a run.</li>
+ *   <li>{@code browser.width} / {@code browser.height} (default 1920 × 1080) — window size, headed or headless.</li>
+ *   <li>{@code browser.disableImages} (default false) — skip image downloads; only for tests that never look at images.</li>
+ *   <li>{@code browser.disableAnimations} (default true) — ask pages for reduced motion so elements settle sooner.</li>
+ *   <li>{@code browser.disableExtensions} (default true) — no extension or add-on updates during a run.</li>
+ *   <li>{@code browser.disableTelemetry} (default true) — no telemetry, health reports or background update checks.</li>
+ * </ul>
+ * Each method returns new options, so a module can add its own settings before creating the driver.
+ */
+public final class BrowserOptions {
+
+    public static final String HEADLESS_PROPERTY = "browser.headless";
+    public static final String WIDTH_PROPERTY = "browser.width";
+    public static final String HEIGHT_PROPERTY = "browser.height";
+    public static final String DISABLE_IMAGES_PROPERTY = "browser.disableImages";
+    public static final String DISABLE_ANIMATIONS_PROPERTY = "browser.disableAnimations";
+    public static final String DISABLE_EXTENSIONS_PROPERTY = "browser.disableExtensions";
+    public static final String DISABLE_TELEMETRY_PROPERTY = "browser.disableTelemetry";
+
+    private static final int DEFAULT_WIDTH = 1920;
+    private static final int DEFAULT_HEIGHT = 1080;
+
+    private BrowserOptions() {}
+
+    public static boolean isHeadless() {
+        return SystemProperties.bool(HEADLESS_PROPERTY, true);
+    }
+
+    public static int width() {
+        return SystemProperties.positiveInt(WIDTH_PROPERTY, DEFAULT_WIDTH);
+    }
+
+    public static int height() {
+        return SystemProperties.positiveInt(HEIGHT_PROPERTY, DEFAULT_HEIGHT);
+    }
+
+    public static FirefoxOptions firefox() {
+        FirefoxOptions options = new FirefoxOptions();
+        if (isHeadless()) {
+            options.addArguments("--headless");
+        }
+        options.addArguments("--width=" + width(), "--height=" + height());
+        if (SystemProperties.bool(DISABLE_IMAGES_PROPERTY, false)) {
+            options.addPreference("permissions.default.image", 2);
+        }
+        if (SystemProperties.bool(DISABLE_ANIMATIONS_PROPERTY, true)) {
+            options.addPreference("ui.prefersReducedMotion", 1);
+            options.addPreference("toolkit.cosmeticAnimations.enabled", false);
+        }
+        if (SystemProperties.bool(DISABLE_EXTENSIONS_PROPERTY, true)) {
+            options.addPreference("extensions.update.enabled", false);
+            options.addPreference("extensions.getAddons.cache.enabled", false);
+            options.addPreference("xpinstall.enabled", false);
+        }
+        if (SystemProperties.bool(DISABLE_TELEMETRY_PROPERTY, true)) {
+            options.addPreference("toolkit.telemetry.enabled", false);
+            options.addPreference("toolkit.telemetry.unified", false);
+            options.addPreference("datareporting.healthreport.uploadEnabled", false);
+            options.addPreference("datareporting.policy.dataSubmissionEnabled", false);
+            options.addPreference("app.update.auto", false);
+            options.addPreference("browser.shell.checkDefaultBrowser", false);
+        }
+        return options;
+    }
+
+    public static ChromeOptions chrome() {
+        return chromium(new ChromeOptions());
+    }
+
+    public static EdgeOptions edge() {
+        return chromium(new EdgeOptions());
+    }
+
+    /** Chrome and Edge share the Chromium switches. */
+    private static <T extends ChromiumOptions<?>> T chromium(T options) {
+        List<String> args = new ArrayList<>();
+        if (isHeadless()) {
+            args.add("--headless=new");
+        }
+        args.add("--window-size=" + width() + "," + height());
+        if (SystemProperties.bool(DISABLE_IMAGES_PROPERTY, false)) {
+            args.add("--blink-settings=imagesEnabled=false");
+        }
+        if (SystemProperties.bool(DISABLE_ANIMATIONS_PROPERTY, true)) {
+            args.add("--force-prefers-reduced-motion");
+        }
+        if (SystemProperties.bool(DISABLE_EXTENSIONS_PROPERTY, true)) {
+            args.add("--disable-extensions");
+            args.add("--disable-component-extensions-with-background-pages");
+        }
+        if (SystemProperties.bool(DISABLE_TELEMETRY_PROPERTY, true)) {
+            args.add("--disable-background-networking");
+            args.add("--disable-component-update");
+            args.add("--disable-domain-reliability");
+            args.add("--metrics-recording-only");
+            args.add("--no-first-run");
+            args.add("--no-default-browser-check");
+        }
+        options.addArguments(args);
+        return options;
+    }
+}
@@ -0,0 +1,292 @@
+package com.qa.automation.common.driver;
+
+import io.github.bonigarcia.wdm.WebDriverManager;
+import io.github.bonigarcia.wdm.config.Config;
+import io.github.bonigarcia.wdm.online.HttpClient;
+import io.github.bonigarcia.wdm.versions.VersionDetector;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Resolves driver binaries (geckodriver, chromedriver, msedgedriver) once per JVM from a local cache, so
+ * tests start without a network round trip and run on air-gapped agents.
+ * <p>
+ * Resolution order for each driver:
+ * <ol>
+ *   <li>{@code webdriver.<browser>.driver} already set (e.g. {@code -Dwebdriver.gecko.driver=/opt/geckodriver}):
+ *       used as is.</li>
+ *   <li>The cache {@code driver.cache.dir} (default {@code ~/.selenium-drivers}), laid out as
+ *       {@code <dir>/<driver>/<version>/<binary>} with a {@code <binary>.sha256} file beside it. The version
+ *       is {@code driver.<name>.version} when pinned (e.g. {@code -Ddriver.gecko.version=0.35.0}), otherwise the
+ *       highest cached one. chromedriver and msedgedriver share their major version with the browser, so for
+ *       them only versions with the installed browser's major are considered: after a browser update the
+ *       stale driver is skipped and the matching one is downloaded. The binary's SHA-256 must match {@code driver.<name>.sha256} when given, otherwise
+ *       the .sha256 file; a mismatch fails the run rather than start a tampered or truncated binary.</li>
+ *   <li>Not cached: unless {@code driver.offline=true}, WebDriverManager downloads it (the pinned version
+ *       if any) and the binary is copied into the cache with its checksum. Later runs on the machine, and
+ *       every other module, are offline.</li>
+ * </ol>
+ * To provision an air-gapped agent, copy the cache directory from a machine that has run the suite once,
+ * or drop the binaries into the layout above.
+ */
+public final class DriverBinaries {
+
+    /** System property: cache directory shared by all modules and runs on the machine. */
+    public static final String CACHE_DIR_PROPERTY = "driver.cache.dir";
+    /** System property: never download; fail when a driver is not cached. Default false. */
+    public static final String OFFLINE_PROPERTY = "driver.offline";
+
+    private static final String CHECKSUM_SUFFIX = ".sha256";
+
+    /** Driver binaries known to the cache. */
+    public enum Driver {
+        GECKO("geckodriver", "webdriver.gecko.driver", WebDriverManager::firefoxdriver, null),
+        CHROME("chromedriver", "webdriver.chrome.driver", WebDriverManager::chromedriver, "chrome"),
+        EDGE("msedgedriver", "webdriver.edge.driver", WebDriverManager::edgedriver, "edge");
+
+        private final String binaryName;
+        private final String seleniumProperty;
+        private final Supplier<WebDriverManager> manager;
+        /** Browser whose major version the driver's must equal (WebDriverManager name); null when unrelated. */
+        private final String matchingBrowser;
+
+        Driver(String binaryName, String seleniumProperty, Supplier<WebDriverManager> manager, String matchingBrowser) {
+            this.binaryName = binaryName;
+            this.seleniumProperty = seleniumProperty;
+            this.manager = manager;
+            this.matchingBrowser = matchingBrowser;
+        }
+
+        /** Short name used in property keys: gecko, chrome, edge. */
+        String key() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+
+        /** Cache subdirectory: geckodriver, chromedriver, msedgedriver. */
+        String binaryName() {
+            return binaryName;
+        }
+
+        String fileName() {
+            return isWindows() ? binaryName + ".exe" : binaryName;
+        }
+    }
+
+    private static final Map<Driver, Path> RESOLVED = new ConcurrentHashMap<>();
+
+    /** Orders version directories numerically: 0.35.0 after 0.9.1. */
+    static final Comparator<Path> VERSION_ORDER = (a, b) -> {
+        String[] left = a.getFileName().toString().split("\\D+");
+        String[] right = b.getFileName().toString().split("\\D+");
+        for (int i = 0; i < Math.max(left.length, right.length); i++) {
+            long l = i < left.length && !left[i].isEmpty() ? Long.parseLong(left[i]) : 0;
+            long r = i < right.length && !right[i].isEmpty() ? Long.parseLong(right[i]) : 0;
+            if (l != r) {
+                return Long.compare(l, r);
+            }
+        }
+        return 0;
+    };
+
+    private DriverBinaries() {}
+
+    /**
+     * Makes the driver binary available to Selenium ({@code webdriver.<browser>.driver}) and returns its path.
+     * Only the first call per driver and JVM does any work.
+     *
+     * @throws IllegalStateException when the binary is missing in offline mode or fails its checksum
+     */
+    public static Path resolve(Driver driver) {
+        return RESOLVED.computeIfAbsent(driver, DriverBinaries::locate);
+    }
+
+    /** Resolution without the per-JVM memo; package-private for tests. */
+    static Path locate(Driver driver) {
+        String preset = System.getProperty(driver.seleniumProperty);
+        if (preset != null && !preset.isBlank()) {
+            return Paths.get(preset);
+        }
+        Optional<String> pinned = property("driver." + driver.key() + ".version");
+        Optional<String> browserMajor = pinned.isPresent() ? Optional.empty() : installedBrowserMajor(driver);
+        Path binary = cached(driver, pinned, browserMajor).orElseGet(() -> download(driver, pinned, browserMajor));
+        verify(driver, binary);
+        System.setProperty(driver.seleniumProperty, binary.toString());
+        return binary;
+    }
+
+    /**
+     * Cached binary for the pinned version, or the highest cached version (with the browser's major when
+     * given); empty when none is cached.
+     */
+    static Optional<Path> cached(Driver driver, Optional<String> pinned, Optional<String> browserMajor) {
+        Path driverDir = cacheDir().resolve(driver.binaryName);
+        if (pinned.isPresent()) {
+            Path binary = driverDir.resolve(pinned.get()).resolve(driver.fileName());
+            return Files.isRegularFile(binary) ? Optional.of(binary) : Optional.empty();
+        }
+        if (!Files.isDirectory(driverDir)) {
+            return Optional.empty();
+        }
+        Path newest = null;
+        try (DirectoryStream<Path> versions = Files.newDirectoryStream(driverDir, Files::isDirectory)) {
+            for (Path version : versions) {
+                if (Files.isRegularFile(version.resolve(driver.fileName()))
+                        && browserMajor.map(major -> major.equals(majorOf(version))).orElse(true)
+                        && (newest == null || VERSION_ORDER.compare(version, newest) > 0)) {
+                    newest = version;
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read driver cache " + driverDir, e);
+        }
+        return Optional.ofNullable(newest).map(version -> version.resolve(driver.fileName()));
+    }
+
+    /**
+     * Major version of the installed browser a chromium driver must match, detected from the shell the way
+     * WebDriverManager does (no network). Empty for geckodriver, or when the browser cannot be found, in which
+     * case the highest cached version is used.
+     */
+    private static Optional<String> installedBrowserMajor(Driver driver) {
+        if (driver.matchingBrowser == null) {
+            return Optional.empty();
+        }
+        try {
+            Config config = new Config().setCommandsPropertiesOnlineFirst(false);
+            Optional<String> major = new VersionDetector(config, new HttpClient(config))
+                    .getBrowserVersionFromTheShell(driver.matchingBrowser)
+                    .map(VersionDetector::getMajorVersion);
+            if (major.isEmpty()) {
+                System.err.println("[driver cache] Could not detect the installed " + driver.matchingBrowser
+                        + " version; using the highest cached " + driver.binaryName);
+            }
+            return major;
+        } catch (RuntimeException e) {
+            System.err.println("[driver cache] Could not detect the installed " + driver.matchingBrowser
+                    + " version (" + e.getMessage() + "); using the highest cached " + driver.binaryName);
+            return Optional.empty();
+        }
+    }
+
+    /** Leading number of a version directory: 120 for 120.0.6099.109. */
+    private static String majorOf(Path version) {
+        String[] parts = version.getFileName().toString().split("\\D+");
+        return parts.length == 0 ? "" : parts[0];
+    }
+
+    private static Path download(Driver driver, Optional<String> pinned, Optional<String> browserMajor) {
+        if (SystemProperties.bool(OFFLINE_PROPERTY, false)) {
+            String wanted = pinned.orElseGet(() -> browserMajor.map(major -> major + ".x").orElse("(any version)"));
+            throw new IllegalStateException(driver.binaryName + " " + wanted
+                    + " is not in " + cacheDir().resolve(driver.binaryName) + " and " + OFFLINE_PROPERTY
+                    + "=true; copy it to <cache>/" + driver.binaryName + "/<version>/" + driver.fileName()
+                    + " or set " + driver.seleniumProperty);
+        }
+        WebDriverManager manager = driver.manager.get();
+        pinned.ifPresent(manager::driverVersion);
+        manager.setup();
+        Path downloaded = Paths.get(manager.getDownloadedDriverPath());
+        String version = manager.getDownloadedDriverVersion();
+        Path target = cacheDir().resolve(driver.binaryName).resolve(version).resolve(driver.fileName());
+        try {
+            Files.createDirectories(target.getParent());
+            // Copy then move so a parallel module never sees a half-written binary
+            Path tmp = Files.createTempFile(target.getParent(), driver.binaryName, ".tmp");
+            Files.copy(downloaded, tmp, StandardCopyOption.REPLACE_EXISTING);
+            tmp.toFile().setExecutable(true);
+            writeAtomically(checksumFile(target), sha256(tmp));
+            moveAtomically(tmp, target);
+        } catch (IOException e) {
+            // Cache is an optimisation: the downloaded binary still works for this run
+            System.err.println("[driver cache] Could not cache " + downloaded + ": " + e.getMessage());
+            return downloaded;
+        }
+        return target;
+    }
+
+    private static void verify(Driver driver, Path binary) {
+        Optional<String> expected = property("driver." + driver.key() + ".sha256");
+        Path checksumFile = checksumFile(binary);
+        try {
+            String actual = sha256(binary);
+            if (expected.isEmpty() && Files.isRegularFile(checksumFile)) {
+                expected = Optional.of(Files.readString(checksumFile, StandardCharsets.US_ASCII).trim());
+            }
+            if (expected.isEmpty()) {
+                // Binary dropped into the cache by hand: record its checksum so later changes are caught
+                writeAtomically(checksumFile, actual);
+            } else if (!expected.get().equalsIgnoreCase(actual)) {
+                throw new IllegalStateException("Checksum mismatch for " + binary + ": expected " + expected.get()
+                        + ", was " + actual + ". Delete the cached version or fix driver." + driver.key() + ".sha256");
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot verify " + binary, e);
+        }
+    }
+
+    private static Path cacheDir() {
+        return property(CACHE_DIR_PROPERTY)
+                .map(Paths::get)
+                .orElseGet(() -> Paths.get(System.getProperty("user.home"), ".selenium-drivers"));
+    }
+
+    private static Path checksumFile(Path binary) {
+        return binary.resolveSibling(binary.getFileName() + CHECKSUM_SUFFIX);
+    }
+
+    private static String sha256(Path file) throws IOException {
+        try (InputStream in = Files.newInputStream(file)) {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] buffer = new byte[8192];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private static void writeAtomically(Path target, String content) throws IOException {
+        Path tmp = Files.createTempFile(target.getParent(), target.getFileName().toString(), ".tmp");
+        Files.writeString(tmp, content + System.lineSeparator(), StandardCharsets.US_ASCII);
+        moveAtomically(tmp, target);
+    }
+
+    private static void moveAtomically(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static Optional<String> property(String name) {
+        String value = System.getProperty(name);
+        return value == null || value.isBlank() ? Optional.empty() : Optional.of(value.trim());
+    }
+
+    private static boolean isWindows() {
+        return System.getProperty("os.name", "").toLowerCase(Locale.ROOT).startsWith("windows");
+    }
+
+}
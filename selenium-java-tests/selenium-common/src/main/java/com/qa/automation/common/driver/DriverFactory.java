@@ -0,0 +1,32 @@
+package com.qa.automation.common.driver;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.edge.EdgeDriver;
+import org.openqa.selenium.firefox.FirefoxDriver;
+
+/**
+ * Creates WebDriver sessions with the shared {@link BrowserOptions} (headless by default).
+ * Driver binaries come from {@link DriverBinaries} (resolved once per JVM, offline from the local cache).
+ * Timeouts stay with the caller, since each module reads them from its own TestConfig.
+ * Use as the factory of {@link DriverPool#acquire}, e.g. {@code DriverPool.acquire(DriverFactory::firefox)}.
+ */
+public final class DriverFactory {
+
+    private DriverFactory() {}
+
+    public static WebDriver firefox() {
+        DriverBinaries.resolve(DriverBinaries.Driver.GECKO);
+        return new FirefoxDriver(BrowserOptions.firefox());
+    }
+
+    public static WebDriver chrome() {
+        DriverBinaries.resolve(DriverBinaries.Driver.CHROME);
+        return new ChromeDriver(BrowserOptions.chrome());
+    }
+
+    public static WebDriver edge() {
+        DriverBinaries.resolve(DriverBinaries.Driver.EDGE);
+        return new EdgeDriver(BrowserOptions.edge());
+    }
+}
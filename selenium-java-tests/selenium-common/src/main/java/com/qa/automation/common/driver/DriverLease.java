@@ -0,0 +1,43 @@
+package com.qa.automation.common.driver;
+
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.TestWatcher;
+import org.openqa.selenium.WebDriver;
+
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * JUnit 5 TestWatcher that hands the test's driver back to {@link DriverPool} once the test is done:
+ * released after a passed or aborted test, discarded after a failed one. Register with
+ * {@code @RegisterExtension} in place of an {@code @AfterEach} that quits the driver, and obtain the
+ * driver with {@link DriverPool#acquire}.
+ */
+public class DriverLease implements TestWatcher {
+
+    private final Supplier<WebDriver> driverSupplier;
+
+    public DriverLease(Supplier<WebDriver> driverSupplier) {
+        this.driverSupplier = driverSupplier;
+    }
+
+    @Override
+    public void testSuccessful(ExtensionContext context) {
+        DriverPool.release(driverSupplier.get());
+    }
+
+    @Override
+    public void testAborted(ExtensionContext context, Throwable cause) {
+        DriverPool.release(driverSupplier.get());
+    }
+
+    @Override
+    public void testFailed(ExtensionContext context, Throwable cause) {
+        DriverPool.discard(driverSupplier.get());
+    }
+
+    @Override
+    public void testDisabled(ExtensionContext context, Optional<String> reason) {
+        DriverPool.release(driverSupplier.get());
+    }
+}
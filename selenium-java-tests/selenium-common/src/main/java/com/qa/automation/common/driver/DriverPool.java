@@ -0,0 +1,248 @@
+package com.qa.automation.common.driver;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Per-JVM pool of WebDriver sessions shared by the tests of one module.
+ * <p>
+ * Starting a browser costs 2–5 s per test. With {@code -Ddriver.pool.enabled=true} a released driver
+ * is cleaned and handed to the next test instead of being quit:
+ * <ul>
+ *   <li>At most {@code driver.pool.size} sessions (default 4; the Maven build sets it to
+ *       {@code junit.parallel.threads}) are alive at once; a thread that needs one while all are leased
+ *       waits up to {@code driver.pool.leaseTimeoutSeconds} (default 300). {@link #acquire} fails at once
+ *       when {@code driver.pool.threads} (set by the {@code parallel} profile) exceeds the size.</li>
+ *   <li>Leases are per thread: calling {@link #acquire} again on a thread that holds a driver returns
+ *       the same driver.</li>
+ *   <li>On release the session is reset: extra windows are closed, cookies, localStorage and
+ *       sessionStorage of the current page are cleared and the browser navigates to about:blank.</li>
+ *   <li>Before a lease the session is health-checked. A driver that fails the check, that has served
+ *       {@code driver.pool.maxUses} tests (default 25) or whose test failed ({@link #discard}) is quit
+ *       and replaced by a new one.</li>
+ * </ul>
+ * Cookies and web storage are cleared for the page open at release time only (WebDriver cannot reach
+ * other origins). That is enough for modules that test a single site. Tests that visit several sites
+ * and rely on a clean state for each should {@link #discard} the driver.
+ * <p>
+ * Without the property, {@link #acquire} creates a new driver and {@link #release} quits it, as before.
+ */
+public final class DriverPool {
+
+    /** System property that enables pooling; default false. */
+    public static final String ENABLED_PROPERTY = "driver.pool.enabled";
+    /** System property: maximum number of live sessions. */
+    public static final String SIZE_PROPERTY = "driver.pool.size";
+    /** System property: tests a session serves before it is replaced. */
+    public static final String MAX_USES_PROPERTY = "driver.pool.maxUses";
+    /** System property: test threads that may hold a lease at once; must not exceed the pool size. */
+    public static final String THREADS_PROPERTY = "driver.pool.threads";
+    /** System property: how long {@link #acquire} waits for a free session. */
+    public static final String LEASE_TIMEOUT_PROPERTY = "driver.pool.leaseTimeoutSeconds";
+
+    private static final int DEFAULT_SIZE = 4;
+    private static final int DEFAULT_MAX_USES = 25;
+    private static final int DEFAULT_LEASE_TIMEOUT_SECONDS = 300;
+    private static final String CLEAR_STORAGE_SCRIPT =
+            "try { window.localStorage.clear(); } catch (e) {}"
+                    + " try { window.sessionStorage.clear(); } catch (e) {}";
+
+    private static final DriverPool SHARED = new DriverPool(
+            SystemProperties.positiveInt(SIZE_PROPERTY, DEFAULT_SIZE),
+            SystemProperties.positiveInt(MAX_USES_PROPERTY, DEFAULT_MAX_USES),
+            SystemProperties.positiveInt(LEASE_TIMEOUT_PROPERTY, DEFAULT_LEASE_TIMEOUT_SECONDS));
+
+    /** A pooled session and how many tests it has served. */
+    private static final class Pooled {
+        final WebDriver driver;
+        int uses;
+
+        Pooled(WebDriver driver) {
+            this.driver = driver;
+        }
+    }
+
+    private final int size;
+    private final int maxUses;
+    private final int leaseTimeoutSeconds;
+    private final Semaphore permits;
+    private final LinkedBlockingDeque<Pooled> idle = new LinkedBlockingDeque<>();
+    private final Map<WebDriver, Pooled> leased = new ConcurrentHashMap<>();
+    private final ThreadLocal<Pooled> current = new ThreadLocal<>();
+
+    DriverPool(int size, int maxUses, int leaseTimeoutSeconds) {
+        this.size = size;
+        this.maxUses = maxUses;
+        this.leaseTimeoutSeconds = leaseTimeoutSeconds;
+        this.permits = new Semaphore(size, true);
+        Runtime.getRuntime().addShutdownHook(new Thread(this::shutdown, "driver-pool-shutdown"));
+    }
+
+    /** Whether drivers are pooled in this JVM ({@value #ENABLED_PROPERTY}=true). */
+    public static boolean isEnabled() {
+        return SystemProperties.bool(ENABLED_PROPERTY, false);
+    }
+
+    /**
+     * Leases a driver to the calling thread: the one it already holds, a healthy idle one, or a new one
+     * from the factory. All drivers in a JVM's pool must be interchangeable, so use one factory per module.
+     *
+     * @param factory creates a new, fully configured driver
+     * @throws IllegalStateException when {@value #THREADS_PROPERTY} exceeds the pool size, or no session
+     *                               becomes free within the lease timeout
+     */
+    public static WebDriver acquire(Supplier<WebDriver> factory) {
+        if (!isEnabled()) {
+            return factory.get();
+        }
+        SHARED.requireCapacity(SystemProperties.positiveInt(THREADS_PROPERTY, 1));
+        return SHARED.lease(factory);
+    }
+
+    /** Returns the driver after a passed test: it is reset and kept, or quit when pooling is off. */
+    public static void release(WebDriver driver) {
+        if (driver == null) {
+            return;
+        }
+        if (isEnabled()) {
+            SHARED.giveBack(driver, false);
+        } else {
+            quitQuietly(driver);
+        }
+    }
+
+    /** Quits the driver after a failed test (its state is unknown); the pool creates a replacement on demand. */
+    public static void discard(WebDriver driver) {
+        if (driver == null) {
+            return;
+        }
+        if (isEnabled()) {
+            SHARED.giveBack(driver, true);
+        } else {
+            quitQuietly(driver);
+        }
+    }
+
+    /** Fails fast instead of letting surplus test threads queue for a session until the lease timeout. */
+    void requireCapacity(int threads) {
+        if (threads > size) {
+            throw new IllegalStateException(threads + " test threads share a pool of " + size + " WebDriver sessions; set "
+                    + SIZE_PROPERTY + " to at least " + threads + " or leave it unset to follow junit.parallel.threads");
+        }
+    }
+
+    WebDriver lease(Supplier<WebDriver> factory) {
+        Pooled held = current.get();
+        if (held != null) {
+            return held.driver;
+        }
+        try {
+            if (!permits.tryAcquire(leaseTimeoutSeconds, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("No pooled WebDriver became free within " + leaseTimeoutSeconds
+                        + " s; raise " + SIZE_PROPERTY + " or " + LEASE_TIMEOUT_PROPERTY);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a pooled WebDriver", e);
+        }
+        try {
+            Pooled pooled = takeHealthyIdle();
+            if (pooled == null) {
+                pooled = new Pooled(factory.get());
+            }
+            pooled.uses++;
+            leased.put(pooled.driver, pooled);
+            current.set(pooled);
+            return pooled.driver;
+        } catch (RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    private Pooled takeHealthyIdle() {
+        Pooled pooled;
+        while ((pooled = idle.pollFirst()) != null) {
+            if (isHealthy(pooled.driver)) {
+                return pooled;
+            }
+            quitQuietly(pooled.driver);
+        }
+        return null;
+    }
+
+    void giveBack(WebDriver driver, boolean failed) {
+        Pooled pooled = leased.remove(driver);
+        if (pooled == null) {
+            // Not leased from the pool (created before pooling was enabled, or already returned)
+            quitQuietly(driver);
+            return;
+        }
+        if (current.get() == pooled) {
+            current.remove();
+        }
+        try {
+            if (failed || pooled.uses >= maxUses || !reset(driver)) {
+                quitQuietly(driver);
+            } else {
+                // Most recently used first: its browser process is the warmest
+                idle.offerFirst(pooled);
+            }
+        } finally {
+            permits.release();
+        }
+    }
+
+    /** Brings the session back to a blank state; false when the browser no longer responds. */
+    private static boolean reset(WebDriver driver) {
+        try {
+            List<String> handles = new ArrayList<>(driver.getWindowHandles());
+            for (String handle : handles.subList(1, handles.size())) {
+                driver.switchTo().window(handle).close();
+            }
+            driver.switchTo().window(handles.get(0));
+            driver.manage().deleteAllCookies();
+            ((JavascriptExecutor) driver).executeScript(CLEAR_STORAGE_SCRIPT);
+            driver.get("about:blank");
+            return true;
+        } catch (WebDriverException | IndexOutOfBoundsException e) {
+            return false;
+        }
+    }
+
+    private static boolean isHealthy(WebDriver driver) {
+        try {
+            driver.getWindowHandle();
+            return Long.valueOf(1L).equals(((JavascriptExecutor) driver).executeScript("return 1;"));
+        } catch (WebDriverException e) {
+            return false;
+        }
+    }
+
+    private void shutdown() {
+        Pooled pooled;
+        while ((pooled = idle.pollFirst()) != null) {
+            quitQuietly(pooled.driver);
+        }
+        leased.keySet().forEach(DriverPool::quitQuietly);
+        leased.clear();
+    }
+
+    private static void quitQuietly(WebDriver driver) {
+        try {
+            driver.quit();
+        } catch (WebDriverException ignored) {
+            // Browser already gone; nothing left to release
+        }
+    }
+}
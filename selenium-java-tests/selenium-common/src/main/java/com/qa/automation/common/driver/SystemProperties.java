@@ -0,0 +1,51 @@
+package com.qa.automation.common.driver;
+
+/**
+ * Reads the {@code -D} tuning knobs of selenium-common (driver pool, browser options, session snapshots).
+ * An unset or blank property means the default; any other value that does not parse stops the run with an
+ * {@link IllegalArgumentException} naming the property, so a typo on the command line is reported instead
+ * of silently ignored.
+ */
+public final class SystemProperties {
+
+    private SystemProperties() {}
+
+    /** Integer property, at least 1. */
+    public static int positiveInt(String name, int defaultValue) {
+        String value = System.getProperty(name);
+        if (value == null || value.isBlank()) {
+            return defaultValue;
+        }
+        int parsed;
+        try {
+            parsed = Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            throw invalid(name, value, "a positive integer");
+        }
+        if (parsed < 1) {
+            throw invalid(name, value, "a positive integer");
+        }
+        return parsed;
+    }
+
+    /** {@code true} or {@code false} in any case; anything else (e.g. {@code yes}, {@code ture}) is rejected. */
+    public static boolean bool(String name, boolean defaultValue) {
+        String value = System.getProperty(name);
+        if (value == null || value.isBlank()) {
+            return defaultValue;
+        }
+        String trimmed = value.trim();
+        if (trimmed.equalsIgnoreCase("true")) {
+            return true;
+        }
+        if (trimmed.equalsIgnoreCase("false")) {
+            return false;
+        }
+        throw invalid(name, value, "true or false");
+    }
+
+    private static IllegalArgumentException invalid(String name, String value, String expected) {
+        return new IllegalArgumentException(
+                "System property " + name + " must be " + expected + ", got '" + value + "'");
+    }
+}
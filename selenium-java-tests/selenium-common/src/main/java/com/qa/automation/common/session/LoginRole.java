@@ -0,0 +1,61 @@
+package com.qa.automation.common.session;
+
+import org.openqa.selenium.WebDriver;
+
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * A user role of an application under test, as {@link SessionSnapshots} needs it: how to log in through the
+ * UI, where an authenticated session lands, and how to tell that the browser is logged in.
+ * Define one constant per role and module, e.g. the admin of PROJECT_15.
+ */
+public final class LoginRole {
+
+    private final String name;
+    private final String originUrl;
+    private final String landingUrl;
+    private final Consumer<WebDriver> uiLogin;
+    private final Predicate<WebDriver> authenticated;
+
+    /**
+     * @param name          role name, unique per application (e.g. the username)
+     * @param originUrl     any page of the application's origin; cookies and storage are injected there
+     * @param landingUrl    page a logged-in user lands on; the UI login must end on the same page
+     * @param uiLogin       performs the full UI login (navigate, type credentials, submit, wait)
+     * @param authenticated true when the current page is shown to a logged-in user; must not wait
+     */
+    public LoginRole(String name, String originUrl, String landingUrl,
+                     Consumer<WebDriver> uiLogin, Predicate<WebDriver> authenticated) {
+        this.name = name;
+        this.originUrl = originUrl;
+        this.landingUrl = landingUrl;
+        this.uiLogin = uiLogin;
+        this.authenticated = authenticated;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getOriginUrl() {
+        return originUrl;
+    }
+
+    public String getLandingUrl() {
+        return landingUrl;
+    }
+
+    void login(WebDriver driver) {
+        uiLogin.accept(driver);
+    }
+
+    boolean isAuthenticated(WebDriver driver) {
+        return authenticated.test(driver);
+    }
+
+    /** Snapshot key: the same role name on two environments must not share cookies. */
+    String key() {
+        return name + "@" + originUrl;
+    }
+}
@@ -0,0 +1,165 @@
+package com.qa.automation.common.session;
+
+import com.qa.automation.common.driver.SystemProperties;
+import org.openqa.selenium.Cookie;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Logs in once per {@link LoginRole} and JVM, then reuses the session in every other test.
+ * <p>
+ * After the first UI login the cookies, localStorage and sessionStorage of the application are captured.
+ * {@link #open} injects them into the next driver (fresh or pooled) and opens the role's landing page
+ * directly, which skips typing credentials and the login round trip. The injected session is checked
+ * with the role's authenticated test; when it no longer works (server-side logout, expired session,
+ * redeploy) the snapshot is dropped and the test logs in through the UI again, capturing a new one.
+ * <ul>
+ *   <li>{@code session.snapshot.enabled} (default true) — false logs in through the UI every time.</li>
+ *   <li>{@code session.snapshot.maxAgeSeconds} (default 1800) — older snapshots are replaced without trying them.</li>
+ * </ul>
+ * Tests that verify the login form itself should keep using the login page, not this class; tests that
+ * log out should use {@link #openPrivate} so the shared session stays alive.
+ */
+public final class SessionSnapshots {
+
+    /** System property that enables snapshot reuse; default true. */
+    public static final String ENABLED_PROPERTY = "session.snapshot.enabled";
+    /** System property: maximum age of a snapshot in seconds. */
+    public static final String MAX_AGE_PROPERTY = "session.snapshot.maxAgeSeconds";
+
+    private static final long DEFAULT_MAX_AGE_SECONDS = 1800;
+    private static final String READ_STORAGE_SCRIPT =
+            "var result = {};"
+                    + " try { var s = window[arguments[0]];"
+                    + " for (var i = 0; i < s.length; i++) { result[s.key(i)] = s.getItem(s.key(i)); } } catch (e) {}"
+                    + " return result;";
+    private static final String WRITE_STORAGE_SCRIPT =
+            "var local = arguments[0], session = arguments[1];"
+                    + " window.localStorage.clear(); window.sessionStorage.clear();"
+                    + " for (var k in local) { window.localStorage.setItem(k, local[k]); }"
+                    + " for (var k in session) { window.sessionStorage.setItem(k, session[k]); }";
+
+    private static final Map<String, Snapshot> SNAPSHOTS = new ConcurrentHashMap<>();
+
+    /** Captured state of one logged-in browser; immutable, shared by all threads. */
+    private static final class Snapshot {
+        final Set<Cookie> cookies;
+        final Map<String, String> localStorage;
+        final Map<String, String> sessionStorage;
+        final long capturedAtMillis = System.currentTimeMillis();
+
+        Snapshot(Set<Cookie> cookies, Map<String, String> localStorage, Map<String, String> sessionStorage) {
+            this.cookies = Set.copyOf(cookies);
+            this.localStorage = Map.copyOf(localStorage);
+            this.sessionStorage = Map.copyOf(sessionStorage);
+        }
+
+        boolean isExpired() {
+            return System.currentTimeMillis() - capturedAtMillis > maxAgeSeconds() * 1000;
+        }
+    }
+
+    private SessionSnapshots() {}
+
+    /**
+     * Leaves the driver logged in as the role: on its landing page when a snapshot was restored, or wherever
+     * the UI login ends otherwise.
+     *
+     * @return true when the session came from a snapshot, false when the UI login ran
+     */
+    public static boolean open(WebDriver driver, LoginRole role) {
+        if (!isEnabled()) {
+            role.login(driver);
+            return false;
+        }
+        Snapshot snapshot = SNAPSHOTS.get(role.key());
+        if (snapshot != null) {
+            if (!snapshot.isExpired() && restore(driver, role, snapshot)) {
+                return true;
+            }
+            SNAPSHOTS.remove(role.key(), snapshot);
+        }
+        role.login(driver);
+        if (role.isAuthenticated(driver)) {
+            SNAPSHOTS.put(role.key(), capture(driver));
+        }
+        return false;
+    }
+
+    /**
+     * Logs in through the UI in a new session that is not captured: for tests that log out or otherwise end
+     * the session on the server, which would break every test sharing the snapshot.
+     */
+    public static void openPrivate(WebDriver driver, LoginRole role) {
+        driver.manage().deleteAllCookies();
+        role.login(driver);
+    }
+
+    /** Drops the role's snapshot, e.g. after a test changed the user's password or permissions. */
+    public static void invalidate(LoginRole role) {
+        SNAPSHOTS.remove(role.key());
+    }
+
+    /**
+     * Whether snapshots are reused: {@code true} or {@code false} in any case, default true.
+     *
+     * @throws IllegalArgumentException when the property holds anything else
+     */
+    public static boolean isEnabled() {
+        return SystemProperties.bool(ENABLED_PROPERTY, true);
+    }
+
+    private static boolean restore(WebDriver driver, LoginRole role, Snapshot snapshot) {
+        try {
+            // Cookies and storage can only be set for the page's own origin
+            driver.get(role.getOriginUrl());
+            driver.manage().deleteAllCookies();
+            for (Cookie cookie : snapshot.cookies) {
+                driver.manage().addCookie(cookie);
+            }
+            ((JavascriptExecutor) driver).executeScript(WRITE_STORAGE_SCRIPT,
+                    snapshot.localStorage, snapshot.sessionStorage);
+            driver.get(role.getLandingUrl());
+            return role.isAuthenticated(driver);
+        } catch (WebDriverException e) {
+            return false;
+        }
+    }
+
+    private static Snapshot capture(WebDriver driver) {
+        return new Snapshot(new HashSet<>(driver.manage().getCookies()),
+                readStorage(driver, "localStorage"), readStorage(driver, "sessionStorage"));
+    }
+
+    private static Map<String, String> readStorage(WebDriver driver, String storage) {
+        Object result = ((JavascriptExecutor) driver).executeScript(READ_STORAGE_SCRIPT, storage);
+        Map<String, String> values = new HashMap<>();
+        if (result instanceof Map) {
+            ((Map<?, ?>) result).forEach((key, value) -> {
+                if (key != null && value != null) {
+                    values.put(key.toString(), value.toString());
+                }
+            });
+        }
+        return values;
+    }
+
+    private static long maxAgeSeconds() {
+        String value = System.getProperty(MAX_AGE_PROPERTY);
+        if (value == null || value.isBlank()) {
+            return DEFAULT_MAX_AGE_SECONDS;
+        }
+        try {
+            return Math.max(0, Long.parseLong(value.trim()));
+        } catch (NumberFormatException e) {
+            return DEFAULT_MAX_AGE_SECONDS;
+        }
+    }
+}
@@ -0,0 +1,200 @@
+package com.qa.automation.common.driver;
+
+import com.qa.automation.common.driver.DriverBinaries.Driver;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for {@link DriverBinaries} against a temporary {@code driver.cache.dir} holding fake binaries;
+ * nothing is downloaded and no browser version is detected (geckodriver has no matching browser).
+ */
+class DriverBinariesTest {
+
+    private static final String GECKO_VERSION = "driver.gecko.version";
+    private static final String GECKO_SHA256 = "driver.gecko.sha256";
+    private static final String GECKO_DRIVER = "webdriver.gecko.driver";
+    private static final List<String> PROPERTIES = List.of(DriverBinaries.CACHE_DIR_PROPERTY,
+            DriverBinaries.OFFLINE_PROPERTY, GECKO_VERSION, GECKO_SHA256, GECKO_DRIVER);
+
+    @TempDir
+    Path cache;
+
+    private final Map<String, String> saved = new HashMap<>();
+
+    @BeforeEach
+    void useTempCache() {
+        for (String name : PROPERTIES) {
+            saved.put(name, System.getProperty(name));
+            System.clearProperty(name);
+        }
+        System.setProperty(DriverBinaries.CACHE_DIR_PROPERTY, cache.toString());
+        System.setProperty(DriverBinaries.OFFLINE_PROPERTY, "true");
+    }
+
+    @AfterEach
+    void restoreProperties() {
+        for (String name : PROPERTIES) {
+            if (saved.get(name) == null) {
+                System.clearProperty(name);
+            } else {
+                System.setProperty(name, saved.get(name));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Versions are ordered numerically, not as strings")
+    void versionOrder_comparesNumerically() {
+        List<Path> versions = new ArrayList<>(List.of(
+                Paths.get("0.35.0"), Paths.get("0.9.1"), Paths.get("120.0.6099.109"), Paths.get("0.35"), Paths.get("99.0.1")));
+
+        versions.sort(DriverBinaries.VERSION_ORDER);
+
+        assertEquals(List.of("0.9.1", "0.35.0", "0.35", "99.0.1", "120.0.6099.109"),
+                versions.stream().map(Path::toString).toList());
+        assertEquals(0, DriverBinaries.VERSION_ORDER.compare(Paths.get("0.35"), Paths.get("0.35.0")),
+                "Missing trailing parts count as 0");
+    }
+
+    @Test
+    @DisplayName("Without a pin the highest cached version wins")
+    void cached_withoutPin_returnsHighestVersion() throws IOException {
+        fakeBinary(Driver.GECKO, "0.9.1");
+        Path newest = fakeBinary(Driver.GECKO, "0.35.0");
+        fakeBinary(Driver.GECKO, "0.34.0");
+
+        assertEquals(Optional.of(newest), DriverBinaries.cached(Driver.GECKO, Optional.empty(), Optional.empty()));
+    }
+
+    @Test
+    @DisplayName("A pinned version is used even when a higher one is cached, and only when it is cached")
+    void cached_withPin_returnsPinnedVersionOnly() throws IOException {
+        Path pinned = fakeBinary(Driver.GECKO, "0.34.0");
+        fakeBinary(Driver.GECKO, "0.35.0");
+
+        assertEquals(Optional.of(pinned), DriverBinaries.cached(Driver.GECKO, Optional.of("0.34.0"), Optional.empty()));
+        assertEquals(Optional.empty(), DriverBinaries.cached(Driver.GECKO, Optional.of("0.33.0"), Optional.empty()));
+    }
+
+    @Test
+    @DisplayName("Chromium drivers are limited to the installed browser's major version")
+    void cached_withBrowserMajor_skipsOtherMajors() throws IOException {
+        fakeBinary(Driver.CHROME, "121.0.6167.85");
+        Path matching = fakeBinary(Driver.CHROME, "120.0.6099.109");
+        fakeBinary(Driver.CHROME, "120.0.6099.71");
+        fakeBinary(Driver.CHROME, "119.0.6045.105");
+
+        assertEquals(Optional.of(matching), DriverBinaries.cached(Driver.CHROME, Optional.empty(), Optional.of("120")));
+        assertEquals(Optional.empty(), DriverBinaries.cached(Driver.CHROME, Optional.empty(), Optional.of("122")),
+                "A browser with no cached driver of its major must not get a stale one");
+    }
+
+    @Test
+    @DisplayName("A version directory without the binary is ignored")
+    void cached_skipsVersionWithoutBinary() throws IOException {
+        Path present = fakeBinary(Driver.GECKO, "0.34.0");
+        Files.createDirectories(cache.resolve("geckodriver").resolve("0.35.0"));
+
+        assertEquals(Optional.of(present), DriverBinaries.cached(Driver.GECKO, Optional.empty(), Optional.empty()));
+    }
+
+    @Test
+    @DisplayName("A cached binary matching its .sha256 is handed to Selenium")
+    void locate_withMatchingChecksum_setsSeleniumProperty() throws IOException {
+        Path binary = fakeBinary(Driver.GECKO, "0.35.0");
+        writeChecksum(binary, sha256Of(binary));
+
+        assertEquals(binary, DriverBinaries.locate(Driver.GECKO));
+        assertEquals(binary.toString(), System.getProperty(GECKO_DRIVER));
+    }
+
+    @Test
+    @DisplayName("A binary without a .sha256 gets one recorded on first use")
+    void locate_withoutChecksumFile_recordsIt() throws IOException {
+        Path binary = fakeBinary(Driver.GECKO, "0.35.0");
+
+        DriverBinaries.locate(Driver.GECKO);
+
+        Path checksum = binary.resolveSibling(binary.getFileName() + ".sha256");
+        assertEquals(sha256Of(binary), Files.readString(checksum, StandardCharsets.US_ASCII).trim());
+    }
+
+    @Test
+    @DisplayName("A binary that does not match its .sha256 fails the run")
+    void locate_withChecksumMismatch_throws() throws IOException {
+        Path binary = fakeBinary(Driver.GECKO, "0.35.0");
+        writeChecksum(binary, "0".repeat(64));
+
+        IllegalStateException e = assertThrows(IllegalStateException.class, () -> DriverBinaries.locate(Driver.GECKO));
+        assertTrue(e.getMessage().startsWith("Checksum mismatch for " + binary), e.getMessage());
+    }
+
+    @Test
+    @DisplayName("driver.<name>.sha256 overrides the .sha256 file")
+    void locate_withChecksumProperty_overridesFile() throws IOException {
+        Path binary = fakeBinary(Driver.GECKO, "0.35.0");
+        writeChecksum(binary, sha256Of(binary));
+        System.setProperty(GECKO_SHA256, "f".repeat(64));
+
+        IllegalStateException e = assertThrows(IllegalStateException.class, () -> DriverBinaries.locate(Driver.GECKO));
+        assertTrue(e.getMessage().contains(GECKO_SHA256), e.getMessage());
+    }
+
+    @Test
+    @DisplayName("Offline with no cached binary fails with the expected cache location")
+    void locate_offlineAndNotCached_throws() throws IOException {
+        fakeBinary(Driver.GECKO, "0.34.0");
+        System.setProperty(GECKO_VERSION, "0.35.0");
+
+        IllegalStateException e = assertThrows(IllegalStateException.class, () -> DriverBinaries.locate(Driver.GECKO));
+        assertTrue(e.getMessage().startsWith("geckodriver 0.35.0 is not in " + cache.resolve("geckodriver")), e.getMessage());
+        assertTrue(e.getMessage().contains(DriverBinaries.OFFLINE_PROPERTY + "=true"), e.getMessage());
+    }
+
+    @Test
+    @DisplayName("A preset webdriver.<browser>.driver is used as is")
+    void locate_withPresetPath_skipsCache() {
+        System.setProperty(GECKO_DRIVER, "/opt/drivers/geckodriver");
+
+        assertEquals(Paths.get("/opt/drivers/geckodriver"), DriverBinaries.locate(Driver.GECKO));
+    }
+
+    private Path fakeBinary(Driver driver, String version) throws IOException {
+        Path dir = Files.createDirectories(cache.resolve(driver.binaryName()).resolve(version));
+        return Files.writeString(dir.resolve(driver.fileName()), "fake " + driver + " " + version, StandardCharsets.US_ASCII);
+    }
+
+    private static void writeChecksum(Path binary, String sha256) throws IOException {
+        Files.writeString(binary.resolveSibling(binary.getFileName() + ".sha256"), sha256 + "\n", StandardCharsets.US_ASCII);
+    }
+
+    private static String sha256Of(Path file) throws IOException {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(Files.readAllBytes(file));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.qa.automation.common.driver;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.WebDriver;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for {@link DriverPool} leasing against {@link FakeBrowser} sessions; no real browser is started.
+ */
+class DriverPoolTest {
+
+    private final List<FakeBrowser> started = new ArrayList<>();
+    private final Supplier<WebDriver> factory = () -> {
+        FakeBrowser browser = new FakeBrowser();
+        started.add(browser);
+        return browser.driver();
+    };
+
+    @Test
+    @DisplayName("A thread that already holds a lease gets the same driver back")
+    void lease_onSameThread_returnsHeldDriver() {
+        DriverPool pool = new DriverPool(2, 25, 1);
+
+        WebDriver first = pool.lease(factory);
+        WebDriver second = pool.lease(factory);
+
+        assertSame(first, second, "Second lease on the same thread should return the held driver");
+        assertEquals(1, started.size(), "Only one browser should be started");
+    }
+
+    @Test
+    @DisplayName("A released driver is reset and handed to the next lease")
+    void giveBack_afterPassedTest_resetsAndReusesDriver() {
+        DriverPool pool = new DriverPool(1, 25, 1);
+        WebDriver driver = pool.lease(factory);
+        FakeBrowser browser = started.get(0);
+        driver.get("https://www.saucedemo.com/inventory.html");
+        browser.openWindow("popup");
+
+        pool.giveBack(driver, false);
+
+        assertFalse(browser.quit, "Passed test's driver should be kept");
+        assertEquals(List.of("main"), browser.windows, "Extra windows should be closed");
+        assertEquals(1, browser.cookieClears, "Cookies should be cleared once");
+        assertEquals(1, browser.storageClears, "Web storage should be cleared once");
+        assertEquals("about:blank", browser.url, "Browser should be parked on about:blank");
+        assertSame(driver, pool.lease(factory), "Next lease should reuse the reset driver");
+        assertEquals(1, started.size(), "No new browser should be started");
+    }
+
+    @Test
+    @DisplayName("A driver is quit and replaced after serving maxUses tests")
+    void giveBack_afterMaxUses_quitsDriver() {
+        DriverPool pool = new DriverPool(1, 2, 1);
+
+        WebDriver first = pool.lease(factory);
+        pool.giveBack(first, false);
+        assertSame(first, pool.lease(factory), "Driver should be reused below maxUses");
+        pool.giveBack(first, false);
+
+        assertTrue(started.get(0).quit, "Driver should be quit once it has served maxUses tests");
+        assertNotSame(first, pool.lease(factory), "Next lease should start a new browser");
+        assertEquals(2, started.size());
+    }
+
+    @Test
+    @DisplayName("A driver returned after a failed test is quit instead of reused")
+    void giveBack_afterFailedTest_discardsDriver() {
+        DriverPool pool = new DriverPool(1, 25, 1);
+        WebDriver driver = pool.lease(factory);
+
+        pool.giveBack(driver, true);
+
+        FakeBrowser browser = started.get(0);
+        assertTrue(browser.quit, "Failed test's driver should be quit");
+        assertEquals(0, browser.cookieClears, "Discarded driver should not be reset");
+        assertNotSame(driver, pool.lease(factory), "Next lease should start a new browser");
+    }
+
+    @Test
+    @DisplayName("An idle driver that fails the health check is quit and replaced")
+    void lease_withUnresponsiveIdleDriver_startsNewOne() {
+        DriverPool pool = new DriverPool(1, 25, 1);
+        WebDriver driver = pool.lease(factory);
+        pool.giveBack(driver, false);
+        FakeBrowser crashed = started.get(0);
+        crashed.responsive = false;
+
+        WebDriver next = pool.lease(factory);
+
+        assertTrue(crashed.quit, "Unresponsive driver should be quit");
+        assertNotSame(driver, next, "A new browser should replace the unresponsive one");
+    }
+
+    @Test
+    @DisplayName("Leasing fails after the timeout when every session is in use")
+    void lease_whenPoolExhausted_timesOut() {
+        DriverPool pool = new DriverPool(1, 25, 1);
+        pool.lease(factory);
+
+        CompletionException e = assertThrows(CompletionException.class,
+                () -> CompletableFuture.supplyAsync(() -> pool.lease(factory)).join());
+
+        assertInstanceOf(IllegalStateException.class, e.getCause());
+        assertEquals(1, started.size(), "No browser should be started beyond the pool size");
+    }
+
+    @Test
+    @DisplayName("More test threads than sessions is rejected before any browser starts")
+    void requireCapacity_withMoreThreadsThanSessions_failsFast() {
+        DriverPool pool = new DriverPool(2, 25, 1);
+
+        pool.requireCapacity(2);
+        IllegalStateException e = assertThrows(IllegalStateException.class, () -> pool.requireCapacity(3));
+
+        assertTrue(e.getMessage().contains(DriverPool.SIZE_PROPERTY), "Message should name the property to raise");
+        assertTrue(started.isEmpty());
+    }
+}
@@ -0,0 +1,115 @@
+package com.qa.automation.common.driver;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+/**
+ * In-memory stand-in for a browser session: a {@link WebDriver} proxy that records the calls
+ * {@link DriverPool} makes (window switching, cookie and storage clearing, navigation, quit).
+ */
+final class FakeBrowser {
+
+    final List<String> windows = new ArrayList<>(List.of("main"));
+    String url = "about:blank";
+    int cookieClears;
+    int storageClears;
+    boolean quit;
+    /** When false every call except quit fails, as with a crashed browser. */
+    boolean responsive = true;
+
+    private final WebDriver driver = (WebDriver) Proxy.newProxyInstance(
+            FakeBrowser.class.getClassLoader(),
+            new Class<?>[]{WebDriver.class, JavascriptExecutor.class},
+            handler(this::onDriver));
+
+    WebDriver driver() {
+        return driver;
+    }
+
+    /** Opens another window, as a test clicking a target=_blank link would. */
+    void openWindow(String handle) {
+        windows.add(handle);
+    }
+
+    private Object onDriver(String method, Object[] args) {
+        switch (method) {
+            case "quit":
+                quit = true;
+                return null;
+            case "get":
+                url = (String) args[0];
+                return null;
+            case "getCurrentUrl":
+                return url;
+            case "getWindowHandle":
+                return windows.get(0);
+            case "getWindowHandles":
+                return new LinkedHashSet<>(windows);
+            case "executeScript":
+                String script = (String) args[0];
+                if (script.equals("return 1;")) {
+                    return 1L;
+                }
+                if (script.contains("localStorage.clear()")) {
+                    storageClears++;
+                }
+                return null;
+            case "manage":
+                return proxy(WebDriver.Options.class, (m, a) -> {
+                    if (m.equals("deleteAllCookies")) {
+                        cookieClears++;
+                        return null;
+                    }
+                    throw new UnsupportedOperationException(m);
+                });
+            case "switchTo":
+                return proxy(WebDriver.TargetLocator.class, (m, a) -> {
+                    if (m.equals("window")) {
+                        return proxy(WebDriver.class, (m2, a2) -> {
+                            if (m2.equals("close")) {
+                                windows.remove((String) a[0]);
+                                return null;
+                            }
+                            throw new UnsupportedOperationException(m2);
+                        });
+                    }
+                    throw new UnsupportedOperationException(m);
+                });
+            default:
+                throw new UnsupportedOperationException(method);
+        }
+    }
+
+    private interface Calls {
+        Object on(String method, Object[] args);
+    }
+
+    private InvocationHandler handler(Calls calls) {
+        return (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "equals":
+                    return proxy == args[0];
+                case "toString":
+                    return "FakeBrowser@" + Integer.toHexString(System.identityHashCode(proxy));
+                default:
+                    if (!responsive && !method.getName().equals("quit")) {
+                        throw new WebDriverException("Browser is not responding");
+                    }
+                    return calls.on(method.getName(), args);
+            }
+        };
+    }
+
+    private <T> T proxy(Class<T> type, Calls calls) {
+        return type.cast(Proxy.newProxyInstance(FakeBrowser.class.getClassLoader(), new Class<?>[]{type}, handler(calls)));
+    }
+}
@@ -0,0 +1,86 @@
+package com.qa.automation.common.driver;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for {@link SystemProperties}: unset or blank keeps the default, valid values are parsed and
+ * anything else fails with the property name and value.
+ */
+class SystemPropertiesTest {
+
+    private static final String NAME = "selenium.common.test.flag";
+
+    @AfterEach
+    void clearProperty() {
+        System.clearProperty(NAME);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"true", "TRUE", " True "})
+    @DisplayName("true in any case enables the flag")
+    void bool_withTrue_returnsTrue(String value) {
+        System.setProperty(NAME, value);
+        assertTrue(SystemProperties.bool(NAME, false));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"false", "FALSE", " False "})
+    @DisplayName("false in any case disables the flag")
+    void bool_withFalse_returnsFalse(String value) {
+        System.setProperty(NAME, value);
+        assertFalse(SystemProperties.bool(NAME, true));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", " "})
+    @DisplayName("Unset or blank flag keeps the default")
+    void bool_withBlankValue_returnsDefault(String value) {
+        assertTrue(SystemProperties.bool(NAME, true));
+        System.setProperty(NAME, value);
+        assertTrue(SystemProperties.bool(NAME, true), "Default true must survive '" + value + "'");
+        assertFalse(SystemProperties.bool(NAME, false), "Default false must survive '" + value + "'");
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"yes", "no", "1", "ture", "flase"})
+    @DisplayName("yes/no, numbers and typos are rejected with the property name and value")
+    void bool_withUnrecognisedValue_throws(String value) {
+        System.setProperty(NAME, value);
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> SystemProperties.bool(NAME, true));
+        assertTrue(e.getMessage().contains(NAME) && e.getMessage().contains("'" + value + "'"), e.getMessage());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"8", " 8 "})
+    @DisplayName("positiveInt parses trimmed integers")
+    void positiveInt_withNumber_returnsIt(String value) {
+        System.setProperty(NAME, value);
+        assertEquals(8, SystemProperties.positiveInt(NAME, 4));
+    }
+
+    @Test
+    @DisplayName("positiveInt keeps the default when the property is unset or blank")
+    void positiveInt_withBlankValue_returnsDefault() {
+        assertEquals(4, SystemProperties.positiveInt(NAME, 4));
+        System.setProperty(NAME, " ");
+        assertEquals(4, SystemProperties.positiveInt(NAME, 4));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"0", "-2", "eight", "8.5"})
+    @DisplayName("positiveInt rejects non-numbers and values below 1 with the property name and value")
+    void positiveInt_withInvalidValue_throws(String value) {
+        System.setProperty(NAME, value);
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> SystemProperties.positiveInt(NAME, 4));
+        assertTrue(e.getMessage().contains(NAME) && e.getMessage().contains("'" + value + "'"), e.getMessage());
+    }
+}